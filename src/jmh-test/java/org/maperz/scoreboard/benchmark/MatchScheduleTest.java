@@ -0,0 +1,35 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class MatchScheduleTest {
+
+    @Test
+    void shouldGenerateTheSameScheduleForTheSameSeed() {
+        final SimulationOptions options = options(42, 2);
+        final MatchSchedule first = MatchSchedule.generate(options);
+        final MatchSchedule second = MatchSchedule.generate(options);
+
+        assertEquals(first.checksum(), second.checksum());
+        assertEquals(first.eventCount(), second.eventCount());
+        assertEquals(first.durationMillis(), second.durationMillis());
+        assertEquals(first.kickoff(999), second.kickoff(999));
+    }
+
+    @Test
+    void shouldGenerateTheSameScheduleForAnyNumberOfWriters() {
+        assertEquals(MatchSchedule.generate(options(42, 1)).checksum(), MatchSchedule.generate(options(42, 4)).checksum());
+    }
+
+    @Test
+    void shouldGenerateAnotherScheduleForAnotherSeed() {
+        assertNotEquals(MatchSchedule.generate(options(42, 2)).checksum(), MatchSchedule.generate(options(43, 2)).checksum());
+    }
+
+    private static SimulationOptions options(final long seed, final int writers) {
+        return new SimulationOptions(ScoreboardImplementation.CONCURRENT, seed, 1000, 4, 2.7, 0.1, writers, 0, 10, 0);
+    }
+}
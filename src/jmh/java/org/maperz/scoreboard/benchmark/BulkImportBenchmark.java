@@ -0,0 +1,110 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.infrastructure.load.GameFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a tournament of games into an empty scoreboard: one {@code startGame} call per game against
+ * a parallel import of a CSV or binary file of the same games.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkImportBenchmark {
+
+    @Param({"10000", "100000"})
+    public int games;
+
+    @Param({"DEFAULT", "CONCURRENT", "SLOT"})
+    public ScoreboardImplementation implementation;
+
+    private Path directory;
+
+    private Path csvFile;
+
+    private Path binaryFile;
+
+    private List<Game> fixtures;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Scoreboard populated = implementation.create();
+        Fixtures.populate(populated, games, 42);
+        fixtures = populated.getGames();
+        directory = Files.createTempDirectory("bulk-import");
+        binaryFile = directory.resolve("games.bin");
+        GameFile.writeBinary(binaryFile, fixtures);
+        final StringBuilder csv = new StringBuilder(GameFile.CSV_HEADER).append("awayTeam,homeScore,awayScore,startTime,id\n");
+        for (final Game game : fixtures) {
+            csv.append(game.homeTeam().name()).append(',').append(game.awayTeam().name()).append(',')
+                    .append(game.score().homeScore()).append(',').append(game.score().awayScore()).append(',')
+                    .append(game.startTime()).append(',').append(game.id()).append('\n');
+        }
+        csvFile = directory.resolve("games.csv");
+        Files.writeString(csvFile, csv);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(csvFile);
+        Files.delete(binaryFile);
+        Files.delete(directory);
+    }
+
+    /**
+     * Starts every game with its own call.
+     */
+    @Benchmark
+    public Scoreboard startGames() throws Exception {
+        final Scoreboard scoreboard = implementation.create();
+        for (final Game game : fixtures) {
+            scoreboard.startGame(game.homeTeam().name(), game.awayTeam().name(), game.startTime());
+        }
+        return scoreboard;
+    }
+
+    /**
+     * Imports the games from the CSV file.
+     */
+    @Benchmark
+    public Scoreboard importCsv() throws Exception {
+        final Scoreboard scoreboard = implementation.create();
+        GameFile.importGames(scoreboard, csvFile, GameIdGenerators.RANDOM);
+        return scoreboard;
+    }
+
+    /**
+     * Imports the games from the binary file.
+     */
+    @Benchmark
+    public Scoreboard importBinary() throws Exception {
+        final Scoreboard scoreboard = implementation.create();
+        GameFile.importGames(scoreboard, binaryFile, GameIdGenerators.RANDOM);
+        return scoreboard;
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Builds the scoreboards the benchmarks run against.
+ * <p>
+ *     It is a utility class and cannot be instantiated.
+ * </p>
+ */
+public final class Fixtures {
+
+    /**
+     * The start time of the first game; every following game starts one second later.
+     */
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2026, 6, 11, 12, 0);
+
+    /**
+     * Fills a scoreboard with live games with random scores.
+     *
+     * @param scoreboard The scoreboard to fill.
+     * @param liveGames The number of games.
+     * @param seed The seed of the random scores.
+     * @return The identifiers of the games.
+     */
+    public static UUID[] populate(final Scoreboard scoreboard, final int liveGames, final long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<Game> games = new ArrayList<>(liveGames);
+        final UUID[] ids = new UUID[liveGames];
+        for (int i = 0; i < liveGames; i++) {
+            ids[i] = UUID.randomUUID();
+            games.add(new Game(ids[i], new Team("Home " + i), new Team("Away " + i),
+                    new Score(random.nextInt(6), random.nextInt(6)), FIRST_START.plusSeconds(i)));
+        }
+        try {
+            scoreboard.restoreGames(games);
+        } catch (Exception e) {
+            throw new IllegalStateException("Fixture games must be valid", e);
+        }
+        return ids;
+    }
+
+    private Fixtures() {
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.maperz.scoreboard.application.ConcurrentScoreboard;
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.application.ScoreboardImpl;
+import org.maperz.scoreboard.application.SlotScoreboard;
+import org.maperz.scoreboard.domain.id.GameIdGenerator;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the game identifier strategies, on their own and when starting games.
+ * <p>
+ *     Contention of the random strategy shows with several threads: {@code -t 8 GameIdBenchmark.nextId}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameIdBenchmark {
+
+    /**
+     * The number of games each scoreboard cycles through.
+     */
+    private static final int GAMES = 1024;
+
+    @Param({"RANDOM", "MONOTONIC", "TIME_ORDERED"})
+    public String strategy;
+
+    @Param({"DEFAULT", "CONCURRENT", "SLOT"})
+    public String implementation;
+
+    private GameIdGenerator generator;
+
+    private Scoreboard scoreboard;
+
+    private final String[] homeTeams = new String[GAMES];
+
+    private final String[] awayTeams = new String[GAMES];
+
+    private final UUID[] games = new UUID[GAMES];
+
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = switch (strategy) {
+            case "RANDOM" -> GameIdGenerators.RANDOM;
+            case "MONOTONIC" -> GameIdGenerators.monotonic();
+            case "TIME_ORDERED" -> GameIdGenerators.timeOrdered();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+        scoreboard = switch (implementation) {
+            case "DEFAULT" -> new ScoreboardImpl(false, generator);
+            case "CONCURRENT" -> new ConcurrentScoreboard(ConcurrentScoreboard.DEFAULT_STRIPES, generator);
+            case "SLOT" -> new SlotScoreboard(generator);
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+        for (int i = 0; i < GAMES; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+        }
+    }
+
+    /**
+     * Generates an identifier.
+     */
+    @Benchmark
+    public UUID nextId() {
+        return generator.nextId();
+    }
+
+    /**
+     * Starts a game, finishing the game started with the same teams before.
+     */
+    @Benchmark
+    public UUID startGame() throws Exception {
+        final int slot = counter++ & (GAMES - 1);
+        if (games[slot] != null) {
+            scoreboard.finishGame(games[slot]);
+        }
+        games[slot] = scoreboard.startGame(homeTeams[slot], awayTeams[slot]);
+        return games[slot];
+    }
+
+}
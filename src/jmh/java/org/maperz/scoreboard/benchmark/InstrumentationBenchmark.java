@@ -0,0 +1,130 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.maperz.scoreboard.application.InstrumentedScoreboard;
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the overhead of the instrumentation on score updates: the difference between the instrumented and
+ * the plain scoreboard, which should stay under 50 ns per update. {@link Contended} measures it with several
+ * threads recording into the same histogram.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class InstrumentationBenchmark {
+
+    /**
+     * The number of live games.
+     */
+    private static final int LIVE_GAMES = 1_000;
+
+    @Param({"DEFAULT", "CONCURRENT"})
+    public ScoreboardImplementation implementation;
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private Scoreboard scoreboard;
+
+    private UUID[] ids;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Scoreboard plain = implementation.create();
+        ids = Fixtures.populate(plain, LIVE_GAMES, 42);
+        scoreboard = instrumented ? new InstrumentedScoreboard(plain) : plain;
+    }
+
+    /**
+     * Updates the score of a random game. Every update sets a score the game never had before.
+     */
+    @Benchmark
+    public void updateScore() throws Exception {
+        scoreboard.updateScore(ids[random.nextInt(LIVE_GAMES)], ++counter, 0);
+    }
+
+    /**
+     * Measures the overhead of the instrumentation with four threads updating one thread-safe scoreboard,
+     * so every thread records into the same histogram buckets and live-game gauge.
+     */
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    @Threads(4)
+    @State(Scope.Benchmark)
+    public static class Contended {
+
+        @Param({"CONCURRENT", "SHARDED"})
+        public ScoreboardImplementation implementation;
+
+        @Param({"false", "true"})
+        public boolean instrumented;
+
+        private Scoreboard scoreboard;
+
+        private UUID[] ids;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Scoreboard plain = implementation.create();
+            ids = Fixtures.populate(plain, LIVE_GAMES, 42);
+            scoreboard = instrumented ? new InstrumentedScoreboard(plain) : plain;
+        }
+
+        /**
+         * The state of a single updating thread.
+         */
+        @State(Scope.Thread)
+        public static class Writer {
+
+            private static final AtomicInteger THREADS = new AtomicInteger();
+
+            public final int thread = THREADS.getAndIncrement();
+
+            public final SplittableRandom random = new SplittableRandom(thread);
+
+            public int counter;
+        }
+
+        /**
+         * Updates the score of a random game to a score no other thread sets.
+         */
+        @Benchmark
+        public void updateScore(final Writer writer) throws Exception {
+            try {
+                scoreboard.updateScore(ids[writer.random.nextInt(LIVE_GAMES)], ++writer.counter, writer.thread);
+            } catch (InvalidScoreException e) {
+                // the counter wrapped around to a score the game already has
+            }
+        }
+    }
+
+}
@@ -0,0 +1,294 @@
+package org.maperz.scoreboard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The provider events of a simulated match day, generated from a seed.
+ * <p>
+ *     The games kick off in waves, two simulated hours apart, with exponentially distributed delays of about half a
+ *     minute within a wave, so every wave starts with a burst of {@code startGame}. Goals arrive as a Poisson process
+ *     over the 90 minutes of a game, and every goal update is sent twice with the configured probability, before the
+ *     next goal. Games finish after up to eight minutes of stoppage time, so finishes also come in waves.
+ *     Every game draws from its own random generator, seeded from the seed and its index, so the schedule does not
+ *     depend on the number of threads replaying it. Every game has its own teams, so that games of consecutive waves
+ *     never conflict when the waves are replayed faster than real time.
+ * </p>
+ */
+public final class MatchSchedule {
+
+    /**
+     * A game kicks off.
+     */
+    public static final byte START = 0;
+
+    /**
+     * A goal is scored; the update carries the new score.
+     */
+    public static final byte GOAL = 1;
+
+    /**
+     * The provider sends the previous goal update again.
+     */
+    public static final byte DUPLICATE = 2;
+
+    /**
+     * A game ends.
+     */
+    public static final byte FINISH = 3;
+
+    /**
+     * The kickoff of the first wave.
+     */
+    private static final LocalDateTime TOURNAMENT_START = LocalDateTime.of(2026, 6, 11, 12, 0);
+
+    /**
+     * The length of a game without stoppage time.
+     */
+    private static final long MATCH_MILLIS = TimeUnit.MINUTES.toMillis(90);
+
+    /**
+     * The maximum stoppage time.
+     */
+    private static final long STOPPAGE_MILLIS = TimeUnit.MINUTES.toMillis(8);
+
+    /**
+     * The time between the kickoffs of two waves.
+     */
+    private static final long WAVE_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(2);
+
+    /**
+     * The mean delay of a kickoff after the start of its wave.
+     */
+    private static final double KICKOFF_SPREAD_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * The maximum delay of a duplicate update after the original.
+     */
+    private static final long DUPLICATE_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * A provider event.
+     *
+     * @param atMillis The simulated time of the event, in milliseconds since the first wave.
+     * @param game The index of the game.
+     * @param kind The kind of the event: {@link #START}, {@link #GOAL}, {@link #DUPLICATE} or {@link #FINISH}.
+     * @param homeScore The score of the home team after the event.
+     * @param awayScore The score of the away team after the event.
+     */
+    public record Event(long atMillis, int game, byte kind, int homeScore, int awayScore) {
+    }
+
+    /**
+     * The home team of every game.
+     */
+    private final String[] homeTeams;
+
+    /**
+     * The away team of every game.
+     */
+    private final String[] awayTeams;
+
+    /**
+     * The kickoff of every game.
+     */
+    private final LocalDateTime[] kickoffs;
+
+    /**
+     * The events of every lane, in time order.
+     */
+    private final Event[][] lanes;
+
+    /**
+     * The number of events.
+     */
+    private final int eventCount;
+
+    /**
+     * The simulated time of the last event.
+     */
+    private final long durationMillis;
+
+    /**
+     * A checksum of all events, to compare the schedules of two runs.
+     */
+    private final long checksum;
+
+    /**
+     * Creates a new MatchSchedule.
+     *
+     * @param homeTeams The home team of every game.
+     * @param awayTeams The away team of every game.
+     * @param kickoffs The kickoff of every game.
+     * @param lanes The events of every lane, in time order.
+     * @param eventCount The number of events.
+     * @param durationMillis The simulated time of the last event.
+     * @param checksum A checksum of all events.
+     */
+    private MatchSchedule(final String[] homeTeams, final String[] awayTeams, final LocalDateTime[] kickoffs, final Event[][] lanes,
+                          final int eventCount, final long durationMillis, final long checksum) {
+        this.homeTeams = homeTeams;
+        this.awayTeams = awayTeams;
+        this.kickoffs = kickoffs;
+        this.lanes = lanes;
+        this.eventCount = eventCount;
+        this.durationMillis = durationMillis;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Generates the schedule of a simulation, split into one lane per writer. All events of a game are in the same
+     * lane, so every game is fed in order, as by a single provider connection.
+     *
+     * @param options The options of the simulation.
+     * @return The schedule.
+     */
+    public static MatchSchedule generate(final SimulationOptions options) {
+        final int games = options.games();
+        final String[] homeTeams = new String[games];
+        final String[] awayTeams = new String[games];
+        final LocalDateTime[] kickoffs = new LocalDateTime[games];
+        final List<List<Event>> lanes = new ArrayList<>(options.writers());
+        for (int i = 0; i < options.writers(); i++) {
+            lanes.add(new ArrayList<>());
+        }
+        final double meanGoalGap = options.goalsPerGame() == 0 ? Double.POSITIVE_INFINITY : MATCH_MILLIS / options.goalsPerGame();
+        int eventCount = 0;
+        long durationMillis = 0;
+        long checksum = options.seed();
+        for (int game = 0; game < games; game++) {
+            final SplittableRandom random = new SplittableRandom(options.seed() ^ (game * 0x9E3779B97F4A7C15L));
+            final int wave = (int) ((long) game * options.waves() / games);
+            final long kickoff = wave * WAVE_INTERVAL_MILLIS + (long) exponential(random, KICKOFF_SPREAD_MILLIS);
+            final long fullTime = kickoff + MATCH_MILLIS;
+            homeTeams[game] = "Home " + game;
+            awayTeams[game] = "Away " + game;
+            kickoffs[game] = TOURNAMENT_START.plusNanos(TimeUnit.MILLISECONDS.toNanos(kickoff));
+
+            final List<Event> events = new ArrayList<>();
+            events.add(new Event(kickoff, game, START, 0, 0));
+            int homeScore = 0;
+            int awayScore = 0;
+            double next = kickoff + exponential(random, meanGoalGap);
+            while (next < fullTime) {
+                final long goal = (long) next;
+                if (random.nextBoolean()) {
+                    homeScore++;
+                } else {
+                    awayScore++;
+                }
+                events.add(new Event(goal, game, GOAL, homeScore, awayScore));
+                next += exponential(random, meanGoalGap);
+                final long room = Math.min(DUPLICATE_DELAY_MILLIS, (long) Math.min(next, fullTime) - goal - 1);
+                if (random.nextDouble() < options.duplicateRate() && room > 0) {
+                    events.add(new Event(goal + 1 + random.nextLong(room), game, DUPLICATE, homeScore, awayScore));
+                }
+            }
+            final long finish = fullTime + random.nextLong(STOPPAGE_MILLIS + 1);
+            events.add(new Event(finish, game, FINISH, homeScore, awayScore));
+
+            for (final Event event : events) {
+                checksum = mix(mix(mix(checksum, event.atMillis()), ((long) event.game() << 8) | event.kind()),
+                        ((long) event.homeScore() << 32) | event.awayScore());
+            }
+            lanes.get(game % options.writers()).addAll(events);
+            eventCount += events.size();
+            durationMillis = Math.max(durationMillis, finish);
+        }
+        final Event[][] sorted = new Event[lanes.size()][];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = lanes.get(i).toArray(Event[]::new);
+            Arrays.sort(sorted[i], Comparator.comparingLong(Event::atMillis));
+        }
+        return new MatchSchedule(homeTeams, awayTeams, kickoffs, sorted, eventCount, durationMillis, checksum);
+    }
+
+    /**
+     * @return The number of games.
+     */
+    public int games() {
+        return kickoffs.length;
+    }
+
+    /**
+     * @param game The index of the game.
+     * @return The home team of the game.
+     */
+    public String homeTeam(final int game) {
+        return homeTeams[game];
+    }
+
+    /**
+     * @param game The index of the game.
+     * @return The away team of the game.
+     */
+    public String awayTeam(final int game) {
+        return awayTeams[game];
+    }
+
+    /**
+     * @param game The index of the game.
+     * @return The kickoff of the game.
+     */
+    public LocalDateTime kickoff(final int game) {
+        return kickoffs[game];
+    }
+
+    /**
+     * @param lane The index of the lane, i.e. of the writer.
+     * @return The events of the lane, in time order.
+     */
+    public Event[] lane(final int lane) {
+        return lanes[lane];
+    }
+
+    /**
+     * @return The number of events.
+     */
+    public int eventCount() {
+        return eventCount;
+    }
+
+    /**
+     * @return The simulated time of the last event, in milliseconds since the first wave.
+     */
+    public long durationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return A checksum of all events; two runs with equal checksums replayed the same schedule.
+     */
+    public long checksum() {
+        return checksum;
+    }
+
+    /**
+     * Draws an exponentially distributed value.
+     *
+     * @param random The random generator.
+     * @param mean The mean of the distribution.
+     * @return The value.
+     */
+    private static double exponential(final SplittableRandom random, final double mean) {
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+
+    /**
+     * Mixes a value into a checksum.
+     *
+     * @param checksum The checksum so far.
+     * @param value The value.
+     * @return The updated checksum.
+     */
+    private static long mix(final long checksum, final long value) {
+        final long hash = (checksum ^ value) * 0x100000001B3L;
+        return hash ^ hash >>> 29;
+    }
+
+}
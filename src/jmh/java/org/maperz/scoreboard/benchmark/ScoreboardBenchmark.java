@@ -0,0 +1,166 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures every Scoreboard operation at several numbers of live games.
+ * <p>
+ *     Runs single-threaded by default. Thread-safe implementations can be measured multi-threaded
+ *     with {@code -t <threads> -p implementation=CONCURRENT}.
+ *     Allocation rates are reported with {@code -prof gc}.
+ * </p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreboardBenchmark {
+
+    /**
+     * The scoreboard shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"10", "1000", "100000", "1000000"})
+        public int liveGames;
+
+        @Param({"DEFAULT", "COPY_ON_WRITE", "CONCURRENT", "SLOT", "SHARDED", "EVENT_LOOP"})
+        public ScoreboardImplementation implementation;
+
+        public Scoreboard scoreboard;
+
+        public UUID[] ids;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            scoreboard = implementation.create();
+            ids = Fixtures.populate(scoreboard, liveGames, 42);
+        }
+    }
+
+    /**
+     * The state of a single benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Worker {
+
+        /**
+         * The number of games every thread keeps started in {@link #startAndFinishGame(Board, Worker)}.
+         */
+        private static final int OWN_GAMES = 64;
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        public final int thread = THREADS.getAndIncrement();
+
+        public final SplittableRandom random = new SplittableRandom(thread);
+
+        public final String[] homeTeams = new String[OWN_GAMES];
+
+        public final String[] awayTeams = new String[OWN_GAMES];
+
+        public final UUID[] ownGames = new UUID[OWN_GAMES];
+
+        public final UUID unknownGame = new UUID(-1, thread);
+
+        public int counter;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            for (int i = 0; i < OWN_GAMES; i++) {
+                homeTeams[i] = "Worker " + thread + " Home " + i;
+                awayTeams[i] = "Worker " + thread + " Away " + i;
+            }
+        }
+    }
+
+    /**
+     * Updates the score of a random game. Every update sets a score the game never had before.
+     */
+    @Benchmark
+    public void updateScore(final Board board, final Worker worker) throws Exception {
+        final UUID id = board.ids[worker.random.nextInt(board.ids.length)];
+        board.scoreboard.updateScore(id, ++worker.counter, worker.thread);
+    }
+
+    /**
+     * Rejects an update of a game that is not on the scoreboard through the throwing API.
+     */
+    @Benchmark
+    public Exception rejectUpdateByException(final Board board, final Worker worker) {
+        try {
+            board.scoreboard.updateScore(worker.unknownGame, 1, 0);
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    /**
+     * Rejects an update of a game that is not on the scoreboard through the status API.
+     */
+    @Benchmark
+    public UpdateStatus rejectUpdateByStatus(final Board board, final Worker worker) {
+        return board.scoreboard.tryUpdateScore(worker.unknownGame, 1, 0);
+    }
+
+    /**
+     * Finishes one of the games owned by the thread and starts it again, keeping the number of live games constant.
+     */
+    @Benchmark
+    public UUID startAndFinishGame(final Board board, final Worker worker) throws Exception {
+        final int slot = worker.counter++ & (Worker.OWN_GAMES - 1);
+        if (worker.ownGames[slot] != null) {
+            board.scoreboard.finishGame(worker.ownGames[slot]);
+        }
+        worker.ownGames[slot] = board.scoreboard.startGame(worker.homeTeams[slot], worker.awayTeams[slot]);
+        return worker.ownGames[slot];
+    }
+
+    /**
+     * Retrieves all games.
+     */
+    @Benchmark
+    public List<Game> getGames(final Board board) {
+        return board.scoreboard.getGames();
+    }
+
+    /**
+     * Retrieves the summary of all games.
+     */
+    @Benchmark
+    public List<Game> getSummary(final Board board) {
+        return board.scoreboard.getSummary();
+    }
+
+    /**
+     * Retrieves the first ten games of the summary.
+     */
+    @Benchmark
+    public List<Game> getTopGames(final Board board) {
+        return board.scoreboard.getTopGames(10);
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * The Scoreboard implementations the benchmarks compare.
+ */
+public enum ScoreboardImplementation {
+
+    /**
+     * The default, single-threaded scoreboard.
+     */
+    DEFAULT(ScoreboardFactory::createScoreboard, false),
+
+    /**
+     * The scoreboard publishing a snapshot on every mutation; single writer, any number of readers.
+     */
+    COPY_ON_WRITE(ScoreboardFactory::createCopyOnWriteScoreboard, false),
+
+    /**
+     * The thread-safe scoreboard.
+     */
+    CONCURRENT(ScoreboardFactory::createConcurrentScoreboard, true),
+
+    /**
+     * The scoreboard keeping the games in primitive arrays.
+     */
+    SLOT(ScoreboardFactory::createSlotScoreboard, false),
+
+    /**
+     * The thread-safe scoreboard partitioning the games across one shard per available processor.
+     */
+    SHARDED(() -> ScoreboardFactory.createShardedScoreboard(Runtime.getRuntime().availableProcessors()), true),
+
+    /**
+     * The thread-safe scoreboard applying all mutations on a single writer thread.
+     */
+    EVENT_LOOP(ScoreboardFactory::createEventLoopScoreboard, true);
+
+    /**
+     * Creates a new instance of the implementation.
+     */
+    private final Supplier<Scoreboard> factory;
+
+    /**
+     * Whether the implementation may be mutated by several threads.
+     */
+    private final boolean threadSafe;
+
+    ScoreboardImplementation(final Supplier<Scoreboard> factory, final boolean threadSafe) {
+        this.factory = factory;
+        this.threadSafe = threadSafe;
+    }
+
+    /**
+     * @return A new instance of the implementation.
+     */
+    public Scoreboard create() {
+        return factory.get();
+    }
+
+    /**
+     * @return Whether the implementation may be mutated by several threads.
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
+}
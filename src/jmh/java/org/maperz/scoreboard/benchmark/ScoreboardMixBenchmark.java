@@ -0,0 +1,120 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures concurrent mixes of score updates and summary reads.
+ * <p>
+ *     The read-heavy mix runs seven readers against one writer, the write-heavy mix one reader against seven writers.
+ *     Only thread-safe implementations can run the write-heavy mix.
+ *     Allocation rates are reported with {@code -prof gc}.
+ * </p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreboardMixBenchmark {
+
+    /**
+     * The scoreboard shared by the threads of a group.
+     */
+    @State(Scope.Group)
+    public static class Board {
+
+        @Param({"10", "1000", "100000", "1000000"})
+        public int liveGames;
+
+        @Param({"CONCURRENT", "SHARDED", "EVENT_LOOP"})
+        public ScoreboardImplementation implementation;
+
+        public Scoreboard scoreboard;
+
+        public UUID[] ids;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            scoreboard = implementation.create();
+            ids = Fixtures.populate(scoreboard, liveGames, 42);
+        }
+    }
+
+    /**
+     * The state of a single writer thread.
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        public final int thread = THREADS.getAndIncrement();
+
+        public final SplittableRandom random = new SplittableRandom(thread);
+
+        public int counter;
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(7)
+    public List<Game> readHeavySummary(final Board board) {
+        return board.scoreboard.getSummary();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyUpdate(final Board board, final Writer writer) throws Exception {
+        update(board, writer);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public List<Game> writeHeavySummary(final Board board) {
+        return board.scoreboard.getSummary();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(7)
+    public void writeHeavyUpdate(final Board board, final Writer writer) throws Exception {
+        update(board, writer);
+    }
+
+    /**
+     * Updates the score of a random game to a score no other writer sets.
+     */
+    private static void update(final Board board, final Writer writer) throws Exception {
+        final UUID id = board.ids[writer.random.nextInt(board.ids.length)];
+        try {
+            board.scoreboard.updateScore(id, ++writer.counter, writer.thread);
+        } catch (InvalidScoreException e) {
+            // the counter wrapped around to a score the game already has
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.maperz.scoreboard.benchmark;
+
+/**
+ * Configures a run of the {@link TournamentSimulator}.
+ *
+ * @param implementation The scoreboard implementation to drive.
+ * @param seed The seed of the match schedule; the same seed and number of games produce the same schedule.
+ * @param games The number of games of the tournament.
+ * @param waves The number of kickoff waves the games are spread over.
+ * @param goalsPerGame The mean number of goals per game.
+ * @param duplicateRate The probability that the provider sends a goal update twice.
+ * @param writers The number of threads feeding provider updates; games are partitioned between them.
+ * @param readers The number of threads polling the summary.
+ * @param pollEvery The number of provider updates after which a writer polls the summary itself, when there are no readers.
+ * @param speedup The number of simulated seconds per real second, or 0 to replay the schedule as fast as possible.
+ */
+public record SimulationOptions(ScoreboardImplementation implementation, long seed, int games, int waves, double goalsPerGame,
+                                double duplicateRate, int writers, int readers, int pollEvery, double speedup) {
+
+    /**
+     * The options of a run without arguments.
+     */
+    public static final SimulationOptions DEFAULT = new SimulationOptions(ScoreboardImplementation.CONCURRENT, 42, 100_000, 10,
+            2.7, 0.1, 2, 2, 10, 0);
+
+    /**
+     * Validates the options.
+     *
+     * @throws IllegalArgumentException If an option is out of range, or the implementation is driven by several
+     *                                  threads although it is not thread-safe.
+     */
+    public SimulationOptions {
+        if (games <= 0 || waves <= 0 || writers <= 0 || readers < 0 || pollEvery <= 0) {
+            throw new IllegalArgumentException("Games, waves, writers and poll interval must be positive, readers must not be negative");
+        }
+        if (goalsPerGame < 0 || duplicateRate < 0 || duplicateRate > 1 || speedup < 0) {
+            throw new IllegalArgumentException("Goal and speedup rates must not be negative, duplicate rate must be between 0 and 1");
+        }
+        if (!implementation.isThreadSafe() && (writers > 1 || readers > 0)) {
+            throw new IllegalArgumentException(implementation + " is not thread-safe, run it with --writers=1 --readers=0");
+        }
+    }
+
+    /**
+     * Parses options given as {@code --name=value} arguments, e.g. {@code --implementation=SHARDED --writers=4}.
+     * Options that are not given keep their {@link #DEFAULT} value.
+     *
+     * @param args The arguments.
+     * @return The options.
+     * @throws IllegalArgumentException If an argument is unknown or malformed.
+     */
+    public static SimulationOptions parse(final String... args) {
+        ScoreboardImplementation implementation = DEFAULT.implementation();
+        long seed = DEFAULT.seed();
+        int games = DEFAULT.games();
+        int waves = DEFAULT.waves();
+        double goalsPerGame = DEFAULT.goalsPerGame();
+        double duplicateRate = DEFAULT.duplicateRate();
+        int writers = DEFAULT.writers();
+        int readers = DEFAULT.readers();
+        int pollEvery = DEFAULT.pollEvery();
+        double speedup = DEFAULT.speedup();
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            final String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "implementation" -> implementation = ScoreboardImplementation.valueOf(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "games" -> games = Integer.parseInt(value);
+                case "waves" -> waves = Integer.parseInt(value);
+                case "goals-per-game" -> goalsPerGame = Double.parseDouble(value);
+                case "duplicate-rate" -> duplicateRate = Double.parseDouble(value);
+                case "writers" -> writers = Integer.parseInt(value);
+                case "readers" -> readers = Integer.parseInt(value);
+                case "poll-every" -> pollEvery = Integer.parseInt(value);
+                case "speedup" -> speedup = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        return new SimulationOptions(implementation, seed, games, waves, goalsPerGame, duplicateRate, writers, readers, pollEvery, speedup);
+    }
+
+}
@@ -0,0 +1,346 @@
+package org.maperz.scoreboard.benchmark;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.comparator.GameComparators;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.infrastructure.metrics.LatencyHistogram;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Soak test replaying a seeded match day against a scoreboard implementation.
+ * <p>
+ *     The writers replay the lanes of a {@link MatchSchedule}: kickoff bursts, goal updates, duplicate provider
+ *     updates and finish waves. They send goal updates with {@code tryUpdateScore}, as a feed would. The readers poll
+ *     {@code getSummary()} without pause until the writers are done. Every call is timed into a
+ *     {@link LatencyHistogram} per operation, and the run reports throughput, latency percentiles, the bytes
+ *     allocated by all threads and the garbage collections.
+ * </p>
+ * <p>
+ *     The run checks these invariants and exits with status 1 if one is violated:
+ * </p>
+ * <ul>
+ *     <li>Every summary is in summary order.</li>
+ *     <li>Goal updates are applied, and duplicates are rejected as unchanged.</li>
+ *     <li>Every game has its final score when it finishes, so no update was lost.</li>
+ *     <li>No game is left when the tournament is over.</li>
+ * </ul>
+ * <p>
+ *     Run it from the benchmarks jar, e.g.
+ *     {@code java -cp target/benchmarks.jar org.maperz.scoreboard.benchmark.TournamentSimulator --implementation=SHARDED --writers=4}.
+ *     See {@link SimulationOptions#parse(String...)} for the options.
+ * </p>
+ */
+public final class TournamentSimulator {
+
+    /**
+     * The maximum number of violations described in the report.
+     */
+    private static final int MAX_REPORTED_VIOLATIONS = 10;
+
+    /**
+     * The timed operations.
+     */
+    private enum Operation {
+        START, UPDATE, DUPLICATE, FINISH, SUMMARY
+    }
+
+    /**
+     * The options of the run.
+     */
+    private final SimulationOptions options;
+
+    /**
+     * The replayed schedule.
+     */
+    private final MatchSchedule schedule;
+
+    /**
+     * The driven scoreboard.
+     */
+    private final Scoreboard scoreboard;
+
+    /**
+     * The identifier of every started game, written and read only by the writer of its lane.
+     */
+    private final UUID[] ids;
+
+    /**
+     * The latencies of every operation, in nanoseconds.
+     */
+    private final LatencyHistogram[] latencies = new LatencyHistogram[Operation.values().length];
+
+    /**
+     * The number of violated invariants.
+     */
+    private final AtomicLong violations = new AtomicLong();
+
+    /**
+     * The first violations, described.
+     */
+    private final Queue<String> violationDescriptions = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Whether all writers are done.
+     */
+    private volatile boolean done;
+
+    /**
+     * Creates a new TournamentSimulator.
+     *
+     * @param options The options of the run.
+     * @param schedule The replayed schedule.
+     */
+    private TournamentSimulator(final SimulationOptions options, final MatchSchedule schedule) {
+        this.options = options;
+        this.schedule = schedule;
+        this.scoreboard = options.implementation().create();
+        this.ids = new UUID[schedule.games()];
+        for (final Operation operation : Operation.values()) {
+            latencies[operation.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Runs a simulation and prints its report.
+     *
+     * @param args The options, see {@link SimulationOptions#parse(String...)}.
+     * @throws Exception If the simulation cannot be run.
+     */
+    public static void main(final String[] args) throws Exception {
+        final SimulationOptions options = SimulationOptions.parse(args);
+        final MatchSchedule schedule = MatchSchedule.generate(options);
+        final TournamentSimulator simulator = new TournamentSimulator(options, schedule);
+        final boolean passed = simulator.run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Replays the schedule and prints the report.
+     *
+     * @return Whether all invariants held.
+     * @throws Exception If a thread cannot be joined or the scoreboard cannot be closed.
+     */
+    private boolean run() throws Exception {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+        final long[] collectionsBefore = collections();
+        final long start = System.nanoTime();
+
+        final List<Thread> writers = new ArrayList<>();
+        for (int lane = 0; lane < options.writers(); lane++) {
+            final MatchSchedule.Event[] events = schedule.lane(lane);
+            writers.add(Thread.ofPlatform().name("simulator-writer-" + lane).start(() -> replay(events, start)));
+        }
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < options.readers(); i++) {
+            readers.add(Thread.ofPlatform().name("simulator-reader-" + i).start(this::poll));
+        }
+        for (final Thread writer : writers) {
+            writer.join();
+        }
+        final long writersNanos = System.nanoTime() - start;
+        done = true;
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+        final long elapsedNanos = System.nanoTime() - start;
+        final long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+        final long[] collectionsAfter = collections();
+
+        final List<Game> left = scoreboard.getGames();
+        if (!left.isEmpty()) {
+            violation(left.size() + " games are left after the tournament, e.g. " + left.get(0));
+        }
+        if (scoreboard instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        report(writersNanos, elapsedNanos, allocated, collectionsAfter[0] - collectionsBefore[0], collectionsAfter[1] - collectionsBefore[1]);
+        return violations.get() == 0;
+    }
+
+    /**
+     * Replays the events of a lane.
+     *
+     * @param events The events, in time order.
+     * @param start The start of the run, from {@link System#nanoTime()}.
+     */
+    private void replay(final MatchSchedule.Event[] events, final long start) {
+        int sincePoll = 0;
+        for (final MatchSchedule.Event event : events) {
+            if (options.speedup() > 0) {
+                final long due = start + (long) (TimeUnit.MILLISECONDS.toNanos(event.atMillis()) / options.speedup());
+                for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            apply(event);
+            if (options.readers() == 0 && ++sincePoll == options.pollEvery()) {
+                sincePoll = 0;
+                pollOnce();
+            }
+        }
+    }
+
+    /**
+     * Applies an event to the scoreboard, timing the call and checking its outcome.
+     *
+     * @param event The event.
+     */
+    private void apply(final MatchSchedule.Event event) {
+        final int game = event.game();
+        final long begin;
+        switch (event.kind()) {
+            case MatchSchedule.START -> {
+                begin = System.nanoTime();
+                try {
+                    ids[game] = scoreboard.startGame(schedule.homeTeam(game), schedule.awayTeam(game), schedule.kickoff(game));
+                    record(Operation.START, begin);
+                } catch (InvalidTeamNameException e) {
+                    violation("Game " + game + " was rejected: " + e.getMessage());
+                }
+            }
+            case MatchSchedule.GOAL, MatchSchedule.DUPLICATE -> {
+                final boolean duplicate = event.kind() == MatchSchedule.DUPLICATE;
+                begin = System.nanoTime();
+                final UpdateStatus status = scoreboard.tryUpdateScore(ids[game], event.homeScore(), event.awayScore());
+                record(duplicate ? Operation.DUPLICATE : Operation.UPDATE, begin);
+                final UpdateStatus expected = duplicate ? UpdateStatus.UNCHANGED_SCORE : UpdateStatus.UPDATED;
+                if (status != expected) {
+                    violation("Update of game " + game + " to " + event.homeScore() + "-" + event.awayScore() + " returned " + status + " instead of " + expected);
+                }
+            }
+            case MatchSchedule.FINISH -> {
+                final Score expected = new Score(event.homeScore(), event.awayScore());
+                final Optional<Game> finished = scoreboard.getGame(ids[game]);
+                if (finished.isEmpty() || !finished.get().score().equals(expected)) {
+                    violation("Game " + game + " finishes with " + finished.map(Game::score).orElse(null) + " instead of " + expected);
+                }
+                begin = System.nanoTime();
+                try {
+                    scoreboard.finishGame(ids[game]);
+                    record(Operation.FINISH, begin);
+                } catch (GameNotFoundException e) {
+                    violation("Game " + game + " could not be finished: " + e.getMessage());
+                }
+            }
+            default -> throw new IllegalStateException("Unknown event kind " + event.kind());
+        }
+    }
+
+    /**
+     * Polls the summary until the writers are done.
+     */
+    private void poll() {
+        while (!done) {
+            pollOnce();
+        }
+    }
+
+    /**
+     * Polls the summary once, timing the call and checking its order.
+     */
+    private void pollOnce() {
+        final long begin = System.nanoTime();
+        final List<Game> summary = scoreboard.getSummary();
+        record(Operation.SUMMARY, begin);
+        for (int i = 1; i < summary.size(); i++) {
+            if (GameComparators.SUMMARY_ORDER.compare(summary.get(i - 1), summary.get(i)) >= 0) {
+                violation("Summary is out of order at position " + i + ": " + summary.get(i - 1) + " before " + summary.get(i));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the latency of a call.
+     *
+     * @param operation The operation.
+     * @param begin The start of the call, from {@link System#nanoTime()}.
+     */
+    private void record(final Operation operation, final long begin) {
+        latencies[operation.ordinal()].record(System.nanoTime() - begin);
+    }
+
+    /**
+     * Records a violated invariant.
+     *
+     * @param description The description of the violation.
+     */
+    private void violation(final String description) {
+        if (violations.incrementAndGet() <= MAX_REPORTED_VIOLATIONS) {
+            violationDescriptions.add(description);
+        }
+    }
+
+    /**
+     * Prints the report of the run.
+     *
+     * @param writersNanos The time the writers took to replay the schedule.
+     * @param elapsedNanos The time of the whole run.
+     * @param allocated The bytes allocated by all threads.
+     * @param collections The number of garbage collections.
+     * @param collectionMillis The time spent in garbage collections.
+     */
+    private void report(final long writersNanos, final long elapsedNanos, final long allocated, final long collections, final long collectionMillis) {
+        final double writersSeconds = writersNanos / 1e9;
+        long providerCalls = 0;
+        for (final Operation operation : List.of(Operation.START, Operation.UPDATE, Operation.DUPLICATE, Operation.FINISH)) {
+            providerCalls += latencies[operation.ordinal()].count();
+        }
+        final long polls = latencies[Operation.SUMMARY.ordinal()].count();
+        System.out.printf("Tournament: %d games in %d waves, %d events, schedule checksum %016x (seed %d)%n",
+                schedule.games(), options.waves(), schedule.eventCount(), schedule.checksum(), options.seed());
+        System.out.printf("Scoreboard: %s, %d writers, %d readers, %s%n", options.implementation(), options.writers(), options.readers(),
+                options.speedup() > 0 ? String.format("%.0fx real time (%.1f s of match day)", options.speedup(), schedule.durationMillis() / 1e3 / options.speedup())
+                        : "as fast as possible");
+        System.out.printf("Elapsed: %.2f s, %.0f provider calls/s, %.0f summary polls/s%n",
+                elapsedNanos / 1e9, providerCalls / writersSeconds, polls / writersSeconds);
+        System.out.printf("%-10s %12s %10s %10s %10s %10s %10s%n", "operation", "count", "mean us", "p50 us", "p99 us", "p99.9 us", "max us");
+        for (final Operation operation : Operation.values()) {
+            final LatencyHistogram histogram = latencies[operation.ordinal()];
+            System.out.printf("%-10s %12d %10.2f %10.2f %10.2f %10.2f %10.2f%n", operation.name().toLowerCase(), histogram.count(),
+                    histogram.mean() / 1e3, histogram.percentile(50) / 1e3, histogram.percentile(99) / 1e3,
+                    histogram.percentile(99.9) / 1e3, histogram.max() / 1e3);
+        }
+        final long calls = Math.max(1, providerCalls + polls);
+        System.out.printf("Allocation: %.1f MB (%d bytes per call), GC: %d collections, %d ms%n",
+                allocated / 1e6, allocated / calls, collections, collectionMillis);
+        if (violations.get() == 0) {
+            System.out.println("Invariants: OK");
+        } else {
+            System.out.println("Invariants: " + violations.get() + " violations");
+            violationDescriptions.forEach(description -> System.out.println("  " + description));
+        }
+    }
+
+    /**
+     * Sums the collections of all garbage collectors.
+     *
+     * @return The number of collections and the time spent in them in milliseconds.
+     */
+    private static long[] collections() {
+        long count = 0;
+        long millis = 0;
+        for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[]{count, millis};
+    }
+
+}
@@ -0,0 +1,240 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+import org.maperz.scoreboard.infrastructure.archive.GameArchive;
+import org.maperz.scoreboard.infrastructure.log.BinaryCodec;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decorator of a {@link Scoreboard} that appends every finished game, with its final score, to a {@link GameArchive}.
+ * <p>
+ *     Mutations are serialized so that the final score read before finishing a game is the one it finished with.
+ *     Reads are not blocked. All mutations must go through this decorator for the archive to be complete.
+ *     Start times the archive cannot store are rejected before the game is started, so that finishing a game
+ *     never fails after the decorated scoreboard has applied it.
+ * </p>
+ */
+public class ArchivingScoreboard implements Scoreboard {
+
+    /**
+     * The decorated scoreboard.
+     */
+    private final Scoreboard delegate;
+
+    /**
+     * The archive of finished games.
+     */
+    private final GameArchive archive;
+
+    /**
+     * Creates a new ArchivingScoreboard.
+     *
+     * @param delegate The decorated scoreboard.
+     * @param archive The archive of finished games.
+     */
+    public ArchivingScoreboard(final Scoreboard delegate, final GameArchive archive) {
+        this.delegate = delegate;
+        this.archive = archive;
+    }
+
+    /**
+     * @return The archive of finished games.
+     */
+    public GameArchive getArchive() {
+        return archive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException If the start time cannot be archived, see {@link BinaryCodec#validateTime(LocalDateTime)}.
+     */
+    @Override
+    public synchronized UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        BinaryCodec.validateTime(startTime);
+        return delegate.startGame(homeTeamName, awayTeamName, startTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        delegate.updateScore(id, homeScore, awayScore);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        return delegate.tryUpdateScore(id, homeScore, awayScore);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void finishGame(final UUID id) throws GameNotFoundException {
+        final Optional<Game> game = delegate.getGame(id);
+        delegate.finishGame(id);
+        game.ifPresent(archive::append);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException If a start time cannot be archived; no game is restored then.
+     */
+    @Override
+    public synchronized void restoreGames(final Collection<Game> games) throws InvalidTeamNameException {
+        for (final Game game : games) {
+            BinaryCodec.validateTime(game.startTime());
+        }
+        delegate.restoreGames(games);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The games the batch finishes are looked up before the batch is applied, and the successful
+     * operations are replayed on them only, so that games finished within the batch are archived with the score
+     * they had when they were finished, including games started within the same batch.
+     * @throws IllegalArgumentException If a start time cannot be archived; no operation is applied then.
+     */
+    @Override
+    public synchronized List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        final Set<UUID> finished = new HashSet<>();
+        for (final ScoreboardOperation operation : operations) {
+            if (operation instanceof StartGame start) {
+                BinaryCodec.validateTime(start.startTime());
+            } else if (operation instanceof FinishGame finish) {
+                finished.add(finish.id());
+            }
+        }
+        if (finished.isEmpty()) {
+            return delegate.applyBatch(operations);
+        }
+        final Map<UUID, Game> games = new HashMap<>();
+        for (final UUID id : finished) {
+            delegate.getGame(id).ifPresent(game -> games.put(id, game));
+        }
+        final List<OperationResult> results = delegate.applyBatch(operations);
+        for (final OperationResult result : results) {
+            if (!result.isSuccess()) {
+                continue;
+            }
+            switch (result.operation()) {
+                case StartGame start -> {
+                    if (finished.contains(result.gameId())) {
+                        games.put(result.gameId(), new Game(result.gameId(), new Team(start.homeTeamName()),
+                                new Team(start.awayTeamName()), new Score(0, 0), start.startTime()));
+                    }
+                }
+                case UpdateScore update -> games.computeIfPresent(update.id(),
+                        (id, game) -> game.withUpdatedScore(update.homeScore(), update.awayScore()));
+                case FinishGame finish -> {
+                    final Game game = games.remove(finish.id());
+                    if (game != null) {
+                        archive.append(game);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return delegate.getGame(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        return delegate.findByTeam(teamName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return delegate.findStartedBetween(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return delegate.getGames();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return delegate.getSummary();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        return delegate.getSummary(offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+}
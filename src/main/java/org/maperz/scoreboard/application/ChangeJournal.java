@@ -0,0 +1,103 @@
+package org.maperz.scoreboard.application;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bounded journal of the games changed by every version of a scoreboard.
+ * <p>
+ *     Entries are kept in a ring of parallel arrays in version order; once it is full, every new entry evicts
+ *     the oldest one. The journal can answer which games changed since a version as long as no entry newer
+ *     than that version was evicted.
+ *     It is not thread-safe.
+ * </p>
+ */
+final class ChangeJournal {
+
+    /**
+     * The version of every entry.
+     */
+    private final long[] versions;
+
+    /**
+     * The changed game of every entry.
+     */
+    private final UUID[] ids;
+
+    /**
+     * The index the next entry is written to.
+     */
+    private int head;
+
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * The oldest version the journal covers: the version of the last evicted entry,
+     * or the version the journal was started at.
+     */
+    private long coveredSince;
+
+    /**
+     * Creates a new, empty ChangeJournal.
+     *
+     * @param capacity The maximum number of entries, positive.
+     * @param startVersion The version of the scoreboard when the journal is started.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    ChangeJournal(final int capacity, final long startVersion) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        this.versions = new long[capacity];
+        this.ids = new UUID[capacity];
+        this.coveredSince = startVersion;
+    }
+
+    /**
+     * Records that a game changed in a version.
+     *
+     * @param version The version, not lower than the version of any recorded entry.
+     * @param id The id of the changed game.
+     */
+    void record(final long version, final UUID id) {
+        if (size == versions.length) {
+            coveredSince = versions[head];
+        } else {
+            size++;
+        }
+        versions[head] = version;
+        ids[head] = id;
+        head = (head + 1) % versions.length;
+    }
+
+    /**
+     * @param version The version.
+     * @return Whether every game changed since the version is still recorded.
+     */
+    boolean covers(final long version) {
+        return version >= coveredSince;
+    }
+
+    /**
+     * Collects the games changed since a version, most recently changed first.
+     *
+     * @param version The version, {@link #covers(long) covered} by the journal.
+     * @return The ids of the games changed in a later version.
+     */
+    Set<UUID> changedSince(final long version) {
+        final Set<UUID> changed = new LinkedHashSet<>();
+        for (int i = 0, index = head; i < size; i++) {
+            index = (index == 0 ? versions.length : index) - 1;
+            if (versions[index] <= version) {
+                break;
+            }
+            changed.add(ids[index]);
+        }
+        return changed;
+    }
+
+}
@@ -0,0 +1,718 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.comparator.GameComparators;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.id.GameIdGenerator;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+import org.maperz.scoreboard.domain.validator.GameValidator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe implementation of the {@link Scoreboard} interface.
+ * <p>
+ *     Every mutation locks the stripes of the team names of the games it changes, so mutations of different games
+ *     never contend on a common lock, and the team-name uniqueness check and the registration of a game are atomic.
+ *     While still holding the stripes, the mutation prepends a revision to every changed game and stamps the
+ *     revisions with the next version.
+ *     Readers never hold writers back: a snapshot takes the newest revision of every game that is not newer than
+ *     the version current at the call, sorts only the games changed since the published snapshot and merges them
+ *     into its summary. A reader only waits for a revision whose writer holds its stripes and has not yet stamped it.
+ * </p>
+ */
+public class ConcurrentScoreboard implements Scoreboard {
+
+    /**
+     * The default number of team-name lock stripes.
+     */
+    public static final int DEFAULT_STRIPES = 64;
+
+    /**
+     * The minimum number of versions the published snapshot may fall behind before a writer publishes a new one.
+     */
+    private static final int MIN_UNPUBLISHED_VERSIONS = 1024;
+
+    /**
+     * The version of a revision that has not been stamped yet.
+     */
+    private static final long UNSTAMPED = Long.MAX_VALUE;
+
+    /**
+     * The change of a game by a mutation.
+     *
+     * @param id The unique identifier of the game.
+     * @param game The game after the change, or null if it was finished.
+     */
+    private record Change(UUID id, Game game) {
+    }
+
+    /**
+     * A revision of a game, linked to the previous one.
+     */
+    private static final class Revision {
+
+        /**
+         * The game as of this revision, or null if it was finished.
+         */
+        private final Game game;
+
+        /**
+         * The previous revision, or null if there is none or it is no longer needed by any reader.
+         */
+        private volatile Revision previous;
+
+        /**
+         * The version the revision was made in, or {@link #UNSTAMPED} while its writer has not stamped it yet.
+         */
+        private volatile long version = UNSTAMPED;
+
+        /**
+         * Creates a new, unstamped Revision.
+         *
+         * @param game The game as of this revision, or null if it was finished.
+         * @param previous The previous revision, or null if there is none.
+         */
+        private Revision(final Game game, final Revision previous) {
+            this.game = game;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * The map of games.
+     * <p>
+     *     The key is the unique identifier of the game.
+     *     The value is the game, replaced on every score update.
+     *     Entries are only modified while holding the stripes of both team names of the game.
+     * </p>
+     */
+    private final ConcurrentMap<UUID, Game> games = new ConcurrentHashMap<>();
+
+    /**
+     * The index of teams currently playing.
+     * <p>
+     *     The key is the normalized name of the team, see {@link GameValidator#normalizeTeamName(String)}.
+     *     The value is the unique identifier of the game the team is playing in.
+     *     Entries are only modified while holding the stripe of the team name.
+     * </p>
+     */
+    private final ConcurrentMap<String, UUID> activeTeams = new ConcurrentHashMap<>();
+
+    /**
+     * The identifiers of the games by start time, updated together with {@link #games} under the stripe locks.
+     */
+    private final StartTimeIndex startTimes = new StartTimeIndex(new ConcurrentSkipListSet<>());
+
+    /**
+     * The team-name lock stripes.
+     */
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Generates the identifiers of started games.
+     */
+    private final GameIdGenerator idGenerator;
+
+    /**
+     * The number of mutations that changed the games, i.e. the version of the scoreboard.
+     * <p>
+     *     Only incremented while holding the stripes of the changed games.
+     * </p>
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * The latest revision of every game, including finished games until a published snapshot covers their finish.
+     * <p>
+     *     Only revisions newer than the published snapshot, and the newest one it covers, are kept; older ones are
+     *     unlinked when the next revision is prepended.
+     * </p>
+     */
+    private final ConcurrentMap<UUID, Revision> revisions = new ConcurrentHashMap<>();
+
+    /**
+     * The most recent snapshot of the games.
+     * <p>
+     *     Only ever replaced by a snapshot with a higher version.
+     * </p>
+     */
+    private final AtomicReference<ScoreboardSnapshot> snapshot = new AtomicReference<>(ScoreboardSnapshot.EMPTY);
+
+    /**
+     * Whether a writer is publishing a snapshot because the published one fell too far behind.
+     */
+    private final AtomicBoolean publishing = new AtomicBoolean();
+
+    /**
+     * Creates a new ConcurrentScoreboard with the default number of lock stripes.
+     */
+    public ConcurrentScoreboard() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a new ConcurrentScoreboard.
+     *
+     * @param stripes The number of team-name lock stripes, rounded up to a power of two.
+     */
+    public ConcurrentScoreboard(final int stripes) {
+        this(stripes, GameIdGenerators.RANDOM);
+    }
+
+    /**
+     * Creates a new ConcurrentScoreboard.
+     *
+     * @param stripes The number of team-name lock stripes, rounded up to a power of two.
+     * @param idGenerator Generates the identifiers of started games.
+     */
+    public ConcurrentScoreboard(final int stripes, final GameIdGenerator idGenerator) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Number of stripes must be greater than 0");
+        }
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.idGenerator = idGenerator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        GameValidator.validateTeamName(homeTeamName);
+        GameValidator.validateTeamName(awayTeamName);
+        final int first = stripe(GameValidator.normalizeTeamName(homeTeamName));
+        final int second = stripe(GameValidator.normalizeTeamName(awayTeamName));
+        final UUID id;
+        lock(first, second);
+        try {
+            final List<Change> changed = new ArrayList<>(1);
+            id = startGameLocked(homeTeamName, awayTeamName, startTime, changed);
+            commit(changed);
+        } finally {
+            unlock(first, second);
+        }
+        publishIfBehind();
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        GameValidator.validateUpdate(tryUpdateScore(id, homeScore, awayScore), id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Updates that are rejected up front take no lock and do not change the version.
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        final Game game = games.get(id);
+        if (game == null) {
+            return UpdateStatus.GAME_NOT_FOUND;
+        }
+        final UpdateStatus status = GameValidator.checkScore(homeScore, awayScore, game.score().homeScore(), game.score().awayScore());
+        if (!status.isUpdated()) {
+            return status;
+        }
+        final int first = stripe(GameValidator.normalizeTeamName(game.homeTeam().name()));
+        final int second = stripe(GameValidator.normalizeTeamName(game.awayTeam().name()));
+        final UpdateStatus updated;
+        lock(first, second);
+        try {
+            final List<Change> changed = new ArrayList<>(1);
+            updated = updateScoreLocked(id, homeScore, awayScore, changed);
+            commit(changed);
+        } finally {
+            unlock(first, second);
+        }
+        publishIfBehind();
+        return updated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finishGame(final UUID id) throws GameNotFoundException {
+        final Game game = GameValidator.requireGame(id, games);
+        final int first = stripe(GameValidator.normalizeTeamName(game.homeTeam().name()));
+        final int second = stripe(GameValidator.normalizeTeamName(game.awayTeam().name()));
+        lock(first, second);
+        try {
+            final List<Change> changed = new ArrayList<>(1);
+            finishGameLocked(id, changed);
+            commit(changed);
+        } finally {
+            unlock(first, second);
+        }
+        publishIfBehind();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Restoring locks every stripe, so it excludes all concurrent mutations.
+     */
+    @Override
+    public void restoreGames(final Collection<Game> restoredGames) throws InvalidTeamNameException {
+        lockAll();
+        final List<Change> changed = new ArrayList<>(restoredGames.size());
+        try {
+            for (final Game game : restoredGames) {
+                if (games.containsKey(game.id())) {
+                    throw new IllegalArgumentException("Match already exists with id: " + game.id());
+                }
+                GameValidator.validateTeamNames(game.homeTeam().name(), game.awayTeam().name(), activeTeams, games);
+                games.put(game.id(), game);
+                activeTeams.put(GameValidator.normalizeTeamName(game.homeTeam().name()), game.id());
+                activeTeams.put(GameValidator.normalizeTeamName(game.awayTeam().name()), game.id());
+                startTimes.add(game.startTime(), game.id());
+                changed.add(new Change(game.id(), game));
+            }
+            commit(changed);
+        } catch (InvalidTeamNameException | RuntimeException e) {
+            for (final Change change : changed) {
+                final Game game = change.game();
+                games.remove(game.id());
+                activeTeams.remove(GameValidator.normalizeTeamName(game.homeTeam().name()), game.id());
+                activeTeams.remove(GameValidator.normalizeTeamName(game.awayTeam().name()), game.id());
+                startTimes.remove(game.startTime(), game.id());
+            }
+            throw e;
+        } finally {
+            unlockAll();
+        }
+        publishIfBehind();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Applying a batch locks every stripe, so it excludes all concurrent mutations, and publishes all its
+     * changes as one version, so readers never observe a partially applied batch.
+     */
+    @Override
+    public List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        final List<OperationResult> results = new ArrayList<>(operations.size());
+        lockAll();
+        try {
+            final List<Change> changed = new ArrayList<>(operations.size());
+            for (final ScoreboardOperation operation : operations) {
+                results.add(switch (operation) {
+                    case StartGame start -> {
+                        try {
+                            GameValidator.validateTeamName(start.homeTeamName());
+                            GameValidator.validateTeamName(start.awayTeamName());
+                            yield OperationResult.success(operation, startGameLocked(start.homeTeamName(), start.awayTeamName(), start.startTime(), changed));
+                        } catch (InvalidTeamNameException e) {
+                            yield OperationResult.failure(operation, null, e);
+                        }
+                    }
+                    case UpdateScore update -> {
+                        try {
+                            GameValidator.validateUpdate(updateScoreLocked(update.id(), update.homeScore(), update.awayScore(), changed), update.id());
+                            yield OperationResult.success(operation, update.id());
+                        } catch (GameNotFoundException | InvalidScoreException e) {
+                            yield OperationResult.failure(operation, update.id(), e);
+                        }
+                    }
+                    case FinishGame finish -> {
+                        try {
+                            finishGameLocked(finish.id(), changed);
+                            yield OperationResult.success(operation, finish.id());
+                        } catch (GameNotFoundException e) {
+                            yield OperationResult.failure(operation, finish.id(), e);
+                        }
+                    }
+                });
+            }
+            commit(changed);
+        } finally {
+            unlockAll();
+        }
+        publishIfBehind();
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return Optional.ofNullable(games.get(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the team up in the index of teams currently playing, without locking.
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        final UUID id = activeTeams.get(GameValidator.normalizeTeamName(teamName));
+        return id == null ? Optional.empty() : Optional.ofNullable(games.get(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the range up in the index of start times, without locking. Games finished concurrently
+     * may be missing from the result.
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        final List<Game> started = new ArrayList<>();
+        for (final UUID id : startTimes.between(from, to)) {
+            final Game game = games.get(id);
+            if (game != null) {
+                started.add(game);
+            }
+        }
+        return started;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The returned list is taken from {@link #getSnapshot()}.
+     */
+    @Override
+    public List<Game> getGames() {
+        return getSnapshot().games();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The returned list is taken from {@link #getSnapshot()}.
+     */
+    @Override
+    public List<Game> getSummary() {
+        return getSnapshot().summary();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The page is a view of the summary of {@link #getSnapshot()}, which sorts only the games changed
+     * since the published snapshot.
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        GameValidator.validatePage(offset, limit);
+        if (limit == 0) {
+            return List.of();
+        }
+        return getSnapshot().summary(offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The snapshot is taken at the version current at the call, without holding writers back, in
+     * O(n + k log k) for k games changed since the published snapshot, and is published for later readers. If a
+     * newer snapshot was published meanwhile, that one is returned instead.
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        final long target = version.get();
+        final ScoreboardSnapshot base = snapshot.get();
+        if (base.version() >= target) {
+            return base;
+        }
+        final List<Game> gamesView = new ArrayList<>(revisions.size());
+        final Set<UUID> unchanged = new HashSet<>();
+        final List<Game> changed = new ArrayList<>();
+        final Map<UUID, Revision> finished = new HashMap<>();
+        for (final Map.Entry<UUID, Revision> entry : revisions.entrySet()) {
+            final Revision visible = visibleAt(entry.getValue(), target);
+            if (visible == null) {
+                continue;
+            }
+            if (visible.game == null) {
+                if (visible == entry.getValue()) {
+                    finished.put(entry.getKey(), visible);
+                }
+            } else {
+                gamesView.add(visible.game);
+                if (visible.version > base.version()) {
+                    changed.add(visible.game);
+                } else {
+                    unchanged.add(entry.getKey());
+                }
+            }
+        }
+        final ScoreboardSnapshot current = snapshot.get();
+        if (current.version() >= target) {
+            return current;
+        }
+        changed.sort(GameComparators.SUMMARY_ORDER);
+        final List<Game> summary = new ArrayList<>(gamesView.size());
+        int next = 0;
+        for (final Game game : base.summary()) {
+            if (!unchanged.contains(game.id())) {
+                continue;
+            }
+            while (next < changed.size() && GameComparators.SUMMARY_ORDER.compare(changed.get(next), game) < 0) {
+                summary.add(changed.get(next++));
+            }
+            summary.add(game);
+        }
+        summary.addAll(changed.subList(next, changed.size()));
+        final ScoreboardSnapshot fresh = new ScoreboardSnapshot(target, List.copyOf(gamesView), List.copyOf(summary));
+        final long published = snapshot.accumulateAndGet(fresh, (previous, candidate) -> previous.version() >= candidate.version() ? previous : candidate).version();
+        for (final Map.Entry<UUID, Revision> entry : finished.entrySet()) {
+            if (entry.getValue().version <= published) {
+                revisions.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return fresh;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Counts only the mutations that changed the games; a batch counts once.
+     */
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Finds the newest revision not newer than a version, yielding to the writer of a revision it has not stamped yet.
+     * <p>
+     *     A revision the reader needs may have been unlinked if a snapshot newer than the version was published
+     *     meanwhile; the reader then returns that snapshot instead.
+     * </p>
+     *
+     * @param latest The latest revision of the game.
+     * @param target The version.
+     * @return The revision, or null if the game did not exist at the version.
+     */
+    private static Revision visibleAt(final Revision latest, final long target) {
+        for (Revision revision = latest; revision != null; revision = revision.previous) {
+            long stamped = revision.version;
+            while (stamped == UNSTAMPED) {
+                Thread.yield();
+                stamped = revision.version;
+            }
+            if (stamped <= target) {
+                return revision;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Prepends a revision to every changed game and stamps them with the next version, if the mutation changed any
+     * game. Must be called while holding the stripes of every changed game.
+     *
+     * @param changed The changes, in the order they were applied.
+     */
+    private void commit(final List<Change> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        final long published = snapshot.get().version();
+        final Revision[] prepended = new Revision[changed.size()];
+        for (int i = 0; i < prepended.length; i++) {
+            final Change change = changed.get(i);
+            final Revision latest = revisions.get(change.id());
+            Revision covered = latest;
+            while (covered != null && covered.version > published) {
+                covered = covered.previous;
+            }
+            if (covered != null) {
+                covered.previous = null;
+            }
+            prepended[i] = new Revision(change.game(), latest);
+            revisions.put(change.id(), prepended[i]);
+        }
+        final long next = version.incrementAndGet();
+        for (final Revision revision : prepended) {
+            revision.version = next;
+        }
+    }
+
+    /**
+     * Publishes a snapshot if the published one fell too far behind, so that the revisions of a scoreboard nobody
+     * reads do not pile up. Only one writer publishes at a time; the others carry on.
+     */
+    private void publishIfBehind() {
+        final long behind = version.get() - snapshot.get().version();
+        if (behind > Math.max(MIN_UNPUBLISHED_VERSIONS, revisions.size()) && publishing.compareAndSet(false, true)) {
+            try {
+                getSnapshot();
+            } finally {
+                publishing.set(false);
+            }
+        }
+    }
+
+    /**
+     * Starts a game. Must be called while holding the stripes of both team names.
+     *
+     * @param homeTeamName The valid name of the home team.
+     * @param awayTeamName The valid name of the away team.
+     * @param startTime The start time of the game.
+     * @param changed The changed games, the started game is added to.
+     * @return The unique identifier of the game.
+     * @throws InvalidTeamNameException If a team is already playing.
+     */
+    private UUID startGameLocked(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime, final List<Change> changed) throws InvalidTeamNameException {
+        GameValidator.validateTeamNames(homeTeamName, awayTeamName, activeTeams, games);
+        final Game game = new Game(idGenerator.nextId(), new Team(homeTeamName), new Team(awayTeamName), new Score(0, 0), startTime);
+        games.put(game.id(), game);
+        activeTeams.put(GameValidator.normalizeTeamName(homeTeamName), game.id());
+        activeTeams.put(GameValidator.normalizeTeamName(awayTeamName), game.id());
+        startTimes.add(startTime, game.id());
+        changed.add(new Change(game.id(), game));
+        return game.id();
+    }
+
+    /**
+     * Updates the score of a game. Must be called while holding the stripes of both team names of the game.
+     *
+     * @param id The unique identifier of the game.
+     * @param homeScore The updated score of the home team.
+     * @param awayScore The updated score of the away team.
+     * @param changed The changed games, the updated game is added to.
+     * @return The outcome of the update.
+     */
+    private UpdateStatus updateScoreLocked(final UUID id, final int homeScore, final int awayScore, final List<Change> changed) {
+        final Game game = games.get(id);
+        if (game == null) {
+            return UpdateStatus.GAME_NOT_FOUND;
+        }
+        final UpdateStatus status = GameValidator.checkScore(homeScore, awayScore, game.score().homeScore(), game.score().awayScore());
+        if (!status.isUpdated()) {
+            return status;
+        }
+        final Game updated = game.withUpdatedScore(homeScore, awayScore);
+        games.put(id, updated);
+        changed.add(new Change(id, updated));
+        return UpdateStatus.UPDATED;
+    }
+
+    /**
+     * Finishes a game. Must be called while holding the stripes of both team names of the game.
+     *
+     * @param id The unique identifier of the game.
+     * @param changed The changed games, the finished game is added to.
+     * @throws GameNotFoundException If the game does not exist.
+     */
+    private void finishGameLocked(final UUID id, final List<Change> changed) throws GameNotFoundException {
+        final Game game = games.remove(id);
+        if (game == null) {
+            throw new GameNotFoundException(id);
+        }
+        activeTeams.remove(GameValidator.normalizeTeamName(game.homeTeam().name()), id);
+        activeTeams.remove(GameValidator.normalizeTeamName(game.awayTeam().name()), id);
+        startTimes.remove(game.startTime(), id);
+        changed.add(new Change(id, null));
+    }
+
+    /**
+     * Returns the index of the lock stripe of a normalized team name.
+     *
+     * @param teamKey The normalized team name.
+     * @return The index of the lock stripe.
+     */
+    private int stripe(final String teamKey) {
+        final int hash = teamKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    /**
+     * Locks two stripes in ascending index order to avoid deadlocks.
+     *
+     * @param first The index of the first stripe.
+     * @param second The index of the second stripe, possibly the same as the first one.
+     */
+    private void lock(final int first, final int second) {
+        stripes[Math.min(first, second)].lock();
+        if (first != second) {
+            stripes[Math.max(first, second)].lock();
+        }
+    }
+
+    /**
+     * Unlocks two stripes locked by {@link #lock(int, int)}.
+     *
+     * @param first The index of the first stripe.
+     * @param second The index of the second stripe, possibly the same as the first one.
+     */
+    private void unlock(final int first, final int second) {
+        stripes[first].unlock();
+        if (first != second) {
+            stripes[second].unlock();
+        }
+    }
+
+    /**
+     * Locks every stripe in ascending index order.
+     */
+    private void lockAll() {
+        for (final ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    /**
+     * Unlocks every stripe locked by {@link #lockAll()}.
+     */
+    private void unlockAll() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+}
@@ -0,0 +1,344 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.infrastructure.log.BinaryCodec;
+import org.maperz.scoreboard.infrastructure.log.Mutation;
+import org.maperz.scoreboard.infrastructure.log.SnapshotFile;
+import org.maperz.scoreboard.infrastructure.log.WriteAheadLog;
+import org.maperz.scoreboard.infrastructure.log.WriteAheadLogOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator of a {@link Scoreboard} that records every mutation in a {@link WriteAheadLog}.
+ * <p>
+ *     On opening, the log is replayed into the decorated scoreboard, which restores all ongoing games
+ *     with their identifiers, scores and start times.
+ *     Mutations are serialized so that the order of the log matches the order in which they were applied.
+ *     Appending to the log only enqueues the mutation; encoding, writing and syncing happen on the writer
+ *     thread of the log, so a mutation that has returned may not be durable yet; see {@link #sync()}.
+ *     Optionally, a compact snapshot of the ongoing games is written in the background at a fixed interval,
+ *     after which the log segments it covers are deleted. On opening, the latest snapshot is loaded in one step
+ *     and only the mutations logged after it are replayed.
+ * </p>
+ */
+public class DurableScoreboard implements Scoreboard, AutoCloseable {
+
+    /**
+     * The decorated scoreboard.
+     */
+    private final Scoreboard delegate;
+
+    /**
+     * The log recording the mutations.
+     */
+    private final WriteAheadLog log;
+
+    /**
+     * The sequence number of the last mutation included in a snapshot.
+     */
+    private long snapshotSequence;
+
+    /**
+     * The thread writing periodic snapshots, or {@code null} if periodic snapshots are disabled.
+     * Set by {@link #open(Scoreboard, Path, WriteAheadLogOptions, long)} once the scoreboard is constructed.
+     */
+    private ScheduledExecutorService snapshotter;
+
+    /**
+     * Creates a new DurableScoreboard without periodic snapshots.
+     *
+     * @param delegate The decorated scoreboard, already holding the replayed state.
+     * @param log The log recording the mutations.
+     * @param snapshotSequence The sequence number of the last mutation included in the loaded snapshot.
+     */
+    protected DurableScoreboard(final Scoreboard delegate, final WriteAheadLog log, final long snapshotSequence) {
+        this.delegate = delegate;
+        this.log = log;
+        this.snapshotSequence = snapshotSequence;
+    }
+
+    /**
+     * Opens the log in a directory and replays it into a scoreboard.
+     *
+     * @param delegate The scoreboard to restore and decorate, usually empty.
+     * @param directory The directory of the log.
+     * @param options The options of the log.
+     * @return The durable scoreboard.
+     * @throws IOException If the log cannot be read or opened, or does not apply to the scoreboard.
+     */
+    public static DurableScoreboard open(final Scoreboard delegate, final Path directory, final WriteAheadLogOptions options) throws IOException {
+        return open(delegate, directory, options, 0);
+    }
+
+    /**
+     * Loads the latest snapshot and replays the log following it into a scoreboard.
+     *
+     * @param delegate The scoreboard to restore and decorate, usually empty.
+     * @param directory The directory of the log and the snapshots.
+     * @param options The options of the log.
+     * @param snapshotIntervalMillis The interval between periodic snapshots in milliseconds, or 0 to disable them.
+     * @return The durable scoreboard.
+     * @throws IOException If the snapshot or the log cannot be read, or does not apply to the scoreboard.
+     */
+    public static DurableScoreboard open(final Scoreboard delegate, final Path directory, final WriteAheadLogOptions options, final long snapshotIntervalMillis) throws IOException {
+        final Optional<SnapshotFile.Snapshot> snapshot = SnapshotFile.readLatest(directory);
+        long snapshotSequence = 0;
+        if (snapshot.isPresent()) {
+            try {
+                delegate.restoreGames(snapshot.get().games());
+            } catch (InvalidTeamNameException e) {
+                throw new IOException("Snapshot does not apply", e);
+            }
+            snapshotSequence = snapshot.get().sequence();
+        }
+        final WriteAheadLog log = WriteAheadLog.open(directory, options, snapshotSequence, sequenced -> replay(delegate, sequenced.mutation()));
+        final DurableScoreboard scoreboard = new DurableScoreboard(delegate, log, snapshotSequence);
+        if (snapshotIntervalMillis > 0) {
+            scoreboard.scheduleSnapshots(snapshotIntervalMillis);
+        }
+        return scoreboard;
+    }
+
+    /**
+     * Starts writing snapshots in the background at a fixed interval.
+     *
+     * @param snapshotIntervalMillis The interval between periodic snapshots in milliseconds.
+     */
+    private void scheduleSnapshots(final long snapshotIntervalMillis) {
+        snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "scoreboard-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotter.scheduleWithFixedDelay(() -> {
+            try {
+                snapshot();
+            } catch (IOException | UncheckedIOException e) {
+                // the log still holds every mutation, the next run retries
+            }
+        }, snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Applies a replayed mutation to a scoreboard.
+     *
+     * @param scoreboard The scoreboard.
+     * @param mutation The mutation.
+     * @throws IllegalStateException If the scoreboard rejects the mutation.
+     */
+    static void replay(final Scoreboard scoreboard, final Mutation mutation) {
+        try {
+            mutation.applyTo(scoreboard);
+        } catch (InvalidTeamNameException | GameNotFoundException | InvalidScoreException e) {
+            throw new IllegalStateException("Logged mutation does not apply: " + mutation, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException If the start time cannot be logged, see {@link BinaryCodec#validateTime(LocalDateTime)}.
+     */
+    @Override
+    public synchronized UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        BinaryCodec.validateTime(startTime);
+        final UUID id = delegate.startGame(homeTeamName, awayTeamName, startTime);
+        log.append(new Mutation.Start(new Game(id, new Team(homeTeamName), new Team(awayTeamName), new Score(0, 0), startTime)));
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        delegate.updateScore(id, homeScore, awayScore);
+        log.append(new Mutation.Update(id, homeScore, awayScore));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void finishGame(final UUID id) throws GameNotFoundException {
+        delegate.finishGame(id);
+        log.append(new Mutation.Finish(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException If a start time cannot be logged; no game is restored then.
+     */
+    @Override
+    public synchronized void restoreGames(final Collection<Game> games) throws InvalidTeamNameException {
+        for (final Game game : games) {
+            BinaryCodec.validateTime(game.startTime());
+        }
+        delegate.restoreGames(games);
+        log.appendAll(games.stream().map(Mutation.Start::new).toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The successful operations of the batch are logged after the batch has been applied.
+     * @throws IllegalArgumentException If a start time cannot be logged; no operation is applied then.
+     */
+    @Override
+    public synchronized List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        for (final ScoreboardOperation operation : operations) {
+            if (operation instanceof StartGame start) {
+                BinaryCodec.validateTime(start.startTime());
+            }
+        }
+        final List<OperationResult> results = delegate.applyBatch(operations);
+        log.appendAll(Mutation.of(results));
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return delegate.getGame(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        return delegate.findByTeam(teamName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return delegate.findStartedBetween(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return delegate.getGames();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return delegate.getSummary();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        return delegate.getSummary(offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    /**
+     * Waits until every mutation applied so far is synced to disk.
+     *
+     * @throws UncheckedIOException If the log has failed.
+     * @throws InterruptedException If the thread is interrupted while waiting; the mutations may not be durable yet.
+     */
+    public void sync() throws InterruptedException {
+        log.sync();
+    }
+
+    /**
+     * Writes a snapshot of the ongoing games and deletes the log segments it covers.
+     * Mutations are only blocked while the games are copied; the snapshot is encoded and written afterwards.
+     * Nothing is written if there was no mutation since the last snapshot.
+     *
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public void snapshot() throws IOException {
+        final List<Game> games;
+        final long sequence;
+        synchronized (this) {
+            if (log.lastSequence() == snapshotSequence) {
+                return;
+            }
+            games = delegate.getGames();
+            sequence = log.rollover();
+        }
+        SnapshotFile.write(log.directory(), sequence, games);
+        log.deleteSegmentsUpTo(sequence);
+        synchronized (this) {
+            snapshotSequence = Math.max(snapshotSequence, sequence);
+        }
+    }
+
+    /**
+     * Stops the periodic snapshots, syncs the pending mutations and closes the log.
+     *
+     * @throws IOException If the pending mutations cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (snapshotter != null) {
+            snapshotter.shutdown();
+            try {
+                snapshotter.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.close();
+    }
+
+}
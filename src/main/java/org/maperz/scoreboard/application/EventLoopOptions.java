@@ -0,0 +1,31 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.infrastructure.concurrent.WaitStrategy;
+
+/**
+ * Options of an {@link EventLoopScoreboard}.
+ *
+ * @param queueCapacity The maximum number of pending mutations, rounded up to a power of two.
+ *                      Mutating threads wait while the queue is full.
+ * @param waitStrategy How the writer thread waits while the queue is empty.
+ */
+public record EventLoopOptions(int queueCapacity, WaitStrategy waitStrategy) {
+
+    /**
+     * The default options: room for 65536 pending mutations and a blocking writer.
+     */
+    public static final EventLoopOptions DEFAULT = new EventLoopOptions(1 << 16, WaitStrategy.BLOCKING);
+
+    /**
+     * Validates the options.
+     */
+    public EventLoopOptions {
+        if (queueCapacity <= 0 || queueCapacity > 1 << 30) {
+            throw new IllegalArgumentException("Queue capacity must be between 1 and 2^30");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy must not be null");
+        }
+    }
+
+}
@@ -0,0 +1,779 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.comparator.GameComparators;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.id.GameIdGenerator;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.validator.GameValidator;
+import org.maperz.scoreboard.infrastructure.concurrent.MpscRingBuffer;
+import org.maperz.scoreboard.infrastructure.concurrent.WaitStrategy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Thread-safe implementation of the {@link Scoreboard} interface following the single-writer principle.
+ * <p>
+ *     Mutations are enqueued as commands into a bounded multi-producer, single-consumer ring buffer.
+ *     A dedicated writer thread applies them to an unsynchronized {@link ScoreboardImpl}, so the state is never
+ *     locked or contended. The writer drains the queue in batches: after every batch it updates concurrent indexes
+ *     of the games it changed and publishes the version, and then completes the futures of the batch, so a mutation
+ *     that has completed is visible to all readers.
+ *     Lookups of single games are served from the indexes and never wait for the writer. Snapshots are published
+ *     on demand: a reader finding the published snapshot stale asks the writer for a new one, which the writer
+ *     publishes after the batch in progress, so the writer never copies all games unless someone reads them.
+ *     The asynchronous variants return a {@link CompletableFuture} completed with the result, or exceptionally with
+ *     the exception the mutation raised, e.g. an {@link InvalidScoreException}. Dependent stages registered without
+ *     an executor run on the writer thread and should be short.
+ *     A mutation raising an {@link Error} stops the writer; the pending and later mutations are then rejected.
+ *     Mutating threads wait while the queue is full; how the writer waits while it is empty is set by the
+ *     {@link WaitStrategy}.
+ * </p>
+ */
+public class EventLoopScoreboard implements Scoreboard, AutoCloseable {
+
+    /**
+     * The maximum number of commands applied before the indexes are updated and the futures are completed.
+     */
+    private static final int MAX_BATCH = 1024;
+
+    /**
+     * The number of times a mutating thread spins on a full queue, or a reader on a stale snapshot, before yielding.
+     */
+    private static final int PRODUCER_SPINS = 100;
+
+    /**
+     * A mutation applied to the scoreboard by the writer thread.
+     *
+     * @param <T> The type of the result.
+     */
+    @FunctionalInterface
+    private interface Action<T> {
+
+        /**
+         * Applies the mutation.
+         *
+         * @param core The scoreboard.
+         * @param changed Collects the identifiers of the games the mutation changed.
+         * @return The result.
+         * @throws Exception If the mutation is rejected.
+         */
+        T apply(ScoreboardImpl core, Set<UUID> changed) throws Exception;
+    }
+
+    /**
+     * An enqueued mutation together with its future and, once applied, its outcome.
+     *
+     * @param <T> The type of the result.
+     */
+    private static final class Command<T> {
+
+        /**
+         * The mutation.
+         */
+        private final Action<T> action;
+
+        /**
+         * The future completed with the outcome.
+         */
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        /**
+         * The result, once applied.
+         */
+        private T result;
+
+        /**
+         * The exception raised by the mutation, once applied.
+         */
+        private Exception error;
+
+        private Command(final Action<T> action) {
+            this.action = action;
+        }
+
+        /**
+         * Applies the mutation and records its outcome. Errors are not recorded: the state of the scoreboard may be
+         * corrupt after them, so they stop the writer.
+         *
+         * @param core The scoreboard.
+         * @param changed Collects the identifiers of the games the mutation changed.
+         */
+        private void apply(final ScoreboardImpl core, final Set<UUID> changed) {
+            try {
+                result = action.apply(core, changed);
+            } catch (Exception e) {
+                error = e;
+            }
+        }
+
+        /**
+         * Completes the future with the recorded outcome.
+         */
+        private void complete() {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }
+
+        /**
+         * Completes the future exceptionally because the writer stopped with an error.
+         *
+         * @param failure The error.
+         */
+        private void fail(final Error failure) {
+            future.completeExceptionally(failure);
+        }
+
+        /**
+         * Completes the future exceptionally because the scoreboard is closed or its writer failed.
+         *
+         * @param failure The error the writer stopped with, or null if the scoreboard was closed.
+         */
+        private void reject(final Error failure) {
+            future.completeExceptionally(failure == null
+                    ? new RejectedExecutionException("Scoreboard is closed")
+                    : new RejectedExecutionException("Scoreboard writer failed", failure));
+        }
+    }
+
+    /**
+     * The scoreboard, only accessed by the writer thread.
+     */
+    private final ScoreboardImpl core;
+
+    /**
+     * The queue of pending commands.
+     */
+    private final MpscRingBuffer<Command<?>> queue;
+
+    /**
+     * How the writer waits while the queue is empty.
+     */
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * The thread applying the commands.
+     */
+    private final Thread writer;
+
+    /**
+     * The ongoing games, keyed by their identifier. Only written by the writer, after every batch.
+     */
+    private final ConcurrentMap<UUID, Game> games = new ConcurrentHashMap<>();
+
+    /**
+     * The identifiers of the ongoing games, keyed by the normalized names of both teams.
+     * Only written by the writer, after every batch.
+     */
+    private final ConcurrentMap<String, UUID> teams = new ConcurrentHashMap<>();
+
+    /**
+     * The ongoing games by start time. Only written by the writer, after every batch.
+     */
+    private final StartTimeIndex startTimes = new StartTimeIndex(new ConcurrentSkipListSet<>());
+
+    /**
+     * The identifiers of the games changed by the batch in progress. Only accessed by the writer.
+     */
+    private final Set<UUID> changed = new LinkedHashSet<>();
+
+    /**
+     * The version of the scoreboard after the last batch applied by the writer.
+     */
+    private volatile long version;
+
+    /**
+     * The latest snapshot published by the writer, possibly older than {@link #version}.
+     */
+    private volatile ScoreboardSnapshot snapshot = ScoreboardSnapshot.EMPTY;
+
+    /**
+     * Whether a reader is waiting for the writer to publish a new snapshot.
+     */
+    private volatile boolean snapshotRequested;
+
+    /**
+     * Whether the writer may be parked and needs to be woken by producers.
+     */
+    private volatile boolean writerParked;
+
+    /**
+     * Whether the scoreboard has been closed; no new commands are accepted.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Whether the writer has stopped; commands enqueued afterwards are rejected.
+     */
+    private volatile boolean terminated;
+
+    /**
+     * The error the writer stopped with, or null. Set before {@link #terminated}.
+     */
+    private volatile Error failure;
+
+    /**
+     * The number of commands applied so far. Only written by the writer.
+     */
+    private volatile long appliedCommands;
+
+    /**
+     * The highest queue depth observed by the writer. Only written by the writer.
+     */
+    private volatile int maxQueueDepth;
+
+    /**
+     * The number of times a mutating thread found the queue full.
+     */
+    private final LongAdder producerWaits = new LongAdder();
+
+    /**
+     * Creates a new EventLoopScoreboard with the default options, generating random identifiers.
+     */
+    public EventLoopScoreboard() {
+        this(EventLoopOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a new EventLoopScoreboard generating random identifiers.
+     *
+     * @param options The options.
+     */
+    public EventLoopScoreboard(final EventLoopOptions options) {
+        this(options, GameIdGenerators.RANDOM);
+    }
+
+    /**
+     * Creates a new EventLoopScoreboard and starts its writer thread.
+     *
+     * @param options The options.
+     * @param idGenerator Generates the identifiers of started games.
+     */
+    public EventLoopScoreboard(final EventLoopOptions options, final GameIdGenerator idGenerator) {
+        this.core = new ScoreboardImpl(false, idGenerator);
+        this.queue = new MpscRingBuffer<>(options.queueCapacity());
+        this.waitStrategy = options.waitStrategy();
+        this.writer = new Thread(this::run, "scoreboard-event-loop");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Starts a Game between the given teams asynchronously.
+     *
+     * @param homeTeamName The name of the home team.
+     * @param awayTeamName The name of the away team.
+     * @return A future completed with the identifier of the started Game, or with an {@link InvalidTeamNameException}.
+     */
+    public CompletableFuture<UUID> startGameAsync(final String homeTeamName, final String awayTeamName) {
+        return startGameAsync(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * Starts a Game between the given teams at the specified start time asynchronously.
+     *
+     * @param homeTeamName The name of the home team.
+     * @param awayTeamName The name of the away team.
+     * @param startTime The start time of the Game.
+     * @return A future completed with the identifier of the started Game, or with an {@link InvalidTeamNameException}.
+     */
+    public CompletableFuture<UUID> startGameAsync(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) {
+        return submit((core, changed) -> {
+            final UUID id = core.startGame(homeTeamName, awayTeamName, startTime);
+            changed.add(id);
+            return id;
+        });
+    }
+
+    /**
+     * Updates the score of a Game asynchronously.
+     *
+     * @param id The unique identifier of the Game.
+     * @param homeScore The updated score of the home team.
+     * @param awayScore The updated score of the away team.
+     * @return A future completed once the score is updated, or with a {@link GameNotFoundException}
+     * or an {@link InvalidScoreException}.
+     */
+    public CompletableFuture<Void> updateScoreAsync(final UUID id, final int homeScore, final int awayScore) {
+        return submit((core, changed) -> {
+            core.updateScore(id, homeScore, awayScore);
+            changed.add(id);
+            return null;
+        });
+    }
+
+    /**
+     * Finishes a Game asynchronously.
+     *
+     * @param id The unique identifier of the Game.
+     * @return A future completed once the Game is finished, or with a {@link GameNotFoundException}.
+     */
+    public CompletableFuture<Void> finishGameAsync(final UUID id) {
+        return submit((core, changed) -> {
+            core.finishGame(id);
+            changed.add(id);
+            return null;
+        });
+    }
+
+    /**
+     * Applies a batch of operations asynchronously, see {@link #applyBatch(List)}.
+     *
+     * @param operations The operations to apply.
+     * @return A future completed with the result of every operation.
+     */
+    public CompletableFuture<List<OperationResult>> applyBatchAsync(final List<ScoreboardOperation> operations) {
+        final List<ScoreboardOperation> copy = List.copyOf(operations);
+        return submit((core, changed) -> {
+            final List<OperationResult> results = core.applyBatch(copy);
+            for (final OperationResult result : results) {
+                if (result.isSuccess()) {
+                    changed.add(result.gameId());
+                }
+            }
+            return results;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Waits until the writer has applied the mutation.
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        return await(startGameAsync(homeTeamName, awayTeamName, startTime), InvalidTeamNameException.class, InvalidTeamNameException.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Waits until the writer has applied the mutation.
+     */
+    @Override
+    public void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        await(updateScoreAsync(id, homeScore, awayScore), GameNotFoundException.class, InvalidScoreException.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Waits until the writer has applied the mutation.
+     */
+    @Override
+    public void finishGame(final UUID id) throws GameNotFoundException {
+        await(finishGameAsync(id), GameNotFoundException.class, GameNotFoundException.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Waits until the writer has restored the Games.
+     */
+    @Override
+    public void restoreGames(final Collection<Game> games) throws InvalidTeamNameException {
+        final List<Game> copy = List.copyOf(games);
+        await(submit((core, changed) -> {
+            core.restoreGames(copy);
+            for (final Game game : copy) {
+                changed.add(game.id());
+            }
+            return null;
+        }), InvalidTeamNameException.class, InvalidTeamNameException.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The batch is applied by the writer as a single command, so readers see all of it or none of it.
+     */
+    @Override
+    public List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        return await(applyBatchAsync(operations), RuntimeException.class, RuntimeException.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the game up in the index the writer updates after every batch, without waiting for it.
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return Optional.ofNullable(games.get(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the team up in the index the writer updates after every batch, without waiting for it.
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        final UUID id = teams.get(GameValidator.normalizeTeamName(teamName));
+        return id == null ? Optional.empty() : getGame(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the range up in the index the writer updates after every batch, without waiting for it.
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        final List<Game> started = new ArrayList<>();
+        for (final UUID id : startTimes.between(from, to)) {
+            final Game game = games.get(id);
+            if (game != null) {
+                started.add(game);
+            }
+        }
+        return started;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return getSnapshot().games();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return getSnapshot().summary();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        return getSnapshot().summary(offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Returns the published snapshot if it is up to date with the last batch applied by the writer.
+     * Otherwise asks the writer to publish a new one and waits until it has, which takes at most the batch in
+     * progress. Called on the writer thread, e.g. from a dependent stage of a future, the snapshot is taken directly.
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        final long current = version;
+        ScoreboardSnapshot published = snapshot;
+        if (published.version() >= current) {
+            return published;
+        }
+        if (Thread.currentThread() == writer) {
+            published = core.getSnapshot();
+            snapshot = published;
+            return published;
+        }
+        snapshotRequested = true;
+        LockSupport.unpark(writer);
+        int spins = 0;
+        while ((published = snapshot).version() < current) {
+            if (spins++ < PRODUCER_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        return published;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The version after the last batch applied by the writer; reading it never takes a snapshot.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The number of commands waiting to be applied.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return The highest number of commands the writer found waiting.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * @return The maximum number of commands waiting to be applied.
+     */
+    public int getQueueCapacity() {
+        return queue.capacity();
+    }
+
+    /**
+     * @return The number of commands applied so far.
+     */
+    public long getAppliedCommands() {
+        return appliedCommands;
+    }
+
+    /**
+     * @return The number of times a mutating thread had to wait because the queue was full.
+     */
+    public long getProducerWaits() {
+        return producerWaits.sum();
+    }
+
+    /**
+     * Stops accepting commands, waits until the writer has applied the pending ones and stops it.
+     * Commands submitted afterwards complete exceptionally with a {@link RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Enqueues a command, waiting while the queue is full.
+     *
+     * @param action The mutation.
+     * @param <T> The type of the result.
+     * @return The future of the command.
+     */
+    private <T> CompletableFuture<T> submit(final Action<T> action) {
+        final Command<T> command = new Command<>(action);
+        if (closed) {
+            command.reject(failure);
+            return command.future;
+        }
+        if (!queue.offer(command)) {
+            producerWaits.increment();
+            int spins = 0;
+            do {
+                if (terminated) {
+                    command.reject(failure);
+                    return command.future;
+                }
+                if (spins++ < PRODUCER_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            } while (!queue.offer(command));
+        }
+        if (terminated) {
+            // the writer may have stopped before taking the command
+            command.reject(failure);
+        } else if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+        return command.future;
+    }
+
+    /**
+     * The loop of the writer thread: applies the commands in batches, updates the indexes and the version after
+     * every batch, publishes a snapshot if a reader asked for one, and completes the futures of the batch.
+     * An {@link Error} stops the writer, as the state of the scoreboard may be corrupt: the commands of the batch in
+     * progress fail with it, all later commands are rejected, readers keep the games of the last completed batch,
+     * and the error is rethrown.
+     */
+    private void run() {
+        final List<Command<?>> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            applyUntilClosed(batch);
+            snapshot = core.getSnapshot();
+        } catch (Error e) {
+            failure = e;
+            if (snapshot.version() < version) {
+                snapshot = indexedSnapshot();
+            }
+            for (final Command<?> command : batch) {
+                command.fail(e);
+            }
+        }
+        terminated = true;
+        final long end = queue.producedCount();
+        while (queue.consumedCount() < end) {
+            final Command<?> command = queue.poll();
+            if (command == null) {
+                Thread.onSpinWait();
+            } else {
+                command.reject(failure);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Applies the enqueued commands in batches until the scoreboard is closed and the queue is empty.
+     *
+     * @param batch The commands of the batch in progress, applied but not yet completed.
+     */
+    private void applyUntilClosed(final List<Command<?>> batch) {
+        int idleRounds = 0;
+        while (true) {
+            final int depth = queue.size();
+            if (depth > maxQueueDepth) {
+                maxQueueDepth = depth;
+            }
+            Command<?> command;
+            while (batch.size() < MAX_BATCH && (command = queue.poll()) != null) {
+                batch.add(command);
+                command.apply(core, changed);
+            }
+            if (!batch.isEmpty()) {
+                reindex();
+                version = core.getVersion();
+                appliedCommands += batch.size();
+            }
+            if (snapshotRequested) {
+                snapshotRequested = false;
+                snapshot = core.getSnapshot();
+            }
+            if (!batch.isEmpty()) {
+                for (final Command<?> applied : batch) {
+                    applied.complete();
+                }
+                batch.clear();
+                idleRounds = 0;
+                continue;
+            }
+            if (closed && queue.size() == 0) {
+                return;
+            }
+            if (waitStrategy.requiresSignal()) {
+                writerParked = true;
+                if (queue.size() == 0 && !closed && !snapshotRequested) {
+                    waitStrategy.idle(idleRounds);
+                }
+                writerParked = false;
+            } else {
+                waitStrategy.idle(idleRounds);
+            }
+            idleRounds++;
+        }
+    }
+
+    /**
+     * Builds a snapshot of the games in the indexes, i.e. as of the last batch the writer completed.
+     *
+     * @return The snapshot.
+     */
+    private ScoreboardSnapshot indexedSnapshot() {
+        final List<Game> indexed = List.copyOf(games.values());
+        final List<Game> summary = new ArrayList<>(indexed);
+        summary.sort(GameComparators.SUMMARY_ORDER);
+        return new ScoreboardSnapshot(version, indexed, List.copyOf(summary));
+    }
+
+    /**
+     * Updates the indexes of the games changed by the batch in progress. Score updates only replace the game,
+     * starting and finishing games also update the team and start time indexes.
+     */
+    private void reindex() {
+        for (final UUID id : changed) {
+            final Game previous = games.get(id);
+            final Game current = core.getGame(id).orElse(null);
+            if (previous != null && current != null) {
+                games.put(id, current);
+                continue;
+            }
+            if (previous != null) {
+                games.remove(id);
+                for (final Team team : List.of(previous.homeTeam(), previous.awayTeam())) {
+                    teams.remove(GameValidator.normalizeTeamName(team.name()), id);
+                }
+                startTimes.remove(previous.startTime(), id);
+            }
+            if (current != null) {
+                games.put(id, current);
+                teams.put(GameValidator.normalizeTeamName(current.homeTeam().name()), id);
+                teams.put(GameValidator.normalizeTeamName(current.awayTeam().name()), id);
+                startTimes.add(current.startTime(), id);
+            }
+        }
+        changed.clear();
+    }
+
+    /**
+     * Waits for a future and rethrows the exception it completed with.
+     *
+     * @param future The future.
+     * @param first The first expected exception type.
+     * @param second The second expected exception type.
+     * @param <T> The type of the result.
+     * @param <X1> The first expected exception type.
+     * @param <X2> The second expected exception type.
+     * @return The result.
+     * @throws X1 If the future completed with the first expected exception type.
+     * @throws X2 If the future completed with the second expected exception type.
+     */
+    private static <T, X1 extends Exception, X2 extends Exception> T await(final CompletableFuture<T> future, final Class<X1> first, final Class<X2> second) throws X1, X2 {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (first.isInstance(cause)) {
+                throw first.cast(cause);
+            }
+            if (second.isInstance(cause)) {
+                throw second.cast(cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,483 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.infrastructure.metrics.OperationMetrics;
+import org.maperz.scoreboard.infrastructure.metrics.ScoreboardMetricsMXBean;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator of a {@link Scoreboard} that records metrics of every call.
+ * <p>
+ *     Every operation has a lock-free latency histogram with log-linear buckets and success and failure counters,
+ *     see {@link OperationMetrics}. Rejections are additionally counted per exception type, and the number of
+ *     ongoing games is kept as a gauge. Recording a call costs two reads of {@link System#nanoTime()} and
+ *     one or two {@link LongAdder} increments. The histogram buckets and the gauge are striped, so threads
+ *     recording concurrently mostly increment cells of their own instead of contending on one counter;
+ *     no lock is taken and, once the cells are created, nothing is allocated.
+ *     The metrics can be exposed as JMX MXBeans with {@link #registerMBeans(String)}.
+ *     It is as thread-safe as the decorated scoreboard.
+ * </p>
+ */
+public class InstrumentedScoreboard implements Scoreboard, ScoreboardMetricsMXBean, AutoCloseable {
+
+    /**
+     * The instrumented operations.
+     */
+    public enum Operation {
+        START_GAME("startGame"),
+        UPDATE_SCORE("updateScore"),
+        FINISH_GAME("finishGame"),
+        RESTORE_GAMES("restoreGames"),
+        APPLY_BATCH("applyBatch"),
+        GET_GAME("getGame"),
+        FIND_BY_TEAM("findByTeam"),
+        FIND_STARTED_BETWEEN("findStartedBetween"),
+        GET_GAMES("getGames"),
+        GET_SUMMARY("getSummary"),
+        GET_SNAPSHOT("getSnapshot");
+
+        /**
+         * The name of the operation in the JMX object name.
+         */
+        private final String methodName;
+
+        Operation(final String methodName) {
+            this.methodName = methodName;
+        }
+    }
+
+    /**
+     * The JMX domain of the registered MXBeans.
+     */
+    private static final String JMX_DOMAIN = "org.maperz.scoreboard";
+
+    /**
+     * The decorated scoreboard.
+     */
+    private final Scoreboard delegate;
+
+    /**
+     * The metrics of every operation, indexed by {@link Operation#ordinal()}.
+     */
+    private final OperationMetrics[] metrics = new OperationMetrics[Operation.values().length];
+
+    /**
+     * The number of ongoing games.
+     */
+    private final LongAdder liveGames = new LongAdder();
+
+    /**
+     * The number of calls rejected with an {@link InvalidTeamNameException}.
+     */
+    private final LongAdder invalidTeamNames = new LongAdder();
+
+    /**
+     * The number of calls rejected with a {@link GameNotFoundException}.
+     */
+    private final LongAdder gamesNotFound = new LongAdder();
+
+    /**
+     * The number of calls rejected with an {@link InvalidScoreException}.
+     */
+    private final LongAdder invalidScores = new LongAdder();
+
+    /**
+     * The number of calls failed with any other exception.
+     */
+    private final LongAdder otherErrors = new LongAdder();
+
+    /**
+     * The names under which the MXBeans are registered.
+     */
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+
+    /**
+     * Creates a new InstrumentedScoreboard.
+     *
+     * @param delegate The decorated scoreboard.
+     */
+    public InstrumentedScoreboard(final Scoreboard delegate) {
+        this.delegate = delegate;
+        liveGames.add(delegate.getGames().size());
+        for (int i = 0; i < metrics.length; i++) {
+            metrics[i] = new OperationMetrics();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        final long start = System.nanoTime();
+        try {
+            final UUID id = delegate.startGame(homeTeamName, awayTeamName, startTime);
+            liveGames.increment();
+            metrics[Operation.START_GAME.ordinal()].success(System.nanoTime() - start);
+            return id;
+        } catch (InvalidTeamNameException | RuntimeException e) {
+            failed(Operation.START_GAME, start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        final long start = System.nanoTime();
+        try {
+            delegate.updateScore(id, homeScore, awayScore);
+            metrics[Operation.UPDATE_SCORE.ordinal()].success(System.nanoTime() - start);
+        } catch (GameNotFoundException | InvalidScoreException | RuntimeException e) {
+            failed(Operation.UPDATE_SCORE, start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Calls are recorded as {@link Operation#UPDATE_SCORE}, and rejections are counted like the exceptions
+     * of {@link #updateScore(UUID, int, int)}.
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        final long start = System.nanoTime();
+        final UpdateStatus status;
+        try {
+            status = delegate.tryUpdateScore(id, homeScore, awayScore);
+        } catch (RuntimeException e) {
+            failed(Operation.UPDATE_SCORE, start, e);
+            throw e;
+        }
+        final OperationMetrics updates = metrics[Operation.UPDATE_SCORE.ordinal()];
+        switch (status) {
+            case UPDATED -> updates.success(System.nanoTime() - start);
+            case GAME_NOT_FOUND -> {
+                updates.failure(System.nanoTime() - start);
+                gamesNotFound.increment();
+            }
+            case NEGATIVE_SCORE, UNCHANGED_SCORE -> {
+                updates.failure(System.nanoTime() - start);
+                invalidScores.increment();
+            }
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finishGame(final UUID id) throws GameNotFoundException {
+        final long start = System.nanoTime();
+        try {
+            delegate.finishGame(id);
+            liveGames.decrement();
+            metrics[Operation.FINISH_GAME.ordinal()].success(System.nanoTime() - start);
+        } catch (GameNotFoundException | RuntimeException e) {
+            failed(Operation.FINISH_GAME, start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreGames(final Collection<Game> games) throws InvalidTeamNameException {
+        final long start = System.nanoTime();
+        try {
+            delegate.restoreGames(games);
+            liveGames.add(games.size());
+            metrics[Operation.RESTORE_GAMES.ordinal()].success(System.nanoTime() - start);
+        } catch (InvalidTeamNameException | RuntimeException e) {
+            failed(Operation.RESTORE_GAMES, start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The batch is timed as a whole. The rejected operations of the batch are counted per exception type.
+     */
+    @Override
+    public List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        final long start = System.nanoTime();
+        final List<OperationResult> results;
+        try {
+            results = delegate.applyBatch(operations);
+        } catch (RuntimeException e) {
+            failed(Operation.APPLY_BATCH, start, e);
+            throw e;
+        }
+        long started = 0;
+        for (final OperationResult result : results) {
+            if (result.isSuccess()) {
+                if (result.operation() instanceof StartGame) {
+                    started++;
+                } else if (result.operation() instanceof FinishGame) {
+                    started--;
+                }
+            } else {
+                rejected(result.error());
+            }
+        }
+        liveGames.add(started);
+        metrics[Operation.APPLY_BATCH.ordinal()].success(System.nanoTime() - start);
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        final long start = System.nanoTime();
+        final Optional<Game> game = delegate.getGame(id);
+        metrics[Operation.GET_GAME.ordinal()].success(System.nanoTime() - start);
+        return game;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        final long start = System.nanoTime();
+        final Optional<Game> game = delegate.findByTeam(teamName);
+        metrics[Operation.FIND_BY_TEAM.ordinal()].success(System.nanoTime() - start);
+        return game;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        final long start = System.nanoTime();
+        final List<Game> games = delegate.findStartedBetween(from, to);
+        metrics[Operation.FIND_STARTED_BETWEEN.ordinal()].success(System.nanoTime() - start);
+        return games;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        final long start = System.nanoTime();
+        final List<Game> games = delegate.getGames();
+        metrics[Operation.GET_GAMES.ordinal()].success(System.nanoTime() - start);
+        return games;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        final long start = System.nanoTime();
+        final List<Game> summary = delegate.getSummary();
+        metrics[Operation.GET_SUMMARY.ordinal()].success(System.nanoTime() - start);
+        return summary;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Pages are recorded as {@link Operation#GET_SUMMARY}.
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        final long start = System.nanoTime();
+        final List<Game> page = delegate.getSummary(offset, limit);
+        metrics[Operation.GET_SUMMARY.ordinal()].success(System.nanoTime() - start);
+        return page;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        final long start = System.nanoTime();
+        final ScoreboardSnapshot snapshot = delegate.getSnapshot();
+        metrics[Operation.GET_SNAPSHOT.ordinal()].success(System.nanoTime() - start);
+        return snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    /**
+     * Retrieves the metrics of an operation.
+     *
+     * @param operation The operation.
+     * @return The metrics of the operation.
+     */
+    public OperationMetrics getMetrics(final Operation operation) {
+        return metrics[operation.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLiveGames() {
+        return liveGames.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getInvalidTeamNameCount() {
+        return invalidTeamNames.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getGameNotFoundCount() {
+        return gamesNotFound.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getInvalidScoreCount() {
+        return invalidScores.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getOtherErrorCount() {
+        return otherErrors.sum();
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server: the scoreboard-wide metrics under
+     * {@code org.maperz.scoreboard:type=Scoreboard,name=<name>} and the metrics of every operation under
+     * {@code org.maperz.scoreboard:type=Scoreboard,name=<name>,operation=<method>}.
+     *
+     * @param name The name of the scoreboard, unique within the JVM.
+     * @throws JMException If the MXBeans cannot be registered, e.g. because the name is already taken.
+     */
+    public synchronized void registerMBeans(final String name) throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final String prefix = JMX_DOMAIN + ":type=Scoreboard,name=" + ObjectName.quote(name);
+        try {
+            register(server, new ObjectName(prefix), this);
+            for (final Operation operation : Operation.values()) {
+                register(server, new ObjectName(prefix + ",operation=" + operation.methodName), metrics[operation.ordinal()]);
+            }
+        } catch (JMException e) {
+            unregisterMBeans();
+            throw e;
+        }
+    }
+
+    /**
+     * Unregisters the MXBeans registered by {@link #registerMBeans(String)}.
+     */
+    @Override
+    public void close() {
+        unregisterMBeans();
+    }
+
+    /**
+     * Registers an MXBean and remembers its name.
+     *
+     * @param server The MBean server.
+     * @param name The name of the MXBean.
+     * @param mxBean The MXBean.
+     * @throws JMException If the MXBean cannot be registered.
+     */
+    private void register(final MBeanServer server, final ObjectName name, final Object mxBean) throws JMException {
+        server.registerMBean(mxBean, name);
+        registeredNames.add(name);
+    }
+
+    /**
+     * Unregisters every registered MXBean.
+     */
+    private synchronized void unregisterMBeans() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (final ObjectName name : registeredNames) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                // already unregistered
+            }
+        }
+        registeredNames.clear();
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param operation The operation.
+     * @param start The start of the call, from {@link System#nanoTime()}.
+     * @param exception The exception the call failed with.
+     */
+    private void failed(final Operation operation, final long start, final Exception exception) {
+        metrics[operation.ordinal()].failure(System.nanoTime() - start);
+        rejected(exception);
+    }
+
+    /**
+     * Counts a rejection by exception type.
+     *
+     * @param exception The exception.
+     */
+    private void rejected(final Exception exception) {
+        switch (exception) {
+            case InvalidTeamNameException e -> invalidTeamNames.increment();
+            case GameNotFoundException e -> gamesNotFound.increment();
+            case InvalidScoreException e -> invalidScores.increment();
+            default -> otherErrors.increment();
+        }
+    }
+
+}
@@ -0,0 +1,254 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.comparator.GameComparators;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.RankedGame;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.SummaryDelta;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decorator of a {@link Scoreboard} that journals the games changed by every mutation, so that clients can fetch
+ * only the changes of the summary since the version they last saw with {@link #getSummaryDelta(long)}.
+ * <p>
+ *     The journal is bounded: it keeps the last changes up to its capacity, and clients asking for a version
+ *     it no longer covers get the full summary instead. Mutations are serialized so that every journal entry
+ *     carries the version its mutation produced; reads are not blocked. All mutations must go through
+ *     this decorator for the deltas to be complete.
+ * </p>
+ */
+public class JournaledScoreboard implements Scoreboard {
+
+    /**
+     * The default maximum number of journaled changes.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The decorated scoreboard.
+     */
+    private final Scoreboard delegate;
+
+    /**
+     * The games changed by every version, guarded by this decorator.
+     */
+    private final ChangeJournal journal;
+
+    /**
+     * Creates a new JournaledScoreboard keeping {@value #DEFAULT_CAPACITY} changes.
+     *
+     * @param delegate The decorated scoreboard.
+     */
+    public JournaledScoreboard(final Scoreboard delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new JournaledScoreboard.
+     *
+     * @param delegate The decorated scoreboard.
+     * @param capacity The maximum number of journaled changes, positive.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public JournaledScoreboard(final Scoreboard delegate, final int capacity) {
+        this.delegate = delegate;
+        this.journal = new ChangeJournal(capacity, delegate.getVersion());
+    }
+
+    /**
+     * Retrieves the changes of the summary since a version.
+     * <p>
+     *     The changed games are located in the summary by binary search, so a delta costs O(k log n)
+     *     for k changed games. If the version is no longer covered by the journal, is unknown, or more games
+     *     changed than the summary holds, a {@link SummaryDelta#full(long, ScoreboardSnapshot) full} delta is returned.
+     * </p>
+     *
+     * @param sinceVersion The version of the summary the client holds, e.g. the {@code toVersion} of its last delta.
+     * @return The changes leading from that version to the current one.
+     */
+    public synchronized SummaryDelta getSummaryDelta(final long sinceVersion) {
+        final ScoreboardSnapshot snapshot = delegate.getSnapshot();
+        if (sinceVersion == snapshot.version()) {
+            return new SummaryDelta(sinceVersion, sinceVersion, false, List.of(), List.of());
+        }
+        if (sinceVersion > snapshot.version() || !journal.covers(sinceVersion)) {
+            return SummaryDelta.full(sinceVersion, snapshot);
+        }
+        final Set<UUID> changedIds = journal.changedSince(sinceVersion);
+        final List<Game> summary = snapshot.summary();
+        if (changedIds.size() > summary.size()) {
+            return SummaryDelta.full(sinceVersion, snapshot);
+        }
+        final List<RankedGame> changed = new ArrayList<>(changedIds.size());
+        final List<UUID> removed = new ArrayList<>();
+        for (final UUID id : changedIds) {
+            final Optional<Game> game = delegate.getGame(id);
+            if (game.isEmpty()) {
+                removed.add(id);
+                continue;
+            }
+            final int position = Collections.binarySearch(summary, game.get(), GameComparators.SUMMARY_ORDER);
+            if (position < 0) {
+                return SummaryDelta.full(sinceVersion, snapshot);
+            }
+            changed.add(new RankedGame(position, game.get()));
+        }
+        changed.sort(Comparator.comparingInt(RankedGame::position));
+        return new SummaryDelta(sinceVersion, snapshot.version(), false, List.copyOf(changed), List.copyOf(removed));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        final UUID id = delegate.startGame(homeTeamName, awayTeamName, startTime);
+        journal.record(delegate.getVersion(), id);
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        delegate.updateScore(id, homeScore, awayScore);
+        journal.record(delegate.getVersion(), id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        final UpdateStatus status = delegate.tryUpdateScore(id, homeScore, awayScore);
+        if (status.isUpdated()) {
+            journal.record(delegate.getVersion(), id);
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void finishGame(final UUID id) throws GameNotFoundException {
+        delegate.finishGame(id);
+        journal.record(delegate.getVersion(), id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void restoreGames(final Collection<Game> games) throws InvalidTeamNameException {
+        delegate.restoreGames(games);
+        final long version = delegate.getVersion();
+        for (final Game game : games) {
+            journal.record(version, game.id());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        final List<OperationResult> results = delegate.applyBatch(operations);
+        final long version = delegate.getVersion();
+        for (final OperationResult result : results) {
+            if (result.isSuccess()) {
+                journal.record(version, result.gameId());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return delegate.getGame(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        return delegate.findByTeam(teamName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return delegate.findStartedBetween(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return delegate.getGames();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return delegate.getSummary();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        return delegate.getSummary(offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+}
@@ -0,0 +1,456 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.comparator.GameComparators;
+import org.maperz.scoreboard.domain.event.GameFinished;
+import org.maperz.scoreboard.domain.event.GameStarted;
+import org.maperz.scoreboard.domain.event.ScoreUpdated;
+import org.maperz.scoreboard.domain.event.ScoreboardEvent;
+import org.maperz.scoreboard.domain.event.SummaryRankChanged;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator of a {@link Scoreboard} that publishes a {@link ScoreboardEvent} for every change.
+ * <p>
+ *     Events are delivered asynchronously on the given executor.
+ *     Every subscriber has its own bounded buffer and requests events through {@link Flow.Subscription#request(long)}.
+ *     When the buffer of a slow subscriber is full, the event is dropped for that subscriber instead of blocking
+ *     the mutating thread; dropped events are counted by {@link #getDroppedEvents()}.
+ *     Mutations are serialized so that events are published in the order the mutations were applied.
+ *     Events are only built while there is at least one subscriber. Meanwhile the decorator keeps the games in
+ *     summary order, so that ranks are found by binary search instead of copying the games on every mutation.
+ *     The index is rebuilt from a snapshot when the decorated scoreboard was mutated behind the decorator's back.
+ * </p>
+ */
+public class ObservableScoreboard implements Scoreboard, Flow.Publisher<ScoreboardEvent>, AutoCloseable {
+
+    /**
+     * The value of {@link #rankIndexVersion} once the index was found out of date, so that it is rebuilt.
+     */
+    private static final long STALE = -1;
+
+    /**
+     * The decorated scoreboard.
+     */
+    private final Scoreboard delegate;
+
+    /**
+     * The publisher delivering the events to the subscribers.
+     */
+    private final SubmissionPublisher<ScoreboardEvent> publisher;
+
+    /**
+     * The number of events dropped because of a full subscriber buffer.
+     */
+    private final LongAdder droppedEvents = new LongAdder();
+
+    /**
+     * The games in summary order, while there are subscribers. Guarded by this scoreboard.
+     *
+     * @implNote {@code null} while there are no subscribers.
+     */
+    private List<Game> rankIndex;
+
+    /**
+     * The version of the decorated scoreboard {@link #rankIndex} was last brought up to date with, or {@link #STALE}.
+     */
+    private long rankIndexVersion;
+
+    /**
+     * Creates a new ObservableScoreboard delivering events on the common pool with the default buffer size.
+     *
+     * @param delegate The decorated scoreboard.
+     */
+    public ObservableScoreboard(final Scoreboard delegate) {
+        this(delegate, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a new ObservableScoreboard.
+     *
+     * @param delegate The decorated scoreboard.
+     * @param executor The executor delivering the events.
+     * @param bufferCapacity The maximum number of undelivered events per subscriber.
+     */
+    public ObservableScoreboard(final Scoreboard delegate, final Executor executor, final int bufferCapacity) {
+        this.delegate = delegate;
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        if (!publisher.hasSubscribers()) {
+            rankIndex = null;
+            return delegate.startGame(homeTeamName, awayTeamName, startTime);
+        }
+        prepareRankIndex();
+        final UUID id = delegate.startGame(homeTeamName, awayTeamName, startTime);
+        final Optional<Game> game = delegate.getGame(id);
+        if (game.isPresent()) {
+            final int rank = addRanked(game.get());
+            publish(new GameStarted(rankIndexUpdated(), game.get(), rank));
+        }
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        if (!publisher.hasSubscribers()) {
+            rankIndex = null;
+            delegate.updateScore(id, homeScore, awayScore);
+            return;
+        }
+        prepareRankIndex();
+        final Optional<Game> previous = delegate.getGame(id);
+        delegate.updateScore(id, homeScore, awayScore);
+        final Optional<Game> updated = delegate.getGame(id);
+        if (previous.isEmpty() || updated.isEmpty()) {
+            rankIndexVersion = STALE;
+            return;
+        }
+        final int previousRank = removeRanked(previous.get());
+        final int rank = addRanked(updated.get());
+        final long version = rankIndexUpdated();
+        publish(new ScoreUpdated(version, updated.get(), previous.get().score()));
+        if (previousRank != rank) {
+            publish(new SummaryRankChanged(version, id, previousRank, rank));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void finishGame(final UUID id) throws GameNotFoundException {
+        if (!publisher.hasSubscribers()) {
+            rankIndex = null;
+            delegate.finishGame(id);
+            return;
+        }
+        prepareRankIndex();
+        final Optional<Game> game = delegate.getGame(id);
+        delegate.finishGame(id);
+        if (game.isPresent()) {
+            removeRanked(game.get());
+            publish(new GameFinished(rankIndexUpdated(), game.get()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void restoreGames(final Collection<Game> games) throws InvalidTeamNameException {
+        if (!publisher.hasSubscribers()) {
+            rankIndex = null;
+            delegate.restoreGames(games);
+            return;
+        }
+        prepareRankIndex();
+        delegate.restoreGames(games);
+        for (final Game game : games) {
+            addRanked(game);
+        }
+        final long version = rankIndexUpdated();
+        for (final Game game : games) {
+            publish(new GameStarted(version, game, rank(game)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The batch is applied by the decorated scoreboard. The events of the successful operations are
+     * published afterwards, all with the version reached at the end of the batch. Every game gets at most one
+     * {@link ScoreUpdated} event per batch, and games started within the batch are only reported by their
+     * {@link GameStarted} event with the score reached at the end of the batch.
+     */
+    @Override
+    public synchronized List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        if (!publisher.hasSubscribers()) {
+            rankIndex = null;
+            return delegate.applyBatch(operations);
+        }
+        prepareRankIndex();
+        final Map<UUID, Game> previousGames = new HashMap<>();
+        for (final ScoreboardOperation operation : operations) {
+            final UUID id = switch (operation) {
+                case StartGame start -> null;
+                case UpdateScore update -> update.id();
+                case FinishGame finish -> finish.id();
+            };
+            if (id != null && !previousGames.containsKey(id)) {
+                delegate.getGame(id).ifPresent(game -> previousGames.put(id, game));
+            }
+        }
+        final List<OperationResult> results = delegate.applyBatch(operations);
+
+        final Map<UUID, Game> currentGames = new LinkedHashMap<>();
+        for (final OperationResult result : results) {
+            if (result.isSuccess() && !currentGames.containsKey(result.gameId())) {
+                currentGames.put(result.gameId(), delegate.getGame(result.gameId()).orElse(null));
+            }
+        }
+        final Map<UUID, Integer> previousRanks = new HashMap<>();
+        for (final Map.Entry<UUID, Game> changed : currentGames.entrySet()) {
+            final Game previous = previousGames.get(changed.getKey());
+            if (previous != null) {
+                previousRanks.put(changed.getKey(), rank(previous));
+            }
+        }
+        for (final Map.Entry<UUID, Game> changed : currentGames.entrySet()) {
+            final Game previous = previousGames.get(changed.getKey());
+            if (previous != null && !previous.equals(changed.getValue())) {
+                removeRanked(previous);
+            }
+        }
+        for (final Map.Entry<UUID, Game> changed : currentGames.entrySet()) {
+            final Game current = changed.getValue();
+            if (current != null && !current.equals(previousGames.get(changed.getKey()))) {
+                addRanked(current);
+            }
+        }
+        final long version = rankIndexUpdated();
+
+        for (final OperationResult result : results) {
+            if (!result.isSuccess()) {
+                continue;
+            }
+            final Game previous = previousGames.get(result.gameId());
+            final Game current = currentGames.get(result.gameId());
+            switch (result.operation()) {
+                case StartGame start -> {
+                    if (current != null) {
+                        publish(new GameStarted(version, current, rank(current)));
+                    }
+                }
+                case UpdateScore update -> {
+                    if (previous != null && current != null && !previous.score().equals(current.score())) {
+                        publish(new ScoreUpdated(version, current, previous.score()));
+                        final int previousRank = previousRanks.get(current.id());
+                        final int rank = rank(current);
+                        if (previousRank != rank) {
+                            publish(new SummaryRankChanged(version, current.id(), previousRank, rank));
+                        }
+                        previousGames.put(current.id(), current);
+                    }
+                }
+                case FinishGame finish -> {
+                    if (previous != null) {
+                        publish(new GameFinished(version, previous));
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return delegate.getGame(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        return delegate.findByTeam(teamName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return delegate.findStartedBetween(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return delegate.getGames();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return delegate.getSummary();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        return delegate.getSummary(offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    /**
+     * Retrieves the number of events dropped because the buffer of a subscriber was full.
+     *
+     * @return The number of dropped events, counted once per subscriber.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Completes all subscriptions. No events are published afterwards.
+     */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+
+    /**
+     * Offers an event to every subscriber without blocking.
+     *
+     * @param event The event.
+     */
+    private void publish(final ScoreboardEvent event) {
+        publisher.offer(event, (subscriber, dropped) -> {
+            droppedEvents.increment();
+            return false;
+        });
+    }
+
+    /**
+     * Rebuilds {@link #rankIndex} from a snapshot, unless it is up to date with the decorated scoreboard.
+     * Must be called before a mutation, while holding the lock of this scoreboard.
+     */
+    private void prepareRankIndex() {
+        if (rankIndex != null && rankIndexVersion == delegate.getVersion()) {
+            return;
+        }
+        final ScoreboardSnapshot snapshot = delegate.getSnapshot();
+        rankIndex = new ArrayList<>(snapshot.summary());
+        rankIndexVersion = snapshot.version();
+    }
+
+    /**
+     * Records that {@link #rankIndex} reflects the mutation just applied.
+     *
+     * @return The version of the decorated scoreboard after the mutation.
+     */
+    private long rankIndexUpdated() {
+        final long version = delegate.getVersion();
+        if (rankIndexVersion != STALE) {
+            rankIndexVersion = version;
+        }
+        return version;
+    }
+
+    /**
+     * Finds the position of a game in {@link #rankIndex}.
+     *
+     * @param game The game.
+     * @return The position of the game, starting at 0, or the position it would have if the index is out of date.
+     */
+    private int rank(final Game game) {
+        final int position = Collections.binarySearch(rankIndex, game, GameComparators.SUMMARY_ORDER);
+        return position >= 0 ? position : -(position + 1);
+    }
+
+    /**
+     * Adds a game to {@link #rankIndex}.
+     *
+     * @param game The game.
+     * @return The position of the game, starting at 0.
+     */
+    private int addRanked(final Game game) {
+        final int position = Collections.binarySearch(rankIndex, game, GameComparators.SUMMARY_ORDER);
+        if (position >= 0) {
+            rankIndexVersion = STALE;
+            return position;
+        }
+        rankIndex.add(-(position + 1), game);
+        return -(position + 1);
+    }
+
+    /**
+     * Removes a game from {@link #rankIndex}.
+     *
+     * @param game The game as it was indexed.
+     * @return The position the game had, starting at 0.
+     */
+    private int removeRanked(final Game game) {
+        final int position = Collections.binarySearch(rankIndex, game, GameComparators.SUMMARY_ORDER);
+        if (position < 0) {
+            rankIndexVersion = STALE;
+            return -(position + 1);
+        }
+        rankIndex.remove(position);
+        return position;
+    }
+
+}
@@ -0,0 +1,278 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.infrastructure.log.BinaryCodec;
+import org.maperz.scoreboard.infrastructure.log.Mutation;
+import org.maperz.scoreboard.infrastructure.log.SequencedMutation;
+import org.maperz.scoreboard.infrastructure.log.SnapshotFile;
+import org.maperz.scoreboard.infrastructure.replication.ReplicationFollower;
+import org.maperz.scoreboard.infrastructure.replication.ReplicationPrimary;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorator of a {@link Scoreboard} that replicates every mutation to followers through a {@link ReplicationPrimary}.
+ * <p>
+ *     Mutations are serialized and numbered in the order they were applied, and published to the primary, which
+ *     streams them to the connected {@link ReplicationFollower}s in the background. Followers joining late or
+ *     falling too far behind receive a snapshot of the games, taken between two mutations.
+ *     All mutations must go through this decorator for the followers to stay in sync. Start times that cannot be
+ *     encoded are rejected before they are applied, so that every published mutation can be sent.
+ * </p>
+ */
+public class ReplicatedScoreboard implements Scoreboard, AutoCloseable {
+
+    /**
+     * The decorated scoreboard.
+     */
+    private final Scoreboard delegate;
+
+    /**
+     * The sequence number of the last mutation. Guarded by this scoreboard.
+     */
+    private long sequence;
+
+    /**
+     * The primary streaming the mutations to the followers.
+     */
+    private final ReplicationPrimary primary;
+
+    /**
+     * Creates a new ReplicatedScoreboard and starts listening for followers.
+     *
+     * @param delegate The decorated scoreboard. Games it already holds are sent to the followers as a snapshot.
+     * @param address The address to listen on, e.g. port 0 for an ephemeral port.
+     * @param backlogCapacity The number of mutations kept for followers catching up.
+     * @throws IOException If the primary cannot listen on the address.
+     */
+    public ReplicatedScoreboard(final Scoreboard delegate, final InetSocketAddress address, final int backlogCapacity) throws IOException {
+        this.delegate = delegate;
+        this.primary = ReplicationPrimary.start(address, backlogCapacity, this::replicationSnapshot);
+    }
+
+    /**
+     * @return The address followers connect to.
+     * @throws IOException If the address cannot be read.
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return primary.getAddress();
+    }
+
+    /**
+     * @return The sequence number of the last mutation, which followers have caught up to once they applied it.
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return The number of connected followers.
+     */
+    public int getFollowerCount() {
+        return primary.getFollowerCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException If the start time cannot be replicated, see {@link BinaryCodec#validateTime(LocalDateTime)}.
+     */
+    @Override
+    public synchronized UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        BinaryCodec.validateTime(startTime);
+        final UUID id = delegate.startGame(homeTeamName, awayTeamName, startTime);
+        publish(new Mutation.Start(new Game(id, new Team(homeTeamName), new Team(awayTeamName), new Score(0, 0), startTime)));
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        delegate.updateScore(id, homeScore, awayScore);
+        publish(new Mutation.Update(id, homeScore, awayScore));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        final UpdateStatus status = delegate.tryUpdateScore(id, homeScore, awayScore);
+        if (status == UpdateStatus.UPDATED) {
+            publish(new Mutation.Update(id, homeScore, awayScore));
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void finishGame(final UUID id) throws GameNotFoundException {
+        delegate.finishGame(id);
+        publish(new Mutation.Finish(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException If a start time cannot be replicated, see {@link BinaryCodec#validateTime(LocalDateTime)}.
+     */
+    @Override
+    public synchronized void restoreGames(final Collection<Game> games) throws InvalidTeamNameException {
+        for (final Game game : games) {
+            BinaryCodec.validateTime(game.startTime());
+        }
+        delegate.restoreGames(games);
+        publish(games.stream().<Mutation>map(Mutation.Start::new).toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The successful operations of the batch are published after the batch has been applied.
+     * @throws IllegalArgumentException If a start time cannot be replicated; no operation is applied then.
+     */
+    @Override
+    public synchronized List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        for (final ScoreboardOperation operation : operations) {
+            if (operation instanceof StartGame start) {
+                BinaryCodec.validateTime(start.startTime());
+            }
+        }
+        final List<OperationResult> results = delegate.applyBatch(operations);
+        publish(Mutation.of(results));
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return delegate.getGame(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        return delegate.findByTeam(teamName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return delegate.findStartedBetween(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return delegate.getGames();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return delegate.getSummary();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        return delegate.getSummary(offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    /**
+     * Stops listening and disconnects the followers.
+     */
+    @Override
+    public void close() {
+        primary.close();
+    }
+
+    /**
+     * Numbers and publishes a mutation. Must be called while holding the lock of this scoreboard.
+     *
+     * @param mutation The applied mutation.
+     */
+    private void publish(final Mutation mutation) {
+        primary.publish(List.of(new SequencedMutation(++sequence, mutation)));
+    }
+
+    /**
+     * Numbers and publishes mutations. Must be called while holding the lock of this scoreboard.
+     *
+     * @param mutations The applied mutations, in order.
+     */
+    private void publish(final List<Mutation> mutations) {
+        final List<SequencedMutation> sequenced = new ArrayList<>(mutations.size());
+        for (final Mutation mutation : mutations) {
+            sequenced.add(new SequencedMutation(++sequence, mutation));
+        }
+        primary.publish(sequenced);
+    }
+
+    /**
+     * Takes a snapshot of the games for a follower, between two mutations.
+     *
+     * @return The games and the sequence number of the last mutation they include.
+     */
+    private synchronized SnapshotFile.Snapshot replicationSnapshot() {
+        return new SnapshotFile.Snapshot(sequence, delegate.getGames());
+    }
+
+}
@@ -1,12 +1,24 @@
 package org.maperz.scoreboard.application;
 
+import org.maperz.scoreboard.domain.comparator.GameComparators;
 import org.maperz.scoreboard.domain.exception.GameNotFoundException;
 import org.maperz.scoreboard.domain.exception.InvalidScoreException;
 import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
 import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+import org.maperz.scoreboard.domain.validator.GameValidator;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -47,6 +59,29 @@ public interface Scoreboard {
      */
     void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException;
 
+    /**
+     * Updates the score of the Game identified by the given id, reporting a rejection as a status instead of
+     * throwing, e.g. for feeds that replay duplicate updates.
+     *
+     * @implSpec The default implementation calls {@link #updateScore(UUID, int, int)} and maps its exceptions.
+     * Implementations may override it to reject updates without creating exceptions.
+     *
+     * @param id The unique identifier of the Game.
+     * @param homeScore The updated score of the home team.
+     * @param awayScore The updated score of the away team.
+     * @return {@link UpdateStatus#UPDATED} if the score was updated, otherwise the reason it was rejected.
+     */
+    default UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        try {
+            updateScore(id, homeScore, awayScore);
+            return UpdateStatus.UPDATED;
+        } catch (GameNotFoundException e) {
+            return UpdateStatus.GAME_NOT_FOUND;
+        } catch (InvalidScoreException e) {
+            return homeScore < 0 || awayScore < 0 ? UpdateStatus.NEGATIVE_SCORE : UpdateStatus.UNCHANGED_SCORE;
+        }
+    }
+
     /**
      * Finishes the Game identified by the given id.
      *
@@ -55,6 +90,67 @@ public interface Scoreboard {
      */
     void finishGame(final UUID id) throws GameNotFoundException;
 
+    /**
+     * Restores previously started Games with their identifiers, scores and start times, e.g. when recovering state.
+     * The Games are installed in one step: either all of them are restored, or none is.
+     *
+     * @param games The Games to restore.
+     * @throws InvalidTeamNameException If a team name is invalid, or a team is already playing in another Game.
+     * @throws IllegalArgumentException If a Game with the same identifier already exists.
+     */
+    void restoreGames(final Collection<Game> games) throws InvalidTeamNameException;
+
+    /**
+     * Applies a batch of operations in order.
+     * Every operation is validated against the state left by the operations before it.
+     * Rejected operations are reported in their result and skipped; they do not stop the batch.
+     *
+     * @implSpec The default implementation applies the operations one by one.
+     * Implementations may override it to make the whole batch visible to readers at once.
+     *
+     * @param operations The operations to apply.
+     * @return The result of every operation, in the order of the operations.
+     */
+    default List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        final List<OperationResult> results = new ArrayList<>(operations.size());
+        for (final ScoreboardOperation operation : operations) {
+            results.add(switch (operation) {
+                case StartGame start -> {
+                    try {
+                        yield OperationResult.success(operation, startGame(start.homeTeamName(), start.awayTeamName(), start.startTime()));
+                    } catch (InvalidTeamNameException e) {
+                        yield OperationResult.failure(operation, null, e);
+                    }
+                }
+                case UpdateScore update -> {
+                    try {
+                        updateScore(update.id(), update.homeScore(), update.awayScore());
+                        yield OperationResult.success(operation, update.id());
+                    } catch (GameNotFoundException | InvalidScoreException e) {
+                        yield OperationResult.failure(operation, update.id(), e);
+                    }
+                }
+                case FinishGame finish -> {
+                    try {
+                        finishGame(finish.id());
+                        yield OperationResult.success(operation, finish.id());
+                    } catch (GameNotFoundException e) {
+                        yield OperationResult.failure(operation, finish.id(), e);
+                    }
+                }
+            });
+        }
+        return results;
+    }
+
+    /**
+     * Retrieves the Game identified by the given id.
+     *
+     * @param id The unique identifier of the Game.
+     * @return The Game, or an empty Optional if the Game is not found.
+     */
+    Optional<Game> getGame(final UUID id);
+
     /**
      * Retrieves a list of all Games.
      *
@@ -62,6 +158,40 @@ public interface Scoreboard {
      */
     List<Game> getGames();
 
+    /**
+     * Retrieves the Game a team is currently playing in, as home or away team.
+     *
+     * @implSpec The default implementation scans all Games.
+     * Implementations may override it to look the team up in an index.
+     *
+     * @param teamName The name of the team, ignoring case.
+     * @return The Game, or an empty Optional if the team is not playing.
+     */
+    default Optional<Game> findByTeam(final String teamName) {
+        final String key = GameValidator.normalizeTeamName(teamName);
+        return getGames().stream()
+                .filter(game -> GameValidator.normalizeTeamName(game.homeTeam().name()).equals(key)
+                        || GameValidator.normalizeTeamName(game.awayTeam().name()).equals(key))
+                .findFirst();
+    }
+
+    /**
+     * Retrieves the Games started within a time range, ordered by start time.
+     *
+     * @implSpec The default implementation scans and sorts all Games.
+     * Implementations may override it to look the range up in an index.
+     *
+     * @param from The earliest start time, inclusive.
+     * @param to The latest start time, exclusive.
+     * @return The Games started within the range, empty if the range is empty.
+     */
+    default List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return getGames().stream()
+                .filter(game -> !game.startTime().isBefore(from) && game.startTime().isBefore(to))
+                .sorted(GameComparators.COMPARE_BY_START_TIME.reversed())
+                .toList();
+    }
+
     /**
      * Retrieves a sorted summary of all Games.
      * The Games are sorted by total score.
@@ -72,4 +202,52 @@ public interface Scoreboard {
      * @return A list of all Games with their summary.
      */
     List<Game> getSummary();
+
+    /**
+     * Retrieves a page of the sorted summary, in the same order as {@link #getSummary()}.
+     *
+     * @implSpec The default implementation slices the full summary.
+     * Implementations may override it to avoid sorting Games outside the page.
+     *
+     * @param offset The number of Games to skip.
+     * @param limit The maximum number of Games to return.
+     * @return The Games of the page, fewer than the limit at the end of the summary.
+     * @throws IllegalArgumentException If the offset or the limit is negative.
+     */
+    default List<Game> getSummary(final int offset, final int limit) {
+        GameValidator.validatePage(offset, limit);
+        final List<Game> summary = getSummary();
+        return summary.subList(Math.min(offset, summary.size()), (int) Math.min(summary.size(), (long) offset + limit));
+    }
+
+    /**
+     * Retrieves the first Games of the sorted summary.
+     *
+     * @param k The maximum number of Games to return.
+     * @return The first k Games of the summary, or all Games if there are fewer.
+     * @throws IllegalArgumentException If k is negative.
+     */
+    default List<Game> getTopGames(final int k) {
+        return getSummary(0, k);
+    }
+
+    /**
+     * Retrieves an immutable snapshot of all Games together with the version of the scoreboard.
+     * The version increases with every mutation, so clients can skip work when it has not changed.
+     *
+     * @return The current snapshot.
+     */
+    ScoreboardSnapshot getSnapshot();
+
+    /**
+     * Retrieves the current version of the scoreboard, the version {@link #getSnapshot()} would be taken at.
+     *
+     * @implSpec The default implementation takes a snapshot.
+     * Implementations may override it to read their version counter without building a snapshot.
+     *
+     * @return The current version.
+     */
+    default long getVersion() {
+        return getSnapshot().version();
+    }
 }
@@ -1,28 +1,33 @@
 package org.maperz.scoreboard.application;
 
+import org.maperz.scoreboard.domain.comparator.GameComparators;
 import org.maperz.scoreboard.domain.validator.GameValidator;
 import org.maperz.scoreboard.domain.exception.InvalidScoreException;
 import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
 import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.id.GameIdGenerator;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
 import org.maperz.scoreboard.domain.model.Game;
-import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.team.TeamRegistry;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
 /**
  * Implementation of the {@link Scoreboard} interface.
+ * <p>
+ *     By default the snapshot is rebuilt lazily on the first read after a mutation.
+ *     In copy-on-write mode every mutation publishes a new snapshot together with immutable copies of the lookup
+ *     indexes, so that reads and lookups are a single volatile read and may be performed by any number of threads
+ *     while a single thread mutates the scoreboard.
+ * </p>
  */
 public class ScoreboardImpl implements Scoreboard {
-    /**
-     * Comparator to sort games by start time.
-     */
-    private static final Comparator<Game> COMPARE_BY_START_TIME = Comparator.comparing(Game::startTime).reversed();
-
-    /**
-     * Comparator to sort games by total score.
-     */
-    private static final Comparator<Game> COMPARE_BY_TOTAL_SCORE = Comparator.comparingInt(game -> game.score().getTotalScore());
 
     /**
      * The map of games.
@@ -39,6 +44,148 @@ public class ScoreboardImpl implements Scoreboard {
      */
     private final Map<UUID, Game> games = new HashMap<>();
 
+    /**
+     * The initial number of teams the index of teams currently playing has room for.
+     */
+    private static final int INITIAL_TEAMS = 64;
+
+    /**
+     * Interns the teams and assigns their ids.
+     */
+    private final TeamRegistry teams;
+
+    /**
+     * The index of teams currently playing.
+     * <p>
+     *     Indexed by the id of the team in {@link #teams}.
+     *     The value is the unique identifier of the game the team is playing in, or {@code null}.
+     *     Every game has exactly two entries, set on start and cleared on finish.
+     * </p>
+     */
+    private UUID[] activeGames = new UUID[INITIAL_TEAMS];
+
+    /**
+     * Whether the team with the given id is the home team of the game it is playing in, indexed like {@link #activeGames}.
+     */
+    private boolean[] playingHome = new boolean[INITIAL_TEAMS];
+
+    /**
+     * The games in summary order.
+     * <p>
+     *     The index is kept up to date by every mutation, so the summary never has to be sorted again.
+     *     It always contains exactly the values of {@link #games}.
+     * </p>
+     *
+     * @implNote Ordered by {@link GameComparators#SUMMARY_ORDER}.
+     */
+    private final NavigableSet<Game> summaryIndex = new TreeSet<>(GameComparators.SUMMARY_ORDER);
+
+    /**
+     * The games by start time, kept up to date like {@link #summaryIndex}.
+     */
+    private final StartTimeIndex startTimes = new StartTimeIndex(new TreeSet<>());
+
+    /**
+     * Whether every mutation publishes a new snapshot.
+     */
+    private final boolean copyOnWrite;
+
+    /**
+     * Generates the identifiers of started games.
+     */
+    private final GameIdGenerator idGenerator;
+
+    /**
+     * The number of mutations applied so far.
+     * <p>
+     *     Only read by the mutating thread; other threads read the version of the published {@link #snapshot}.
+     * </p>
+     */
+    private long version;
+
+    /**
+     * Whether a batch is being applied.
+     * <p>
+     *     While a batch is applied, mutations are only recorded in {@link #batchMutated}
+     *     and the snapshot is republished once at the end of the batch.
+     * </p>
+     */
+    private boolean batching;
+
+    /**
+     * Whether the batch being applied has mutated the scoreboard.
+     */
+    private boolean batchMutated;
+
+    /**
+     * The cached immutable snapshot.
+     * <p>
+     *     Built from {@link #summaryIndex} after a mutation and reused until the next one.
+     * </p>
+     *
+     * @implNote {@code null} when the snapshot has been invalidated, which never happens in copy-on-write mode.
+     */
+    private volatile ScoreboardSnapshot snapshot = ScoreboardSnapshot.EMPTY;
+
+    /**
+     * The lookup indexes published with every snapshot in copy-on-write mode.
+     *
+     * @param games The games, keyed by their identifier.
+     * @param teamGames The game every team is playing in, indexed by the id of the team, or {@code null}.
+     * @param startTimes The games, ordered by start time.
+     */
+    private record Lookup(Map<UUID, Game> games, Game[] teamGames, List<Game> startTimes) {
+    }
+
+    /**
+     * The lookup indexes of an empty scoreboard.
+     */
+    private static final Lookup EMPTY_LOOKUP = new Lookup(Map.of(), new Game[0], List.of());
+
+    /**
+     * The lookup indexes published with {@link #snapshot} in copy-on-write mode, and only read in that mode.
+     */
+    private volatile Lookup lookup = EMPTY_LOOKUP;
+
+    /**
+     * Creates a new ScoreboardImpl that builds its snapshot lazily.
+     */
+    public ScoreboardImpl() {
+        this(false);
+    }
+
+    /**
+     * Creates a new ScoreboardImpl.
+     *
+     * @param copyOnWrite Whether every mutation publishes a new snapshot.
+     */
+    public ScoreboardImpl(final boolean copyOnWrite) {
+        this(copyOnWrite, GameIdGenerators.RANDOM);
+    }
+
+    /**
+     * Creates a new ScoreboardImpl.
+     *
+     * @param copyOnWrite Whether every mutation publishes a new snapshot.
+     * @param idGenerator Generates the identifiers of started games.
+     */
+    public ScoreboardImpl(final boolean copyOnWrite, final GameIdGenerator idGenerator) {
+        this(copyOnWrite, idGenerator, new TeamRegistry());
+    }
+
+    /**
+     * Creates a new ScoreboardImpl.
+     *
+     * @param copyOnWrite Whether every mutation publishes a new snapshot.
+     * @param idGenerator Generates the identifiers of started games.
+     * @param teams Interns the teams, possibly shared with other scoreboards.
+     */
+    public ScoreboardImpl(final boolean copyOnWrite, final GameIdGenerator idGenerator, final TeamRegistry teams) {
+        this.copyOnWrite = copyOnWrite;
+        this.idGenerator = idGenerator;
+        this.teams = teams;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -52,13 +199,13 @@ public class ScoreboardImpl implements Scoreboard {
      */
     @Override
     public UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
-            GameValidator.validateTeamNames(homeTeamName, awayTeamName, games.values().stream().toList());
-            final Team homeTeam = new Team(homeTeamName);
-            final Team awayTeam = new Team(awayTeamName);
-            final Game game = new Game(homeTeam, awayTeam, startTime);
-            games.put(game.id(), game);
-            return game.id();
-
+        validateTeams(homeTeamName, awayTeamName);
+        final TeamRegistry.RegisteredTeam homeTeam = teams.register(homeTeamName);
+        final TeamRegistry.RegisteredTeam awayTeam = teams.register(awayTeamName);
+        final Game game = new Game(idGenerator.nextId(), homeTeam.team(), awayTeam.team(), new Score(0, 0), startTime);
+        register(game, homeTeam.id(), awayTeam.id());
+        mutated();
+        return game.id();
     }
 
     /**
@@ -66,11 +213,27 @@ public class ScoreboardImpl implements Scoreboard {
      */
     @Override
     public void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
-        GameValidator.validateId(id, games);
+        GameValidator.validateUpdate(tryUpdateScore(id, homeScore, awayScore), id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
         final Game game = games.get(id);
-        GameValidator.validateScore(homeScore, awayScore, game);
-        final Game updatedGame = game.withUpdatedScore(homeScore, awayScore);
-        games.put(id, updatedGame);
+        if (game == null) {
+            return UpdateStatus.GAME_NOT_FOUND;
+        }
+        final UpdateStatus status = GameValidator.checkScore(homeScore, awayScore, game.score().homeScore(), game.score().awayScore());
+        if (status.isUpdated()) {
+            final Game updatedGame = game.withUpdatedScore(homeScore, awayScore);
+            games.put(id, updatedGame);
+            summaryIndex.remove(game);
+            summaryIndex.add(updatedGame);
+            mutated();
+        }
+        return status;
     }
 
     /**
@@ -79,7 +242,100 @@ public class ScoreboardImpl implements Scoreboard {
     @Override
     public void finishGame(final UUID id) throws GameNotFoundException {
         GameValidator.validateId(id, games);
-        games.remove(id);
+        unregister(games.get(id));
+        mutated();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The Games are validated and registered in a single pass; a rejected Game rolls back
+     * the ones registered before it. The restore counts as a single mutation.
+     */
+    @Override
+    public void restoreGames(final Collection<Game> restoredGames) throws InvalidTeamNameException {
+        final List<Game> registered = new ArrayList<>(restoredGames.size());
+        try {
+            for (final Game game : restoredGames) {
+                if (games.containsKey(game.id())) {
+                    throw new IllegalArgumentException("Match already exists with id: " + game.id());
+                }
+                validateTeams(game.homeTeam().name(), game.awayTeam().name());
+                register(game, teams.id(game.homeTeam()), teams.id(game.awayTeam()));
+                registered.add(game);
+            }
+        } catch (InvalidTeamNameException | RuntimeException e) {
+            registered.forEach(this::unregister);
+            throw e;
+        }
+        if (!registered.isEmpty()) {
+            mutated();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The whole batch counts as a single mutation: the version is increased once
+     * and the snapshot is rebuilt once, after the last operation.
+     */
+    @Override
+    public List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        batching = true;
+        batchMutated = false;
+        try {
+            return Scoreboard.super.applyBatch(operations);
+        } finally {
+            batching = false;
+            if (batchMutated) {
+                mutated();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return Optional.ofNullable(copyOnWrite ? lookup.games().get(id) : games.get(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the team up in the index of teams currently playing. In copy-on-write mode the copy of the
+     * index published with the snapshot is used instead, so that any thread may call it.
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        final int teamId = teams.find(teamName);
+        if (copyOnWrite) {
+            final Game[] teamGames = lookup.teamGames();
+            return teamId == TeamRegistry.NO_TEAM || teamId >= teamGames.length ? Optional.empty() : Optional.ofNullable(teamGames[teamId]);
+        }
+        if (teamId == TeamRegistry.NO_TEAM || !isPlaying(teamId)) {
+            return Optional.empty();
+        }
+        return Optional.of(games.get(activeGames[teamId]));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the range up in the index of start times. In copy-on-write mode the range is found by binary
+     * search in the games published with the snapshot ordered by start time, so that any thread may call it.
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        if (copyOnWrite) {
+            return publishedBetween(lookup.startTimes(), from, to);
+        }
+        final List<Game> started = new ArrayList<>();
+        for (final UUID id : startTimes.between(from, to)) {
+            started.add(games.get(id));
+        }
+        return started;
     }
 
     /**
@@ -87,7 +343,7 @@ public class ScoreboardImpl implements Scoreboard {
      */
     @Override
     public List<Game> getGames() {
-        return games.values().stream().toList();
+        return getSnapshot().games();
     }
 
     /**
@@ -95,9 +351,204 @@ public class ScoreboardImpl implements Scoreboard {
      */
     @Override
     public List<Game> getSummary() {
-        return games.values().stream()
-                .sorted(COMPARE_BY_TOTAL_SCORE.reversed().thenComparing(COMPARE_BY_START_TIME))
-                .toList();
+        return getSnapshot().summary();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote If the snapshot is up to date, the page is a view of its summary. Otherwise the sorted summary
+     * index is walked up to the end of the page, so only {@code offset + limit} games are visited.
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        final ScoreboardSnapshot current = snapshot;
+        if (current != null) {
+            return current.summary(offset, limit);
+        }
+        GameValidator.validatePage(offset, limit);
+        final List<Game> page = new ArrayList<>(Math.min(limit, Math.max(0, games.size() - offset)));
+        final Iterator<Game> iterator = summaryIndex.iterator();
+        for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (page.size() < limit && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        return Collections.unmodifiableList(page);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        ScoreboardSnapshot current = snapshot;
+        if (current == null) {
+            current = buildSnapshot();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote In copy-on-write mode the version of the published snapshot is returned, so that any thread may
+     * call it and never sees a version ahead of {@link #getSnapshot()}.
+     */
+    @Override
+    public long getVersion() {
+        return copyOnWrite ? snapshot.version() : version;
+    }
+
+    /**
+     * Adds a game to the map of games and to the indexes.
+     *
+     * @param game The game to add.
+     * @param homeTeamId The id of the home team.
+     * @param awayTeamId The id of the away team.
+     */
+    private void register(final Game game, final int homeTeamId, final int awayTeamId) {
+        final int teamCount = Math.max(homeTeamId, awayTeamId) + 1;
+        if (teamCount > activeGames.length) {
+            final int capacity = Math.max(teamCount, 2 * activeGames.length);
+            activeGames = Arrays.copyOf(activeGames, capacity);
+            playingHome = Arrays.copyOf(playingHome, capacity);
+        }
+        games.put(game.id(), game);
+        activeGames[homeTeamId] = game.id();
+        playingHome[homeTeamId] = true;
+        activeGames[awayTeamId] = game.id();
+        playingHome[awayTeamId] = false;
+        summaryIndex.add(game);
+        startTimes.add(game.startTime(), game.id());
+    }
+
+    /**
+     * Removes a game from the map of games and from the indexes.
+     *
+     * @param game The game to remove.
+     */
+    private void unregister(final Game game) {
+        games.remove(game.id());
+        activeGames[teams.id(game.homeTeam())] = null;
+        activeGames[teams.id(game.awayTeam())] = null;
+        summaryIndex.remove(game);
+        startTimes.remove(game.startTime(), game.id());
+    }
+
+    /**
+     * Validates the team names of a game to be started or restored.
+     * <p>
+     *     The teams are looked up without registering them, so that rejected games do not grow the registry.
+     *     A team that was never registered is not playing.
+     * </p>
+     *
+     * @param homeTeamName The name of the home team.
+     * @param awayTeamName The name of the away team.
+     * @throws InvalidTeamNameException If a name is invalid, both names are the same or a team is already playing.
+     */
+    private void validateTeams(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        GameValidator.validateTeamName(homeTeamName);
+        GameValidator.validateTeamName(awayTeamName);
+        final int homeTeamId = teams.find(homeTeamName);
+        final int awayTeamId = teams.find(awayTeamName);
+        if (homeTeamId != TeamRegistry.NO_TEAM || awayTeamId != TeamRegistry.NO_TEAM) {
+            GameValidator.validateTeamIds(homeTeamId, awayTeamId, this::isPlaying, this::isPlayingHome);
+        } else if (GameValidator.normalizeTeamName(homeTeamName).equals(GameValidator.normalizeTeamName(awayTeamName))) {
+            throw new InvalidTeamNameException("Home team name and away team name must not be the same");
+        }
+    }
+
+    /**
+     * @param teamId The id of a team, or {@link TeamRegistry#NO_TEAM}.
+     * @return Whether the team is currently playing.
+     */
+    private boolean isPlaying(final int teamId) {
+        return teamId >= 0 && teamId < activeGames.length && activeGames[teamId] != null;
+    }
+
+    /**
+     * @param teamId The id of a team currently playing.
+     * @return Whether the team is the home team of the game it is playing in.
+     */
+    private boolean isPlayingHome(final int teamId) {
+        return playingHome[teamId];
+    }
+
+    /**
+     * Records a mutation and invalidates or republishes the snapshot.
+     */
+    private void mutated() {
+        if (batching) {
+            batchMutated = true;
+            return;
+        }
+        version++;
+        if (copyOnWrite) {
+            lookup = buildLookup();
+            snapshot = buildSnapshot();
+        } else {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Copies the lookup indexes, to be published with the snapshot in copy-on-write mode.
+     *
+     * @return The lookup indexes.
+     */
+    private Lookup buildLookup() {
+        final Game[] teamGames = new Game[activeGames.length];
+        for (int teamId = 0; teamId < activeGames.length; teamId++) {
+            if (activeGames[teamId] != null) {
+                teamGames[teamId] = games.get(activeGames[teamId]);
+            }
+        }
+        final List<Game> byStartTime = new ArrayList<>(games.size());
+        for (final UUID id : startTimes.all()) {
+            byStartTime.add(games.get(id));
+        }
+        return new Lookup(Map.copyOf(games), teamGames, Collections.unmodifiableList(byStartTime));
+    }
+
+    /**
+     * Finds the games started within a time range in a published list of games ordered by start time.
+     *
+     * @param byStartTime The games, ordered by start time.
+     * @param from The earliest start time, inclusive.
+     * @param to The latest start time, exclusive.
+     * @return The games started within the range, ordered by start time.
+     */
+    private static List<Game> publishedBetween(final List<Game> byStartTime, final LocalDateTime from, final LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+        int low = 0;
+        int high = byStartTime.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (byStartTime.get(middle).startTime().isBefore(from)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        final List<Game> started = new ArrayList<>();
+        for (int i = low; i < byStartTime.size() && byStartTime.get(i).startTime().isBefore(to); i++) {
+            started.add(byStartTime.get(i));
+        }
+        return started;
+    }
+
+    /**
+     * Builds a snapshot of the current state.
+     *
+     * @return The snapshot.
+     */
+    private ScoreboardSnapshot buildSnapshot() {
+        return new ScoreboardSnapshot(version, List.copyOf(games.values()), List.copyOf(summaryIndex));
     }
 
 }
@@ -0,0 +1,301 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.IngestStatus;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator of a {@link Scoreboard} that ingests score updates tagged with a per-game sequence number.
+ * <p>
+ *     The sequence number of the last accepted update of every game is remembered, so that updates replayed by
+ *     redundant feeds, or delivered out of order, are dropped instead of throwing or overwriting a newer score.
+ *     Any number that increases with every update of a game works, e.g. a provider timestamp in epoch milliseconds.
+ *     Dropping an update takes a map lookup and an uncontended monitor, and neither throws nor allocates.
+ *     Updates of the same game are ingested one at a time; updates of different games only contend in the
+ *     decorated scoreboard, which must be thread-safe if several feeds ingest concurrently.
+ *     Updates through {@link #updateScore(UUID, int, int)} bypass the sequence check.
+ * </p>
+ */
+public class SequencedScoreboard implements Scoreboard {
+
+    /**
+     * The last accepted sequence number of a game, guarded by its own monitor.
+     */
+    private static final class Sequence {
+
+        /**
+         * The sequence number of the last accepted update, or {@link Long#MIN_VALUE} if none was accepted yet.
+         */
+        private long last = Long.MIN_VALUE;
+    }
+
+    /**
+     * The decorated scoreboard.
+     */
+    private final Scoreboard delegate;
+
+    /**
+     * The last accepted sequence number of every game that has ingested an update.
+     */
+    private final ConcurrentMap<UUID, Sequence> sequences = new ConcurrentHashMap<>();
+
+    /**
+     * The number of applied updates.
+     */
+    private final LongAdder applied = new LongAdder();
+
+    /**
+     * The number of updates dropped as duplicates.
+     */
+    private final LongAdder duplicates = new LongAdder();
+
+    /**
+     * The number of updates dropped because they arrived after a newer update.
+     */
+    private final LongAdder reordered = new LongAdder();
+
+    /**
+     * Creates a new SequencedScoreboard.
+     *
+     * @param delegate The decorated scoreboard.
+     */
+    public SequencedScoreboard(final Scoreboard delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Ingests a score update of a game, applying it only if it is newer than every update accepted before.
+     *
+     * @param id The unique identifier of the Game.
+     * @param sequence The sequence number of the update, greater than {@link Long#MIN_VALUE}.
+     * @param homeScore The updated score of the home team.
+     * @param awayScore The updated score of the away team.
+     * @return What happened to the update.
+     */
+    public IngestStatus ingestScore(final UUID id, final long sequence, final int homeScore, final int awayScore) {
+        Sequence current = sequences.get(id);
+        if (current == null) {
+            if (delegate.getGame(id).isEmpty()) {
+                return IngestStatus.GAME_NOT_FOUND;
+            }
+            current = sequences.computeIfAbsent(id, key -> new Sequence());
+        }
+        synchronized (current) {
+            if (sequence <= current.last) {
+                if (sequence == current.last) {
+                    duplicates.increment();
+                    return IngestStatus.DUPLICATE;
+                }
+                reordered.increment();
+                return IngestStatus.STALE;
+            }
+            final UpdateStatus status = delegate.tryUpdateScore(id, homeScore, awayScore);
+            switch (status) {
+                case UPDATED -> {
+                    current.last = sequence;
+                    applied.increment();
+                    return IngestStatus.APPLIED;
+                }
+                case UNCHANGED_SCORE -> {
+                    current.last = sequence;
+                    return IngestStatus.UNCHANGED;
+                }
+                case NEGATIVE_SCORE -> {
+                    return IngestStatus.NEGATIVE_SCORE;
+                }
+                default -> {
+                    sequences.remove(id, current);
+                    return IngestStatus.GAME_NOT_FOUND;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the sequence number of the last accepted update of a game.
+     *
+     * @param id The unique identifier of the Game.
+     * @return The sequence number, or an empty Optional if no update of the game was accepted.
+     */
+    public Optional<Long> getLastSequence(final UUID id) {
+        final Sequence current = sequences.get(id);
+        if (current == null) {
+            return Optional.empty();
+        }
+        synchronized (current) {
+            return current.last == Long.MIN_VALUE ? Optional.empty() : Optional.of(current.last);
+        }
+    }
+
+    /**
+     * @return The number of ingested updates whose score was applied.
+     */
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    /**
+     * @return The number of ingested updates dropped because they repeated the last accepted sequence number.
+     */
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * @return The number of ingested updates dropped because they arrived after a newer update of their game.
+     */
+    public long getReorderedCount() {
+        return reordered.sum();
+    }
+
+    /**
+     * @return The number of ingested updates dropped as duplicates or reordered.
+     */
+    public long getDroppedCount() {
+        return getDuplicateCount() + getReorderedCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return delegate.startGame(homeTeamName, awayTeamName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        return delegate.startGame(homeTeamName, awayTeamName, startTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        delegate.updateScore(id, homeScore, awayScore);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        return delegate.tryUpdateScore(id, homeScore, awayScore);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finishGame(final UUID id) throws GameNotFoundException {
+        delegate.finishGame(id);
+        sequences.remove(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreGames(final Collection<Game> games) throws InvalidTeamNameException {
+        delegate.restoreGames(games);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        final List<OperationResult> results = delegate.applyBatch(operations);
+        for (final OperationResult result : results) {
+            if (result.isSuccess() && result.operation() instanceof FinishGame) {
+                sequences.remove(result.gameId());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        return delegate.getGame(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        return delegate.findByTeam(teamName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        return delegate.findStartedBetween(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return delegate.getGames();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return delegate.getSummary();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        return delegate.getSummary(offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        return delegate.getSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+}
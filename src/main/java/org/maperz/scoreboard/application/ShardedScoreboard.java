@@ -0,0 +1,682 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.comparator.GameComparators;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.id.GameIdGenerator;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.team.TeamRegistry;
+import org.maperz.scoreboard.domain.validator.GameValidator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Thread-safe implementation of the {@link Scoreboard} interface that partitions the games across independent shards.
+ * <p>
+ *     Every shard is a {@link ScoreboardImpl} guarded by its own lock, so mutations of games on different shards
+ *     never contend. Games started with a competition key are placed on the shard of the competition, see
+ *     {@link #shardOf(String)}; other games are placed on the shard of the competition the scoreboard derives from
+ *     the game, or by the hash of their identifier if it derives none.
+ *     The competition key itself is not part of a {@link Game}, so games restored through
+ *     {@link #restoreGames(Collection)}, e.g. by a durable replay, a snapshot, a game file or a replication
+ *     snapshot, only return to the shard of their competition if the scoreboard derives it from the game;
+ *     otherwise restore them with {@link #restoreGames(String, Collection)}.
+ *     A team may only play one game at a time across all shards: teams are claimed in a global concurrent map
+ *     before their game is installed on its shard.
+ *     The shards share a {@link TeamRegistry}, so every team has the same id on all of them.
+ *     The summary of a single shard is available directly through {@link #getShardSummary(int)}.
+ *     The global summary is a k-way merge of the summary indexes of the shards, read only up to the requested page,
+ *     and is cached until a shard changes.
+ *     Snapshots are consistent per shard; shards are read one after another.
+ * </p>
+ */
+public class ShardedScoreboard implements Scoreboard {
+
+    /**
+     * A shard: a scoreboard and the lock guarding it.
+     */
+    private static final class Shard {
+
+        /**
+         * The lock guarding every access to {@link #scoreboard}.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * The games of the shard.
+         */
+        private final ScoreboardImpl scoreboard;
+
+        /**
+         * Creates a new Shard.
+         *
+         * @param teams Interns the teams, shared by all shards.
+         */
+        private Shard(final TeamRegistry teams) {
+            this.scoreboard = new ScoreboardImpl(false, GameIdGenerators.RANDOM, teams);
+        }
+    }
+
+    /**
+     * A merged snapshot together with the shard versions it was merged from.
+     *
+     * @param versions The version of every shard.
+     * @param snapshot The merged snapshot.
+     */
+    private record Merged(long[] versions, ScoreboardSnapshot snapshot) {
+    }
+
+    /**
+     * The first games of the summary of a shard together with the version they were read at.
+     *
+     * @param version The version of the shard.
+     * @param summary The first games of the summary of the shard.
+     */
+    private record ShardPage(long version, List<Game> summary) {
+    }
+
+    /**
+     * The shards.
+     */
+    private final Shard[] shards;
+
+    /**
+     * Generates the identifiers of started games.
+     */
+    private final GameIdGenerator idGenerator;
+
+    /**
+     * Derives the competition of a game, or null if the game is placed by the hash of its identifier.
+     */
+    private final Function<? super Game, String> competitionOf;
+
+    /**
+     * The index of the shard of every ongoing game, keyed by the unique identifier of the game.
+     */
+    private final ConcurrentMap<UUID, Integer> gameShards = new ConcurrentHashMap<>();
+
+    /**
+     * The teams currently playing on any shard.
+     * <p>
+     *     The key is the normalized name of the team, see {@link GameValidator#normalizeTeamName(String)}.
+     *     The value is the game the team is playing in, as it was started.
+     *     Both teams are claimed before a game is installed on its shard, and released after it is finished.
+     * </p>
+     */
+    private final ConcurrentMap<String, Game> claims = new ConcurrentHashMap<>();
+
+    /**
+     * The most recently merged snapshot.
+     */
+    private volatile Merged merged;
+
+    /**
+     * Creates a new ShardedScoreboard generating random identifiers.
+     *
+     * @param shards The number of shards.
+     */
+    public ShardedScoreboard(final int shards) {
+        this(shards, GameIdGenerators.RANDOM);
+    }
+
+    /**
+     * Creates a new ShardedScoreboard.
+     *
+     * @param shards The number of shards.
+     * @param idGenerator Generates the identifiers of started games.
+     */
+    public ShardedScoreboard(final int shards, final GameIdGenerator idGenerator) {
+        this(shards, idGenerator, game -> null);
+    }
+
+    /**
+     * Creates a new ShardedScoreboard that places games started or restored without a competition key on the shard
+     * of the competition derived from the game.
+     *
+     * @param shards The number of shards.
+     * @param idGenerator Generates the identifiers of started games.
+     * @param competitionOf Derives the competition of a game, e.g. from its team names, or returns null to place
+     *                      the game by the hash of its identifier.
+     */
+    public ShardedScoreboard(final int shards, final GameIdGenerator idGenerator, final Function<? super Game, String> competitionOf) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("Number of shards must be greater than 0");
+        }
+        this.shards = new Shard[shards];
+        final TeamRegistry teams = new TeamRegistry();
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard(teams);
+        }
+        this.idGenerator = idGenerator;
+        this.competitionOf = competitionOf;
+        this.merged = new Merged(new long[shards], ScoreboardSnapshot.EMPTY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The game is placed on the shard of the competition derived from it, or of the hash of its identifier.
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        final Game game = new Game(idGenerator.nextId(), new Team(homeTeamName), new Team(awayTeamName), new Score(0, 0), startTime);
+        return startGame(shardOf(game), game);
+    }
+
+    /**
+     * Starts a Game of a competition on the shard of the competition.
+     *
+     * @param competition The key of the competition, e.g. its name.
+     * @param homeTeamName The name of the home team.
+     * @param awayTeamName The name of the away team.
+     * @return The unique identifier of the started Game.
+     * @throws InvalidTeamNameException If the team name is invalid.
+     */
+    public UUID startGame(final String competition, final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(competition, homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * Starts a Game of a competition on the shard of the competition at the specified start time.
+     *
+     * @param competition The key of the competition, e.g. its name.
+     * @param homeTeamName The name of the home team.
+     * @param awayTeamName The name of the away team.
+     * @param startTime The start time of the Game.
+     * @return The unique identifier of the started Game.
+     * @throws InvalidTeamNameException If the team name is invalid.
+     */
+    public UUID startGame(final String competition, final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        return startGame(shardOf(competition), new Game(idGenerator.nextId(), new Team(homeTeamName), new Team(awayTeamName), new Score(0, 0), startTime));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        GameValidator.validateUpdate(tryUpdateScore(id, homeScore, awayScore), id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        final Integer index = gameShards.get(id);
+        if (index == null) {
+            return UpdateStatus.GAME_NOT_FOUND;
+        }
+        final Shard shard = shards[index];
+        shard.lock.lock();
+        try {
+            return shard.scoreboard.tryUpdateScore(id, homeScore, awayScore);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finishGame(final UUID id) throws GameNotFoundException {
+        final Shard shard = requireShard(id);
+        final Game game;
+        shard.lock.lock();
+        try {
+            game = shard.scoreboard.getGame(id).orElseThrow(() -> new GameNotFoundException(id));
+            shard.scoreboard.finishGame(id);
+        } finally {
+            shard.lock.unlock();
+        }
+        gameShards.remove(id);
+        release(game);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The restored Games are placed on the shard of the competition derived from them, or of the hash of
+     * their identifier. All teams are claimed first; a rejected Game releases the claims made before it. The shards
+     * are then restored while holding every shard lock.
+     */
+    @Override
+    public void restoreGames(final Collection<Game> restoredGames) throws InvalidTeamNameException {
+        restoreGames(restoredGames, this::shardOf);
+    }
+
+    /**
+     * Restores Games of a competition on the shard of the competition, e.g. after reloading them from a file.
+     * The Games are restored all or nothing, as by {@link #restoreGames(Collection)}.
+     *
+     * @param competition The key of the competition, e.g. its name.
+     * @param restoredGames The Games to restore.
+     * @throws InvalidTeamNameException If a team name is invalid, or a team is already playing.
+     */
+    public void restoreGames(final String competition, final Collection<Game> restoredGames) throws InvalidTeamNameException {
+        final int index = shardOf(competition);
+        restoreGames(restoredGames, game -> index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        final Integer index = gameShards.get(id);
+        if (index == null) {
+            return Optional.empty();
+        }
+        final Shard shard = shards[index];
+        shard.lock.lock();
+        try {
+            return shard.scoreboard.getGame(id);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the team up in the claims, then its game on its shard.
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        final Game claimed = claims.get(GameValidator.normalizeTeamName(teamName));
+        return claimed == null ? Optional.empty() : getGame(claimed.id());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the range up in the index of every shard, one shard after another, and merges the results.
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        final List<Game> started = new ArrayList<>();
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                started.addAll(shard.scoreboard.findStartedBetween(from, to));
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        started.sort(GameComparators.COMPARE_BY_START_TIME.reversed());
+        return started;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return getSnapshot().games();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return getSnapshot().summary();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Unless the merged summary is up to date, the first {@code offset + limit} games are read from the
+     * summary index of every shard and merged up to the end of the page, in O(shards * (offset + limit)).
+     */
+    @Override
+    public List<Game> getSummary(final int offset, final int limit) {
+        GameValidator.validatePage(offset, limit);
+        final int end = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+        final ShardPage[] pages = shardPages(end);
+        final Merged current = merged;
+        if (Arrays.equals(versions(pages), current.versions())) {
+            return current.snapshot().summary(offset, limit);
+        }
+        final List<Game> top = merge(pages, end);
+        return top.subList(Math.min(offset, top.size()), top.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The version is the sum of the versions of the shards. The snapshot is merged from the summary
+     * indexes of the shards and reused until a shard changes; the shards do not build snapshots of their own.
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        final Merged current = merged;
+        if (Arrays.equals(shardVersions(), current.versions())) {
+            return current.snapshot();
+        }
+        final ShardPage[] pages = shardPages(Integer.MAX_VALUE);
+        long version = 0;
+        for (final ShardPage page : pages) {
+            version += page.version();
+        }
+        final List<Game> summary = merge(pages, Integer.MAX_VALUE);
+        final ScoreboardSnapshot fresh = new ScoreboardSnapshot(version, summary, summary);
+        if (version > merged.snapshot().version()) {
+            merged = new Merged(versions(pages), fresh);
+        }
+        return fresh;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The sum of the versions of the shards, read one after another.
+     */
+    @Override
+    public long getVersion() {
+        long version = 0;
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                version += shard.scoreboard.getVersion();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return version;
+    }
+
+    /**
+     * Retrieves the sorted summary of the Games of one shard.
+     *
+     * @param shard The index of the shard.
+     * @return The Games of the shard in summary order.
+     * @throws IndexOutOfBoundsException If there is no shard with the given index.
+     */
+    public List<Game> getShardSummary(final int shard) {
+        return shardSnapshot(shards[shard]).summary();
+    }
+
+    /**
+     * Returns the index of the shard holding the Games of a competition.
+     *
+     * @param competition The key of the competition.
+     * @return The index of the shard.
+     */
+    public int shardOf(final String competition) {
+        final int hash = competition.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    /**
+     * @return The number of shards.
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Returns the index of the shard of a game started or restored without a competition key.
+     *
+     * @param game The game.
+     * @return The index of the shard of the competition derived from the game, or of the hash of its identifier.
+     */
+    private int shardOf(final Game game) {
+        final String competition = competitionOf.apply(game);
+        return competition == null ? Math.floorMod(game.id().hashCode(), shards.length) : shardOf(competition);
+    }
+
+    /**
+     * Claims both teams of a game and installs the game on a shard.
+     *
+     * @param index The index of the shard.
+     * @param game The game.
+     * @return The identifier of the game.
+     * @throws InvalidTeamNameException If a team name is invalid, or a team is already playing.
+     */
+    private UUID startGame(final int index, final Game game) throws InvalidTeamNameException {
+        claim(game);
+        gameShards.put(game.id(), index);
+        final Shard shard = shards[index];
+        shard.lock.lock();
+        try {
+            shard.scoreboard.restoreGames(List.of(game));
+        } catch (InvalidTeamNameException | RuntimeException e) {
+            gameShards.remove(game.id());
+            release(game);
+            throw e;
+        } finally {
+            shard.lock.unlock();
+        }
+        return game.id();
+    }
+
+    /**
+     * Claims the teams of Games and restores them on their shards, all or nothing.
+     *
+     * @param restoredGames The Games to restore.
+     * @param placement Returns the index of the shard of a Game.
+     * @throws InvalidTeamNameException If a team name is invalid, or a team is already playing.
+     */
+    private void restoreGames(final Collection<Game> restoredGames, final ToIntFunction<Game> placement) throws InvalidTeamNameException {
+        final List<Game> claimed = new ArrayList<>(restoredGames.size());
+        try {
+            for (final Game game : restoredGames) {
+                final int shard = placement.applyAsInt(game);
+                if (gameShards.putIfAbsent(game.id(), shard) != null) {
+                    throw new IllegalArgumentException("Match already exists with id: " + game.id());
+                }
+                try {
+                    claim(game);
+                } catch (InvalidTeamNameException | RuntimeException e) {
+                    gameShards.remove(game.id());
+                    throw e;
+                }
+                claimed.add(game);
+            }
+        } catch (InvalidTeamNameException | RuntimeException e) {
+            for (final Game game : claimed) {
+                gameShards.remove(game.id());
+                release(game);
+            }
+            throw e;
+        }
+        final List<List<Game>> partitions = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (final Game game : claimed) {
+            partitions.get(gameShards.get(game.id())).add(game);
+        }
+        for (final Shard shard : shards) {
+            shard.lock.lock();
+        }
+        try {
+            for (int i = 0; i < shards.length; i++) {
+                if (!partitions.get(i).isEmpty()) {
+                    shards[i].scoreboard.restoreGames(partitions.get(i));
+                }
+            }
+        } finally {
+            for (int i = shards.length - 1; i >= 0; i--) {
+                shards[i].lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Claims both teams of a game in {@link #claims}.
+     *
+     * @param game The game.
+     * @throws InvalidTeamNameException If a team name is invalid, or a team is already playing.
+     */
+    private void claim(final Game game) throws InvalidTeamNameException {
+        final String homeTeamName = game.homeTeam().name();
+        final String awayTeamName = game.awayTeam().name();
+        while (true) {
+            GameValidator.validateTeamNames(homeTeamName, awayTeamName, teamName -> claims.get(GameValidator.normalizeTeamName(teamName)));
+            final String homeKey = GameValidator.normalizeTeamName(homeTeamName);
+            if (claims.putIfAbsent(homeKey, game) != null) {
+                continue;
+            }
+            if (claims.putIfAbsent(GameValidator.normalizeTeamName(awayTeamName), game) != null) {
+                claims.remove(homeKey, game);
+                continue;
+            }
+            return;
+        }
+    }
+
+    /**
+     * Releases the claims of both teams of a game.
+     *
+     * @param game The game.
+     */
+    private void release(final Game game) {
+        for (final Team team : List.of(game.homeTeam(), game.awayTeam())) {
+            claims.computeIfPresent(GameValidator.normalizeTeamName(team.name()),
+                    (key, claimed) -> claimed.id().equals(game.id()) ? null : claimed);
+        }
+    }
+
+    /**
+     * Looks up the shard of a game.
+     *
+     * @param id The unique identifier of the game.
+     * @return The shard.
+     * @throws GameNotFoundException If the game is not found.
+     */
+    private Shard requireShard(final UUID id) throws GameNotFoundException {
+        final Integer index = gameShards.get(id);
+        if (index == null) {
+            throw new GameNotFoundException(id);
+        }
+        return shards[index];
+    }
+
+    /**
+     * Reads the version of every shard, one after another.
+     *
+     * @return The versions, indexed by shard.
+     */
+    private long[] shardVersions() {
+        final long[] versions = new long[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            final Shard shard = shards[i];
+            shard.lock.lock();
+            try {
+                versions[i] = shard.scoreboard.getVersion();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Reads the first games of the summary of every shard, one after another. Every shard walks its summary index
+     * only up to the limit, or returns a view of its snapshot if that is up to date.
+     *
+     * @param limit The maximum number of games to read from every shard.
+     * @return The pages, indexed by shard.
+     */
+    private ShardPage[] shardPages(final int limit) {
+        final ShardPage[] pages = new ShardPage[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            final Shard shard = shards[i];
+            shard.lock.lock();
+            try {
+                pages[i] = new ShardPage(shard.scoreboard.getVersion(), shard.scoreboard.getSummary(0, limit));
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return pages;
+    }
+
+    /**
+     * Takes the snapshot of a shard.
+     *
+     * @param shard The shard.
+     * @return The snapshot.
+     */
+    private static ScoreboardSnapshot shardSnapshot(final Shard shard) {
+        shard.lock.lock();
+        try {
+            return shard.scoreboard.getSnapshot();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Extracts the versions of shard pages.
+     *
+     * @param pages The pages.
+     * @return The versions, indexed by shard.
+     */
+    private static long[] versions(final ShardPage[] pages) {
+        final long[] versions = new long[pages.length];
+        for (int i = 0; i < pages.length; i++) {
+            versions[i] = pages[i].version();
+        }
+        return versions;
+    }
+
+    /**
+     * Merges the sorted shard pages with a heap holding the head of every page.
+     *
+     * @param pages The pages.
+     * @param limit The maximum number of games to merge.
+     * @return The first games of the merged summary.
+     */
+    private static List<Game> merge(final ShardPage[] pages, final int limit) {
+        final PriorityQueue<int[]> heads = new PriorityQueue<>(pages.length, (first, second) ->
+                GameComparators.SUMMARY_ORDER.compare(pages[first[0]].summary().get(first[1]), pages[second[0]].summary().get(second[1])));
+        int total = 0;
+        for (int i = 0; i < pages.length; i++) {
+            total += pages[i].summary().size();
+            if (!pages[i].summary().isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        final Game[] result = new Game[Math.min(limit, total)];
+        for (int n = 0; n < result.length; n++) {
+            final int[] head = heads.poll();
+            final List<Game> summary = pages[head[0]].summary();
+            result[n] = summary.get(head[1]++);
+            if (head[1] < summary.size()) {
+                heads.add(head);
+            }
+        }
+        return List.of(result);
+    }
+
+}
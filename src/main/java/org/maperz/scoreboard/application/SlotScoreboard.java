@@ -0,0 +1,562 @@
+package org.maperz.scoreboard.application;
+
+import org.maperz.scoreboard.domain.comparator.GameComparators;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.id.GameIdGenerator;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.ScoreboardOperation;
+import org.maperz.scoreboard.domain.team.TeamRegistry;
+import org.maperz.scoreboard.domain.validator.GameValidator;
+import org.maperz.scoreboard.infrastructure.log.BinaryCodec;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link Scoreboard} interface that keeps the ongoing games in primitive arrays.
+ * <p>
+ *     Every game occupies a slot: the same index in parallel arrays holding its identifier, both interned teams
+ *     and their ids in a {@link TeamRegistry}, both scores as ints and the start time as nanoseconds since the epoch.
+ *     Teams currently playing are indexed by team id in an array, so duplicate-match checks compare ints.
+ *     Score updates are written in place and do not allocate.
+ *     {@link Game} records are only created when a caller asks for them, and are cached per slot until the slot
+ *     changes, so that rebuilding the snapshot after an update only creates the updated games.
+ *     Slots of finished games are reused by the next started games.
+ *     Identifiers are mapped to slots by a primitive open-addressing map, which stays compact with monotonic
+ *     identifiers from {@link GameIdGenerators#monotonic()}.
+ *     Start times must lie between {@link BinaryCodec#MIN_TIME} and {@link BinaryCodec#MAX_TIME}, the range of
+ *     nanoseconds since the epoch. Teams are only interned once a game of theirs has passed validation.
+ *     It is not thread-safe.
+ * </p>
+ */
+public class SlotScoreboard implements Scoreboard {
+
+    /**
+     * The initial number of slots.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The slot of every ongoing game, keyed by the unique identifier of the game.
+     */
+    private final UuidSlotMap slots = new UuidSlotMap();
+
+    /**
+     * Generates the identifiers of started games.
+     */
+    private final GameIdGenerator idGenerator;
+
+    /**
+     * Interns the teams and assigns their ids.
+     */
+    private final TeamRegistry teams;
+
+    /**
+     * The index of teams currently playing.
+     * <p>
+     *     Indexed by the id of the team in {@link #teams}.
+     *     The value is the slot of the game the team is playing in, or {@link UuidSlotMap#NO_SLOT}.
+     * </p>
+     */
+    private int[] activeSlots = newActiveSlots(2 * INITIAL_CAPACITY);
+
+    /**
+     * The identifiers of the games by start time.
+     */
+    private final StartTimeIndex startTimes = new StartTimeIndex(new TreeSet<>());
+
+    /**
+     * The identifier of the game of every slot, or {@code null} if the slot is free.
+     */
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+
+    /**
+     * The home team of the game of every slot.
+     */
+    private Team[] homeTeams = new Team[INITIAL_CAPACITY];
+
+    /**
+     * The away team of the game of every slot.
+     */
+    private Team[] awayTeams = new Team[INITIAL_CAPACITY];
+
+    /**
+     * The team id of the home team of the game of every slot.
+     */
+    private int[] homeTeamIds = new int[INITIAL_CAPACITY];
+
+    /**
+     * The team id of the away team of the game of every slot.
+     */
+    private int[] awayTeamIds = new int[INITIAL_CAPACITY];
+
+    /**
+     * The home score of the game of every slot.
+     */
+    private int[] homeScores = new int[INITIAL_CAPACITY];
+
+    /**
+     * The away score of the game of every slot.
+     */
+    private int[] awayScores = new int[INITIAL_CAPACITY];
+
+    /**
+     * The start time of the game of every slot, in nanoseconds since the epoch in UTC.
+     */
+    private long[] startNanos = new long[INITIAL_CAPACITY];
+
+    /**
+     * The Game record of every slot.
+     *
+     * @implNote {@code null} until the record is first requested and after the slot has changed.
+     */
+    private Game[] materialized = new Game[INITIAL_CAPACITY];
+
+    /**
+     * The number of slots that have ever been used; every slot above is free.
+     */
+    private int usedSlots;
+
+    /**
+     * The stack of free slots below {@link #usedSlots}.
+     */
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+
+    /**
+     * The number of slots in {@link #freeSlots}.
+     */
+    private int freeCount;
+
+    /**
+     * The number of mutations applied so far.
+     */
+    private long version;
+
+    /**
+     * Whether a batch is being applied.
+     */
+    private boolean batching;
+
+    /**
+     * Whether the batch being applied has mutated the scoreboard.
+     */
+    private boolean batchMutated;
+
+    /**
+     * The cached immutable snapshot.
+     *
+     * @implNote {@code null} when the snapshot has been invalidated by a mutation.
+     */
+    private volatile ScoreboardSnapshot snapshot = ScoreboardSnapshot.EMPTY;
+
+    /**
+     * Creates a new SlotScoreboard generating random identifiers.
+     */
+    public SlotScoreboard() {
+        this(GameIdGenerators.RANDOM);
+    }
+
+    /**
+     * Creates a new SlotScoreboard.
+     *
+     * @param idGenerator Generates the identifiers of started games.
+     */
+    public SlotScoreboard(final GameIdGenerator idGenerator) {
+        this(idGenerator, new TeamRegistry());
+    }
+
+    /**
+     * Creates a new SlotScoreboard.
+     *
+     * @param idGenerator Generates the identifiers of started games.
+     * @param teams Interns the teams, possibly shared with other scoreboards.
+     */
+    public SlotScoreboard(final GameIdGenerator idGenerator, final TeamRegistry teams) {
+        this.idGenerator = idGenerator;
+        this.teams = teams;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        return startGame(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException If the start time is outside the range of nanoseconds since the epoch.
+     */
+    @Override
+    public UUID startGame(final String homeTeamName, final String awayTeamName, final LocalDateTime startTime) throws InvalidTeamNameException {
+        final long startNanos = BinaryCodec.toEpochNanos(startTime);
+        final TeamRegistry.RegisteredTeam[] registeredTeams = validateTeams(homeTeamName, awayTeamName);
+        final UUID id = idGenerator.nextId();
+        register(id, registeredTeams, 0, 0, startTime, startNanos);
+        mutated();
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The score is written into the slot of the game without allocating.
+     */
+    @Override
+    public void updateScore(final UUID id, final int homeScore, final int awayScore) throws GameNotFoundException, InvalidScoreException {
+        GameValidator.validateUpdate(tryUpdateScore(id, homeScore, awayScore), id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The score is written into the slot of the game without allocating, and rejections allocate nothing either.
+     */
+    @Override
+    public UpdateStatus tryUpdateScore(final UUID id, final int homeScore, final int awayScore) {
+        final int slot = slots.get(id);
+        if (slot == UuidSlotMap.NO_SLOT) {
+            return UpdateStatus.GAME_NOT_FOUND;
+        }
+        final UpdateStatus status = GameValidator.checkScore(homeScore, awayScore, homeScores[slot], awayScores[slot]);
+        if (status.isUpdated()) {
+            homeScores[slot] = homeScore;
+            awayScores[slot] = awayScore;
+            materialized[slot] = null;
+            mutated();
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finishGame(final UUID id) throws GameNotFoundException {
+        unregister(requireSlot(id));
+        mutated();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The Games are validated and registered in a single pass; a rejected Game rolls back
+     * the ones registered before it. The restore counts as a single mutation.
+     */
+    @Override
+    public void restoreGames(final Collection<Game> restoredGames) throws InvalidTeamNameException {
+        final List<Integer> registered = new ArrayList<>(restoredGames.size());
+        try {
+            for (final Game game : restoredGames) {
+                if (slots.get(game.id()) != UuidSlotMap.NO_SLOT) {
+                    throw new IllegalArgumentException("Match already exists with id: " + game.id());
+                }
+                final long startNanos = BinaryCodec.toEpochNanos(game.startTime());
+                registered.add(register(game.id(), validateTeams(game.homeTeam().name(), game.awayTeam().name()),
+                        game.score().homeScore(), game.score().awayScore(), game.startTime(), startNanos));
+            }
+        } catch (InvalidTeamNameException | RuntimeException e) {
+            registered.forEach(this::unregister);
+            throw e;
+        }
+        if (!registered.isEmpty()) {
+            mutated();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The whole batch counts as a single mutation: the version is increased once
+     * and the snapshot is rebuilt once, on the first read after the batch.
+     */
+    @Override
+    public List<OperationResult> applyBatch(final List<ScoreboardOperation> operations) {
+        batching = true;
+        batchMutated = false;
+        try {
+            return Scoreboard.super.applyBatch(operations);
+        } finally {
+            batching = false;
+            if (batchMutated) {
+                mutated();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Game> getGame(final UUID id) {
+        final int slot = slots.get(id);
+        return slot == UuidSlotMap.NO_SLOT ? Optional.empty() : Optional.of(game(slot));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the team up in the index of teams currently playing.
+     */
+    @Override
+    public Optional<Game> findByTeam(final String teamName) {
+        final int teamId = teams.find(teamName);
+        if (teamId == TeamRegistry.NO_TEAM || !isPlaying(teamId)) {
+            return Optional.empty();
+        }
+        return Optional.of(game(activeSlots[teamId]));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Looks the range up in the index of start times.
+     */
+    @Override
+    public List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to) {
+        final List<Game> started = new ArrayList<>();
+        for (final UUID id : startTimes.between(from, to)) {
+            started.add(game(slots.get(id)));
+        }
+        return started;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getGames() {
+        return getSnapshot().games();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Game> getSummary() {
+        return getSnapshot().summary();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The snapshot is rebuilt on the first read after a mutation. Only the games whose slot has changed
+     * since their record was last created are materialized again.
+     */
+    @Override
+    public ScoreboardSnapshot getSnapshot() {
+        ScoreboardSnapshot current = snapshot;
+        if (current == null) {
+            final List<Game> games = new ArrayList<>(slots.size());
+            for (int slot = 0; slot < usedSlots; slot++) {
+                if (ids[slot] != null) {
+                    games.add(game(slot));
+                }
+            }
+            final Game[] summary = games.toArray(new Game[0]);
+            Arrays.sort(summary, GameComparators.SUMMARY_ORDER);
+            current = new ScoreboardSnapshot(version, List.copyOf(games), List.of(summary));
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the Game record of a slot, creating it if the slot has changed since it was last created.
+     *
+     * @param slot The slot of the game.
+     * @return The Game record.
+     */
+    private Game game(final int slot) {
+        Game game = materialized[slot];
+        if (game == null) {
+            game = new Game(ids[slot], homeTeams[slot], awayTeams[slot],
+                    new Score(homeScores[slot], awayScores[slot]), BinaryCodec.fromEpochNanos(startNanos[slot]));
+            materialized[slot] = game;
+        }
+        return game;
+    }
+
+    /**
+     * Validates the team names of a game and interns its teams.
+     * <p>
+     *     The teams are looked up without registering them until the game has passed validation, so that
+     *     rejected games do not grow the registry. A team that was never registered is not playing.
+     * </p>
+     *
+     * @param homeTeamName The name of the home team.
+     * @param awayTeamName The name of the away team.
+     * @return The home and the away team.
+     * @throws InvalidTeamNameException If the team names are invalid.
+     */
+    private TeamRegistry.RegisteredTeam[] validateTeams(final String homeTeamName, final String awayTeamName) throws InvalidTeamNameException {
+        GameValidator.validateTeamName(homeTeamName);
+        GameValidator.validateTeamName(awayTeamName);
+        final int homeTeamId = teams.find(homeTeamName);
+        final int awayTeamId = teams.find(awayTeamName);
+        if (homeTeamId != TeamRegistry.NO_TEAM || awayTeamId != TeamRegistry.NO_TEAM) {
+            GameValidator.validateTeamIds(homeTeamId, awayTeamId, this::isPlaying, this::isPlayingHome);
+        } else if (GameValidator.normalizeTeamName(homeTeamName).equals(GameValidator.normalizeTeamName(awayTeamName))) {
+            throw new InvalidTeamNameException("Home team name and away team name must not be the same");
+        }
+        return new TeamRegistry.RegisteredTeam[] {teams.register(homeTeamName), teams.register(awayTeamName)};
+    }
+
+    /**
+     * @param teamId The id of a team, or {@link TeamRegistry#NO_TEAM}.
+     * @return Whether the team is currently playing.
+     */
+    private boolean isPlaying(final int teamId) {
+        return teamId >= 0 && teamId < activeSlots.length && activeSlots[teamId] != UuidSlotMap.NO_SLOT;
+    }
+
+    /**
+     * @param teamId The id of a team currently playing.
+     * @return Whether the team is the home team of the game it is playing in.
+     */
+    private boolean isPlayingHome(final int teamId) {
+        return homeTeamIds[activeSlots[teamId]] == teamId;
+    }
+
+    /**
+     * Looks up the slot of a game.
+     *
+     * @param id The unique identifier of the game.
+     * @return The slot of the game.
+     * @throws GameNotFoundException If the game is not found.
+     */
+    private int requireSlot(final UUID id) throws GameNotFoundException {
+        final int slot = slots.get(id);
+        if (slot == UuidSlotMap.NO_SLOT) {
+            throw new GameNotFoundException(id);
+        }
+        return slot;
+    }
+
+    /**
+     * Writes a game into a free slot and adds it to the indexes.
+     * Everything that can be rejected has been validated before, so a slot is never left half written.
+     *
+     * @param id The unique identifier of the game.
+     * @param teams The home and the away team.
+     * @param homeScore The home score.
+     * @param awayScore The away score.
+     * @param startTime The start time.
+     * @param startNanos The start time in nanoseconds since the epoch.
+     * @return The slot of the game.
+     */
+    private int register(final UUID id, final TeamRegistry.RegisteredTeam[] teams,
+                         final int homeScore, final int awayScore, final LocalDateTime startTime, final long startNanos) {
+        final int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+        final int homeTeamId = teams[0].id();
+        final int awayTeamId = teams[1].id();
+        final int teamCount = Math.max(homeTeamId, awayTeamId) + 1;
+        if (teamCount > activeSlots.length) {
+            final int[] grown = newActiveSlots(Math.max(teamCount, 2 * activeSlots.length));
+            System.arraycopy(activeSlots, 0, grown, 0, activeSlots.length);
+            activeSlots = grown;
+        }
+        ids[slot] = id;
+        homeTeams[slot] = teams[0].team();
+        awayTeams[slot] = teams[1].team();
+        homeTeamIds[slot] = homeTeamId;
+        awayTeamIds[slot] = awayTeamId;
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        this.startNanos[slot] = startNanos;
+        materialized[slot] = null;
+        slots.put(id, slot);
+        startTimes.add(startTime, id);
+        activeSlots[homeTeamId] = slot;
+        activeSlots[awayTeamId] = slot;
+        return slot;
+    }
+
+    /**
+     * Frees the slot of a game and removes it from the indexes.
+     *
+     * @param slot The slot of the game.
+     */
+    private void unregister(final int slot) {
+        slots.remove(ids[slot]);
+        startTimes.remove(BinaryCodec.fromEpochNanos(startNanos[slot]), ids[slot]);
+        activeSlots[homeTeamIds[slot]] = UuidSlotMap.NO_SLOT;
+        activeSlots[awayTeamIds[slot]] = UuidSlotMap.NO_SLOT;
+        ids[slot] = null;
+        homeTeams[slot] = null;
+        awayTeams[slot] = null;
+        materialized[slot] = null;
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Takes the next never used slot, growing the arrays if they are full.
+     *
+     * @return The slot.
+     */
+    private int nextSlot() {
+        if (usedSlots == ids.length) {
+            final int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            homeTeams = Arrays.copyOf(homeTeams, capacity);
+            awayTeams = Arrays.copyOf(awayTeams, capacity);
+            homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+            startNanos = Arrays.copyOf(startNanos, capacity);
+            materialized = Arrays.copyOf(materialized, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        return usedSlots++;
+    }
+
+    /**
+     * Creates an index of teams currently playing where no team is playing.
+     *
+     * @param capacity The number of team ids the index has room for.
+     * @return The index.
+     */
+    private static int[] newActiveSlots(final int capacity) {
+        final int[] activeSlots = new int[capacity];
+        Arrays.fill(activeSlots, UuidSlotMap.NO_SLOT);
+        return activeSlots;
+    }
+
+    /**
+     * Records a mutation and invalidates the snapshot.
+     */
+    private void mutated() {
+        if (batching) {
+            batchMutated = true;
+            return;
+        }
+        version++;
+        snapshot = null;
+    }
+
+}
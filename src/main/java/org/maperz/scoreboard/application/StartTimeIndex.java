@@ -0,0 +1,108 @@
+package org.maperz.scoreboard.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Index of the ongoing games by start time.
+ * <p>
+ *     Every game is a {@link Key} of its start time and identifier in a navigable set, so adding or removing a game
+ *     is O(log n) however many games share its start time, and the games started within a range are found in
+ *     O(log n + k). Games started at the same time are ordered by identifier.
+ *     Whether it is thread-safe depends on the set it is created with: every update is a single {@code add} or
+ *     {@code remove}, so a {@link ConcurrentSkipListSet} makes it thread-safe.
+ * </p>
+ */
+class StartTimeIndex {
+
+    /**
+     * The lowest identifier, which starts the keys of a start time.
+     */
+    private static final UUID FIRST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    /**
+     * The entry of a game in the index.
+     *
+     * @param startTime The start time of the game.
+     * @param id The unique identifier of the game.
+     */
+    record Key(LocalDateTime startTime, UUID id) implements Comparable<Key> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(final Key other) {
+            final int byStartTime = startTime.compareTo(other.startTime);
+            return byStartTime != 0 ? byStartTime : id.compareTo(other.id);
+        }
+    }
+
+    /**
+     * The games, ordered by start time and identifier.
+     */
+    private final NavigableSet<Key> games;
+
+    /**
+     * Creates a new StartTimeIndex.
+     *
+     * @param games The empty set backing the index.
+     */
+    StartTimeIndex(final NavigableSet<Key> games) {
+        this.games = games;
+    }
+
+    /**
+     * Adds a game to the index.
+     *
+     * @param startTime The start time of the game.
+     * @param id The unique identifier of the game.
+     */
+    void add(final LocalDateTime startTime, final UUID id) {
+        games.add(new Key(startTime, id));
+    }
+
+    /**
+     * Removes a game from the index.
+     *
+     * @param startTime The start time of the game.
+     * @param id The unique identifier of the game.
+     */
+    void remove(final LocalDateTime startTime, final UUID id) {
+        games.remove(new Key(startTime, id));
+    }
+
+    /**
+     * Finds the games started within a time range.
+     *
+     * @param from The earliest start time, inclusive.
+     * @param to The latest start time, exclusive.
+     * @return The identifiers of the games, ordered by start time.
+     */
+    List<UUID> between(final LocalDateTime from, final LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+        final List<UUID> ids = new ArrayList<>();
+        for (final Key key : games.subSet(new Key(from, FIRST_ID), true, new Key(to, FIRST_ID), false)) {
+            ids.add(key.id());
+        }
+        return ids;
+    }
+
+    /**
+     * @return The identifiers of all games, ordered by start time.
+     */
+    List<UUID> all() {
+        final List<UUID> ids = new ArrayList<>();
+        for (final Key key : games) {
+            ids.add(key.id());
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,189 @@
+package org.maperz.scoreboard.application;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Map from game identifiers to slots, stored in primitive arrays.
+ * <p>
+ *     Keys are stored as their two longs and values as ints in open-addressing tables with linear probing,
+ *     so lookups, insertions and removals neither box nor allocate entries.
+ *     Monotonic identifiers, whose most significant bits are 0, hash as well as random ones.
+ *     It is not thread-safe.
+ * </p>
+ */
+final class UuidSlotMap {
+
+    /**
+     * The value of an empty bucket, and the result of a lookup that finds nothing.
+     */
+    static final int NO_SLOT = -1;
+
+    /**
+     * The initial number of buckets.
+     */
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * The most significant bits of the key of every bucket.
+     */
+    private long[] mostSigBits = new long[INITIAL_CAPACITY];
+
+    /**
+     * The least significant bits of the key of every bucket.
+     */
+    private long[] leastSigBits = new long[INITIAL_CAPACITY];
+
+    /**
+     * The slot of every bucket, or {@link #NO_SLOT} if the bucket is empty.
+     */
+    private int[] slots = newSlots(INITIAL_CAPACITY);
+
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * Looks up the slot of an identifier.
+     *
+     * @param id The identifier.
+     * @return The slot, or {@link #NO_SLOT} if the identifier is not mapped.
+     */
+    int get(final UUID id) {
+        final long msb = id.getMostSignificantBits();
+        final long lsb = id.getLeastSignificantBits();
+        final int mask = slots.length - 1;
+        for (int bucket = bucket(msb, lsb, mask); slots[bucket] != NO_SLOT; bucket = (bucket + 1) & mask) {
+            if (mostSigBits[bucket] == msb && leastSigBits[bucket] == lsb) {
+                return slots[bucket];
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Maps an identifier to a slot, replacing its previous slot.
+     *
+     * @param id The identifier.
+     * @param slot The slot, not negative.
+     */
+    void put(final UUID id, final int slot) {
+        if (2 * (size + 1) > slots.length) {
+            resize(slots.length * 2);
+        }
+        final long msb = id.getMostSignificantBits();
+        final long lsb = id.getLeastSignificantBits();
+        final int mask = slots.length - 1;
+        int bucket = bucket(msb, lsb, mask);
+        while (slots[bucket] != NO_SLOT) {
+            if (mostSigBits[bucket] == msb && leastSigBits[bucket] == lsb) {
+                slots[bucket] = slot;
+                return;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        mostSigBits[bucket] = msb;
+        leastSigBits[bucket] = lsb;
+        slots[bucket] = slot;
+        size++;
+    }
+
+    /**
+     * Removes the mapping of an identifier.
+     * <p>
+     *     The entries following the removed one in its probe sequence are shifted back,
+     *     so that no tombstones are left behind.
+     * </p>
+     *
+     * @param id The identifier.
+     * @return The removed slot, or {@link #NO_SLOT} if the identifier was not mapped.
+     */
+    int remove(final UUID id) {
+        final long msb = id.getMostSignificantBits();
+        final long lsb = id.getLeastSignificantBits();
+        final int mask = slots.length - 1;
+        int bucket = bucket(msb, lsb, mask);
+        while (slots[bucket] != NO_SLOT && (mostSigBits[bucket] != msb || leastSigBits[bucket] != lsb)) {
+            bucket = (bucket + 1) & mask;
+        }
+        final int removed = slots[bucket];
+        if (removed == NO_SLOT) {
+            return NO_SLOT;
+        }
+        int hole = bucket;
+        for (int next = (hole + 1) & mask; slots[next] != NO_SLOT; next = (next + 1) & mask) {
+            final int home = bucket(mostSigBits[next], leastSigBits[next], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                mostSigBits[hole] = mostSigBits[next];
+                leastSigBits[hole] = leastSigBits[next];
+                slots[hole] = slots[next];
+                hole = next;
+            }
+        }
+        slots[hole] = NO_SLOT;
+        size--;
+        return removed;
+    }
+
+    /**
+     * @return The number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Rehashes all entries into a table with the given number of buckets.
+     *
+     * @param capacity The new number of buckets, a power of two.
+     */
+    private void resize(final int capacity) {
+        final long[] oldMostSigBits = mostSigBits;
+        final long[] oldLeastSigBits = leastSigBits;
+        final int[] oldSlots = slots;
+        mostSigBits = new long[capacity];
+        leastSigBits = new long[capacity];
+        slots = newSlots(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != NO_SLOT) {
+                int bucket = bucket(oldMostSigBits[i], oldLeastSigBits[i], mask);
+                while (slots[bucket] != NO_SLOT) {
+                    bucket = (bucket + 1) & mask;
+                }
+                mostSigBits[bucket] = oldMostSigBits[i];
+                leastSigBits[bucket] = oldLeastSigBits[i];
+                slots[bucket] = oldSlots[i];
+            }
+        }
+    }
+
+    /**
+     * Computes the home bucket of a key.
+     *
+     * @param msb The most significant bits of the key.
+     * @param lsb The least significant bits of the key.
+     * @param mask The number of buckets minus one.
+     * @return The home bucket.
+     */
+    private static int bucket(final long msb, final long lsb, final int mask) {
+        long hash = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    /**
+     * Creates a table of empty buckets.
+     *
+     * @param capacity The number of buckets.
+     * @return The table.
+     */
+    private static int[] newSlots(final int capacity) {
+        final int[] slots = new int[capacity];
+        Arrays.fill(slots, NO_SLOT);
+        return slots;
+    }
+
+}
@@ -1,7 +1,32 @@
 package org.maperz.scoreboard.application.factory;
 
+import org.maperz.scoreboard.application.ArchivingScoreboard;
+import org.maperz.scoreboard.application.ConcurrentScoreboard;
+import org.maperz.scoreboard.application.DurableScoreboard;
+import org.maperz.scoreboard.application.EventLoopOptions;
+import org.maperz.scoreboard.application.EventLoopScoreboard;
+import org.maperz.scoreboard.application.InstrumentedScoreboard;
+import org.maperz.scoreboard.application.JournaledScoreboard;
+import org.maperz.scoreboard.application.ObservableScoreboard;
+import org.maperz.scoreboard.application.ReplicatedScoreboard;
 import org.maperz.scoreboard.application.Scoreboard;
 import org.maperz.scoreboard.application.ScoreboardImpl;
+import org.maperz.scoreboard.application.SequencedScoreboard;
+import org.maperz.scoreboard.application.ShardedScoreboard;
+import org.maperz.scoreboard.application.SlotScoreboard;
+import org.maperz.scoreboard.domain.id.GameIdGenerator;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.team.TeamRegistry;
+import org.maperz.scoreboard.infrastructure.archive.GameArchive;
+import org.maperz.scoreboard.infrastructure.log.WriteAheadLogOptions;
+import org.maperz.scoreboard.infrastructure.replication.ReplicationPrimary;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.function.Function;
 
 /**
  * Factory class for creating a new instance of a Scoreboard.
@@ -17,4 +42,246 @@ public class ScoreboardFactory {
         return new ScoreboardImpl();
     }
 
+    /**
+     * Creates a new instance of a Scoreboard generating game identifiers with the given strategy.
+     *
+     * @param idGenerator the strategy generating game identifiers, see {@link GameIdGenerators}.
+     * @return a new instance of a Scoreboard.
+     */
+    public static Scoreboard createScoreboard(final GameIdGenerator idGenerator) {
+        return new ScoreboardImpl(false, idGenerator);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard interning its teams in the given registry.
+     * Scoreboards sharing a registry share the {@link org.maperz.scoreboard.domain.model.Team} instances and team ids.
+     *
+     * @param idGenerator the strategy generating game identifiers, see {@link GameIdGenerators}.
+     * @param teams the registry interning the teams.
+     * @return a new instance of a Scoreboard.
+     */
+    public static Scoreboard createScoreboard(final GameIdGenerator idGenerator, final TeamRegistry teams) {
+        return new ScoreboardImpl(false, idGenerator, teams);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that publishes an immutable snapshot on every mutation.
+     * It may be mutated by a single thread and read by any number of threads.
+     *
+     * @return a new instance of a copy-on-write Scoreboard.
+     */
+    public static Scoreboard createCopyOnWriteScoreboard() {
+        return new ScoreboardImpl(true);
+    }
+
+    /**
+     * Creates a new instance of a thread-safe Scoreboard.
+     *
+     * @return a new instance of a thread-safe Scoreboard.
+     */
+    public static Scoreboard createConcurrentScoreboard() {
+        return new ConcurrentScoreboard();
+    }
+
+    /**
+     * Creates a new instance of a thread-safe Scoreboard generating game identifiers with the given strategy.
+     *
+     * @param idGenerator the strategy generating game identifiers, see {@link GameIdGenerators}.
+     * @return a new instance of a thread-safe Scoreboard.
+     */
+    public static Scoreboard createConcurrentScoreboard(final GameIdGenerator idGenerator) {
+        return new ConcurrentScoreboard(ConcurrentScoreboard.DEFAULT_STRIPES, idGenerator);
+    }
+
+    /**
+     * Creates a new instance of a thread-safe Scoreboard that applies all mutations on a single writer thread.
+     *
+     * @return a new instance of an event-loop Scoreboard.
+     */
+    public static EventLoopScoreboard createEventLoopScoreboard() {
+        return new EventLoopScoreboard();
+    }
+
+    /**
+     * Creates a new instance of a thread-safe Scoreboard that applies all mutations on a single writer thread.
+     *
+     * @param options the capacity of the command queue and the wait strategy of the writer thread.
+     * @return a new instance of an event-loop Scoreboard.
+     */
+    public static EventLoopScoreboard createEventLoopScoreboard(final EventLoopOptions options) {
+        return new EventLoopScoreboard(options);
+    }
+
+    /**
+     * Creates a new instance of a thread-safe Scoreboard that partitions the games across independent shards.
+     *
+     * @param shards the number of shards.
+     * @return a new instance of a sharded Scoreboard.
+     */
+    public static ShardedScoreboard createShardedScoreboard(final int shards) {
+        return new ShardedScoreboard(shards);
+    }
+
+    /**
+     * Creates a new instance of a thread-safe Scoreboard that partitions the games across independent shards and
+     * places games started or restored without a competition key on the shard of the competition derived from them,
+     * so that restored games return to the shard they were started on.
+     *
+     * @param shards the number of shards.
+     * @param competitionOf derives the competition of a game, or returns null to place it by the hash of its id.
+     * @return a new instance of a sharded Scoreboard.
+     */
+    public static ShardedScoreboard createShardedScoreboard(final int shards, final Function<? super Game, String> competitionOf) {
+        return new ShardedScoreboard(shards, GameIdGenerators.RANDOM, competitionOf);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that keeps the games in primitive arrays and updates scores
+     * without allocating. Game records are only created when they are read.
+     *
+     * @return a new instance of a slot-based Scoreboard.
+     */
+    public static Scoreboard createSlotScoreboard() {
+        return new SlotScoreboard();
+    }
+
+    /**
+     * Creates a new instance of a slot-based Scoreboard generating game identifiers with the given strategy.
+     * With {@link GameIdGenerators#monotonic()} identifiers are compact longs.
+     *
+     * @param idGenerator the strategy generating game identifiers, see {@link GameIdGenerators}.
+     * @return a new instance of a slot-based Scoreboard.
+     */
+    public static Scoreboard createSlotScoreboard(final GameIdGenerator idGenerator) {
+        return new SlotScoreboard(idGenerator);
+    }
+
+    /**
+     * Creates a new instance of a slot-based Scoreboard interning its teams in the given registry.
+     *
+     * @param idGenerator the strategy generating game identifiers, see {@link GameIdGenerators}.
+     * @param teams the registry interning the teams.
+     * @return a new instance of a slot-based Scoreboard.
+     */
+    public static Scoreboard createSlotScoreboard(final GameIdGenerator idGenerator, final TeamRegistry teams) {
+        return new SlotScoreboard(idGenerator, teams);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that publishes an event for every change of the given Scoreboard.
+     *
+     * @param delegate the Scoreboard to observe.
+     * @return a new instance of an observable Scoreboard.
+     */
+    public static ObservableScoreboard createObservableScoreboard(final Scoreboard delegate) {
+        return new ObservableScoreboard(delegate);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that appends every finished game to a new off-heap archive.
+     *
+     * @param delegate the scoreboard to decorate.
+     * @return a new instance of an archiving Scoreboard.
+     */
+    public static ArchivingScoreboard createArchivingScoreboard(final Scoreboard delegate) {
+        return new ArchivingScoreboard(delegate, new GameArchive());
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that journals the changes of the given Scoreboard,
+     * so that clients can fetch only the changes of the summary since their last version.
+     *
+     * @param delegate the Scoreboard to journal.
+     * @return a new instance of a journaled Scoreboard.
+     */
+    public static JournaledScoreboard createJournaledScoreboard(final Scoreboard delegate) {
+        return new JournaledScoreboard(delegate);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that journals up to the given number of changes of the given Scoreboard,
+     * so that clients can fetch only the changes of the summary since their last version.
+     *
+     * @param delegate the Scoreboard to journal.
+     * @param capacity the maximum number of journaled changes.
+     * @return a new instance of a journaled Scoreboard.
+     */
+    public static JournaledScoreboard createJournaledScoreboard(final Scoreboard delegate, final int capacity) {
+        return new JournaledScoreboard(delegate, capacity);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that ingests sequence-numbered score updates of the given Scoreboard,
+     * dropping duplicate and out-of-order updates.
+     *
+     * @param delegate the Scoreboard to feed.
+     * @return a new instance of a sequenced Scoreboard.
+     */
+    public static SequencedScoreboard createSequencedScoreboard(final Scoreboard delegate) {
+        return new SequencedScoreboard(delegate);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that records latency histograms and error counters of the given Scoreboard.
+     *
+     * @param delegate the Scoreboard to instrument.
+     * @return a new instance of an instrumented Scoreboard.
+     */
+    public static InstrumentedScoreboard createInstrumentedScoreboard(final Scoreboard delegate) {
+        return new InstrumentedScoreboard(delegate);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that records latency histograms and error counters of the given Scoreboard
+     * and exposes them as JMX MXBeans under the given name.
+     *
+     * @param delegate the Scoreboard to instrument.
+     * @param name the name of the MXBeans, unique within the JVM.
+     * @return a new instance of an instrumented Scoreboard, to be closed to unregister the MXBeans.
+     * @throws JMException if the MXBeans cannot be registered.
+     */
+    public static InstrumentedScoreboard createInstrumentedScoreboard(final Scoreboard delegate, final String name) throws JMException {
+        final InstrumentedScoreboard scoreboard = new InstrumentedScoreboard(delegate);
+        scoreboard.registerMBeans(name);
+        return scoreboard;
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that records every mutation in a write-ahead log,
+     * restoring the ongoing games from the log if it already exists.
+     *
+     * @param directory the directory of the write-ahead log.
+     * @return a new instance of a durable Scoreboard.
+     * @throws IOException if the write-ahead log cannot be read or opened.
+     */
+    public static DurableScoreboard createDurableScoreboard(final Path directory) throws IOException {
+        return DurableScoreboard.open(new ScoreboardImpl(), directory, WriteAheadLogOptions.DEFAULT);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that records every mutation in a write-ahead log and periodically
+     * writes a snapshot of the ongoing games, restoring them from the latest snapshot and the log if they exist.
+     *
+     * @param directory the directory of the write-ahead log and the snapshots.
+     * @param snapshotIntervalMillis the interval between snapshots in milliseconds.
+     * @return a new instance of a durable Scoreboard.
+     * @throws IOException if the snapshot or the write-ahead log cannot be read or opened.
+     */
+    public static DurableScoreboard createDurableScoreboard(final Path directory, final long snapshotIntervalMillis) throws IOException {
+        return DurableScoreboard.open(new ScoreboardImpl(), directory, WriteAheadLogOptions.DEFAULT, snapshotIntervalMillis);
+    }
+
+    /**
+     * Creates a new instance of a Scoreboard that replicates every mutation of the given Scoreboard to the followers
+     * connecting to the given address.
+     *
+     * @param delegate the Scoreboard to replicate.
+     * @param address the address to listen on for followers, e.g. port 0 for an ephemeral port.
+     * @return a new instance of a replicated Scoreboard, to be closed to disconnect the followers.
+     * @throws IOException if the address cannot be listened on.
+     */
+    public static ReplicatedScoreboard createReplicatedScoreboard(final Scoreboard delegate, final InetSocketAddress address) throws IOException {
+        return new ReplicatedScoreboard(delegate, address, ReplicationPrimary.DEFAULT_BACKLOG_CAPACITY);
+    }
+
 }
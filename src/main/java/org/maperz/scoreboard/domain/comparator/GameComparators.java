@@ -0,0 +1,42 @@
+package org.maperz.scoreboard.domain.comparator;
+
+import org.maperz.scoreboard.domain.model.Game;
+
+import java.util.Comparator;
+
+/**
+ * Comparators used to order games.
+ * <p>
+ *     It is a utility class and cannot be instantiated.
+ *     All members are static.
+ * </p>
+ */
+public final class GameComparators {
+
+    /**
+     * Comparator to sort games by start time, most recently started first.
+     */
+    public static final Comparator<Game> COMPARE_BY_START_TIME = Comparator.comparing(Game::startTime).reversed();
+
+    /**
+     * Comparator to sort games by total score, ascending.
+     */
+    public static final Comparator<Game> COMPARE_BY_TOTAL_SCORE = Comparator.comparingInt(game -> game.score().getTotalScore());
+
+    /**
+     * Comparator defining the summary order.
+     * <p>
+     *     Games are sorted by total score in descending order.
+     *     Games with the same total score are sorted by the most recently started game.
+     *     The id is used as a last resort so that distinct games never compare as equal,
+     *     which makes the comparator usable as a key of sorted collections.
+     * </p>
+     */
+    public static final Comparator<Game> SUMMARY_ORDER = COMPARE_BY_TOTAL_SCORE.reversed()
+            .thenComparing(COMPARE_BY_START_TIME)
+            .thenComparing(Game::id);
+
+    private GameComparators() {
+    }
+
+}
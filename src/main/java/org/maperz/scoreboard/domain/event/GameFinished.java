@@ -0,0 +1,12 @@
+package org.maperz.scoreboard.domain.event;
+
+import org.maperz.scoreboard.domain.model.Game;
+
+/**
+ * Emitted when a game is finished.
+ *
+ * @param version The version of the scoreboard after the change.
+ * @param game The finished game with its final score.
+ */
+public record GameFinished(long version, Game game) implements ScoreboardEvent {
+}
@@ -0,0 +1,13 @@
+package org.maperz.scoreboard.domain.event;
+
+import org.maperz.scoreboard.domain.model.Game;
+
+/**
+ * Emitted when a game is started.
+ *
+ * @param version The version of the scoreboard after the change.
+ * @param game The started game.
+ * @param rank The position of the game in the summary, starting at 0.
+ */
+public record GameStarted(long version, Game game, int rank) implements ScoreboardEvent {
+}
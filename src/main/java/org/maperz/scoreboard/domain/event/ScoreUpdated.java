@@ -0,0 +1,14 @@
+package org.maperz.scoreboard.domain.event;
+
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+
+/**
+ * Emitted when the score of a game is updated.
+ *
+ * @param version The version of the scoreboard after the change.
+ * @param game The game with the updated score.
+ * @param previousScore The score before the update.
+ */
+public record ScoreUpdated(long version, Game game, Score previousScore) implements ScoreboardEvent {
+}
@@ -0,0 +1,13 @@
+package org.maperz.scoreboard.domain.event;
+
+/**
+ * Represents a change of a scoreboard.
+ */
+public sealed interface ScoreboardEvent permits GameStarted, ScoreUpdated, GameFinished, SummaryRankChanged {
+
+    /**
+     * @return The version of the scoreboard after the change.
+     */
+    long version();
+
+}
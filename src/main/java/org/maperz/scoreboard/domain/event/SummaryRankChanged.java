@@ -0,0 +1,17 @@
+package org.maperz.scoreboard.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Emitted when a score update moves a game to another position in the summary.
+ * <p>
+ *     Games between the previous and the new position shift by one place; no event is emitted for them.
+ * </p>
+ *
+ * @param version The version of the scoreboard after the change.
+ * @param gameId The unique identifier of the moved game.
+ * @param previousRank The previous position of the game in the summary, starting at 0.
+ * @param rank The new position of the game in the summary, starting at 0.
+ */
+public record SummaryRankChanged(long version, UUID gameId, int previousRank, int rank) implements ScoreboardEvent {
+}
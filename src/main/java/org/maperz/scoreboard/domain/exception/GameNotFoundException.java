@@ -1,7 +1,48 @@
 package org.maperz.scoreboard.domain.exception;
 
+import java.util.UUID;
+
+/**
+ * Thrown when no ongoing game has the requested id.
+ * <p>
+ *     It does not capture a stack trace, and when created for an id its message is only built when requested,
+ *     so that rejecting an update of an unknown game stays cheap.
+ * </p>
+ */
 public class GameNotFoundException extends Exception {
+
+    /**
+     * The id of the game that was not found, or {@code null} if the exception was created with a message.
+     */
+    private final UUID gameId;
+
     public GameNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.gameId = null;
+    }
+
+    /**
+     * Creates an exception for an id, with the message "Match not found with id: &lt;id&gt;".
+     *
+     * @param gameId The id of the game that was not found.
+     */
+    public GameNotFoundException(UUID gameId) {
+        super(null, null, false, false);
+        this.gameId = gameId;
+    }
+
+    /**
+     * @return The id of the game that was not found, or {@code null} if the exception was created with a message.
+     */
+    public UUID getGameId() {
+        return gameId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getMessage() {
+        return gameId == null ? super.getMessage() : "Match not found with id: " + gameId;
     }
 }
@@ -1,7 +1,13 @@
 package org.maperz.scoreboard.domain.exception;
 
+/**
+ * Thrown when a score update is rejected.
+ * <p>
+ *     It does not capture a stack trace, so that rejecting redundant updates stays cheap.
+ * </p>
+ */
 public class InvalidScoreException extends Exception {
-        public InvalidScoreException(String message) {
-            super(message);
-        }
+    public InvalidScoreException(String message) {
+        super(message, null, false, false);
+    }
 }
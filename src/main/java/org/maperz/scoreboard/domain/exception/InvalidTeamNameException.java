@@ -1,7 +1,13 @@
 package org.maperz.scoreboard.domain.exception;
 
+/**
+ * Thrown when a game cannot be started or restored because of its team names.
+ * <p>
+ *     It does not capture a stack trace, so that rejecting invalid games stays cheap.
+ * </p>
+ */
 public class InvalidTeamNameException extends Exception {
     public InvalidTeamNameException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,21 @@
+package org.maperz.scoreboard.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Generates the unique identifiers of started games.
+ * <p>
+ *     Implementations must be thread-safe. See {@link GameIdGenerators} for the available strategies.
+ * </p>
+ */
+@FunctionalInterface
+public interface GameIdGenerator {
+
+    /**
+     * Generates a new identifier.
+     *
+     * @return An identifier that has not been generated before.
+     */
+    UUID nextId();
+
+}
@@ -0,0 +1,74 @@
+package org.maperz.scoreboard.domain.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides the available {@link GameIdGenerator} strategies.
+ * <p>
+ *     This class provides generators of random, monotonic and time-ordered identifiers.
+ *     It is a utility class and cannot be instantiated.
+ * </p>
+ */
+public final class GameIdGenerators {
+
+    /**
+     * Generates random version 4 UUIDs through {@link UUID#randomUUID()}, which draws from {@link java.security.SecureRandom}.
+     */
+    public static final GameIdGenerator RANDOM = UUID::randomUUID;
+
+    /**
+     * The number of monotonic identifiers reserved per millisecond between two runs, see {@link #monotonic()}.
+     */
+    private static final long IDS_PER_MILLISECOND = 1_000_000L;
+
+    /**
+     * Generates monotonic long identifiers, starting at an offset derived from the current time.
+     * <p>
+     *     The identifier is held in the least significant bits of a UUID whose most significant bits are 0.
+     *     Starting at the current time in milliseconds times one million keeps the identifiers of a new run above
+     *     the ones of a previous run, e.g. after restoring games from a log, unless the previous run generated more
+     *     than one million identifiers per millisecond on average.
+     * </p>
+     *
+     * @return A new monotonic generator.
+     */
+    public static GameIdGenerator monotonic() {
+        return monotonic(System.currentTimeMillis() * IDS_PER_MILLISECOND);
+    }
+
+    /**
+     * Generates monotonic long identifiers starting at the given value.
+     *
+     * @param first The first identifier.
+     * @return A new monotonic generator.
+     */
+    public static GameIdGenerator monotonic(final long first) {
+        final AtomicLong next = new AtomicLong(first);
+        return () -> new UUID(0, next.getAndIncrement());
+    }
+
+    /**
+     * Generates time-ordered version 7 UUIDs.
+     * <p>
+     *     The 48 most significant bits hold the current time in milliseconds since the epoch,
+     *     the remaining 74 bits are drawn from {@link ThreadLocalRandom}, which neither blocks nor contends.
+     *     They are not suitable where identifiers must not be guessable.
+     * </p>
+     *
+     * @return A new time-ordered generator.
+     */
+    public static GameIdGenerator timeOrdered() {
+        return () -> {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+            final long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(mostSigBits, leastSigBits);
+        };
+    }
+
+    private GameIdGenerators() {
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.maperz.scoreboard.domain.model;
+
+/**
+ * The outcome of ingesting a sequence-numbered score update.
+ */
+public enum IngestStatus {
+
+    /**
+     * The update was the newest of its game and its score was applied.
+     */
+    APPLIED,
+
+    /**
+     * The update was the newest of its game but carried its current score; its sequence number was recorded.
+     */
+    UNCHANGED,
+
+    /**
+     * The update carried the sequence number of the last accepted update of its game and was dropped.
+     */
+    DUPLICATE,
+
+    /**
+     * The update was older than the last accepted update of its game, i.e. it arrived out of order, and was dropped.
+     */
+    STALE,
+
+    /**
+     * No ongoing game has the given id.
+     */
+    GAME_NOT_FOUND,
+
+    /**
+     * The home or away score is negative.
+     */
+    NEGATIVE_SCORE;
+
+    /**
+     * @return Whether the update was accepted, i.e. it is now the last accepted update of its game.
+     */
+    public boolean isAccepted() {
+        return this == APPLIED || this == UNCHANGED;
+    }
+}
@@ -0,0 +1,10 @@
+package org.maperz.scoreboard.domain.model;
+
+/**
+ * Represents a game together with its position in the summary.
+ *
+ * @param position The zero-based position of the game in the summary.
+ * @param game The game.
+ */
+public record RankedGame(int position, Game game) {
+}
@@ -0,0 +1,36 @@
+package org.maperz.scoreboard.domain.model;
+
+import org.maperz.scoreboard.domain.validator.GameValidator;
+
+import java.util.List;
+
+/**
+ * Represents an immutable, versioned view of a scoreboard.
+ *
+ * @param version The version of the scoreboard the snapshot was taken at. It increases with every mutation.
+ * @param games The ongoing games.
+ * @param summary The ongoing games in summary order.
+ */
+public record ScoreboardSnapshot(long version, List<Game> games, List<Game> summary) {
+
+    /**
+     * The snapshot of a scoreboard without any mutation.
+     */
+    public static final ScoreboardSnapshot EMPTY = new ScoreboardSnapshot(0, List.of(), List.of());
+
+    /**
+     * Retrieves a page of the summary.
+     *
+     * @param offset The number of games to skip.
+     * @param limit The maximum number of games to return.
+     * @return A view of the games of the page, in summary order.
+     * @throws IllegalArgumentException If the offset or the limit is negative.
+     */
+    public List<Game> summary(final int offset, final int limit) {
+        GameValidator.validatePage(offset, limit);
+        final int from = Math.min(offset, summary.size());
+        final int to = (int) Math.min(summary.size(), (long) offset + limit);
+        return summary.subList(from, to);
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.maperz.scoreboard.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents the changes of the summary between two versions of a scoreboard.
+ * <p>
+ *     A client holding the summary at {@code fromVersion} reaches the summary at {@code toVersion} by removing the
+ *     games of {@code removed} and of {@code changed}, then inserting the games of {@code changed} at their positions
+ *     in ascending order. Games that only shifted because another game moved past them are not listed; their order
+ *     relative to each other never changes.
+ *     A full delta lists every game of the summary in {@code changed}, and replaces the client's summary.
+ * </p>
+ *
+ * @param fromVersion The version the client asked the delta from.
+ * @param toVersion The version the delta leads to.
+ * @param full Whether the delta is a full summary, because the journal no longer covers {@code fromVersion}.
+ * @param changed The games started, updated or restored since {@code fromVersion}, in ascending position.
+ * @param removed The ids of the games finished since {@code fromVersion}.
+ */
+public record SummaryDelta(long fromVersion, long toVersion, boolean full, List<RankedGame> changed, List<UUID> removed) {
+
+    /**
+     * Creates a full delta from a snapshot.
+     *
+     * @param fromVersion The version the client asked the delta from.
+     * @param snapshot The snapshot.
+     * @return A delta listing every game of the summary of the snapshot.
+     */
+    public static SummaryDelta full(final long fromVersion, final ScoreboardSnapshot snapshot) {
+        final List<Game> summary = snapshot.summary();
+        final RankedGame[] ranked = new RankedGame[summary.size()];
+        for (int i = 0; i < ranked.length; i++) {
+            ranked[i] = new RankedGame(i, summary.get(i));
+        }
+        return new SummaryDelta(fromVersion, snapshot.version(), true, List.of(ranked), List.of());
+    }
+
+    /**
+     * @return Whether the delta changes nothing.
+     */
+    public boolean isEmpty() {
+        return !full && changed.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package org.maperz.scoreboard.domain.model;
+
+/**
+ * The outcome of a score update that reports rejections as a status instead of an exception.
+ */
+public enum UpdateStatus {
+
+    /**
+     * The score was updated.
+     */
+    UPDATED,
+
+    /**
+     * No ongoing game has the given id.
+     */
+    GAME_NOT_FOUND,
+
+    /**
+     * The home or away score is negative.
+     */
+    NEGATIVE_SCORE,
+
+    /**
+     * The score is the current score of the game, e.g. a duplicate update of a feed.
+     */
+    UNCHANGED_SCORE;
+
+    /**
+     * @return Whether the score was updated.
+     */
+    public boolean isUpdated() {
+        return this == UPDATED;
+    }
+}
@@ -0,0 +1,11 @@
+package org.maperz.scoreboard.domain.operation;
+
+import java.util.UUID;
+
+/**
+ * Finishes a game.
+ *
+ * @param id The unique identifier of the game.
+ */
+public record FinishGame(UUID id) implements ScoreboardOperation {
+}
@@ -0,0 +1,44 @@
+package org.maperz.scoreboard.domain.operation;
+
+import java.util.UUID;
+
+/**
+ * Represents the outcome of an operation applied as part of a batch.
+ *
+ * @param operation The applied operation.
+ * @param gameId The unique identifier of the affected game, or {@code null} if a game could not be started.
+ * @param error The checked exception raised by the operation, or {@code null} if it succeeded.
+ */
+public record OperationResult(ScoreboardOperation operation, UUID gameId, Exception error) {
+
+    /**
+     * Creates the result of a successful operation.
+     *
+     * @param operation The applied operation.
+     * @param gameId The unique identifier of the affected game.
+     * @return The result.
+     */
+    public static OperationResult success(final ScoreboardOperation operation, final UUID gameId) {
+        return new OperationResult(operation, gameId, null);
+    }
+
+    /**
+     * Creates the result of a failed operation.
+     *
+     * @param operation The rejected operation.
+     * @param gameId The unique identifier of the affected game, or {@code null} if a game could not be started.
+     * @param error The checked exception raised by the operation.
+     * @return The result.
+     */
+    public static OperationResult failure(final ScoreboardOperation operation, final UUID gameId, final Exception error) {
+        return new OperationResult(operation, gameId, error);
+    }
+
+    /**
+     * @return Whether the operation was applied.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+}
@@ -0,0 +1,7 @@
+package org.maperz.scoreboard.domain.operation;
+
+/**
+ * Represents a mutation of a scoreboard that can be applied as part of a batch.
+ */
+public sealed interface ScoreboardOperation permits StartGame, UpdateScore, FinishGame {
+}
@@ -0,0 +1,24 @@
+package org.maperz.scoreboard.domain.operation;
+
+import java.time.LocalDateTime;
+
+/**
+ * Starts a game between the given teams.
+ *
+ * @param homeTeamName The name of the home team.
+ * @param awayTeamName The name of the away team.
+ * @param startTime The start time of the game.
+ */
+public record StartGame(String homeTeamName, String awayTeamName, LocalDateTime startTime) implements ScoreboardOperation {
+
+    /**
+     * Starts a game between the given teams now.
+     *
+     * @param homeTeamName The name of the home team.
+     * @param awayTeamName The name of the away team.
+     */
+    public StartGame(final String homeTeamName, final String awayTeamName) {
+        this(homeTeamName, awayTeamName, LocalDateTime.now());
+    }
+
+}
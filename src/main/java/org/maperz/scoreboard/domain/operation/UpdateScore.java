@@ -0,0 +1,13 @@
+package org.maperz.scoreboard.domain.operation;
+
+import java.util.UUID;
+
+/**
+ * Updates the score of a game.
+ *
+ * @param id The unique identifier of the game.
+ * @param homeScore The updated score of the home team.
+ * @param awayScore The updated score of the away team.
+ */
+public record UpdateScore(UUID id, int homeScore, int awayScore) implements ScoreboardOperation {
+}
@@ -0,0 +1,112 @@
+package org.maperz.scoreboard.domain.team;
+
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.validator.GameValidator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns {@link Team}s and assigns every team a dense int id.
+ * <p>
+ *     Every spelling of a team name is interned into a single {@link Team} instance, so that games of the same
+ *     team share it. Names differing only in case are the same team: the name is
+ *     {@link GameValidator#normalizeTeamName(String) normalized} once, when the spelling is first seen,
+ *     and all its spellings get the same id. Ids are assigned from 0 in the order teams are first seen,
+ *     so they can index arrays. Teams are never removed.
+ *     It is thread-safe, and looking up a known spelling is a single map lookup.
+ * </p>
+ */
+public final class TeamRegistry {
+
+    /**
+     * The id returned by {@link #find(String)} for a team that was never registered.
+     */
+    public static final int NO_TEAM = -1;
+
+    /**
+     * An interned team together with its id.
+     *
+     * @param team The interned team.
+     * @param id The id of the team, shared by all spellings of its name.
+     */
+    public record RegisteredTeam(Team team, int id) {
+    }
+
+    /**
+     * The registered teams, keyed by their exact name.
+     */
+    private final ConcurrentMap<String, RegisteredTeam> teams = new ConcurrentHashMap<>();
+
+    /**
+     * The ids of the teams, keyed by their normalized name.
+     */
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+    /**
+     * The next id to assign.
+     */
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Interns a team, registering it if its name was never seen.
+     *
+     * @param teamName The name of the team, valid as per {@link GameValidator#validateTeamName(String)}.
+     * @return The interned team and its id.
+     */
+    public RegisteredTeam register(final String teamName) {
+        final RegisteredTeam registered = teams.get(teamName);
+        if (registered != null) {
+            return registered;
+        }
+        return teams.computeIfAbsent(teamName, name -> new RegisteredTeam(new Team(name), assignId(name)));
+    }
+
+    /**
+     * Looks up the id of a team name without registering it.
+     *
+     * @param teamName The name of the team, ignoring case.
+     * @return The id of the team, or {@link #NO_TEAM} if no spelling of the name was ever registered.
+     */
+    public int find(final String teamName) {
+        final RegisteredTeam registered = teams.get(teamName);
+        if (registered != null) {
+            return registered.id();
+        }
+        final Integer id = ids.get(GameValidator.normalizeTeamName(teamName));
+        return id == null ? NO_TEAM : id;
+    }
+
+    /**
+     * Looks up the id of a team.
+     *
+     * @param team The team, interned as is if its name was never seen.
+     * @return The id of the team, registering it if its name was never seen.
+     */
+    public int id(final Team team) {
+        final RegisteredTeam registered = teams.get(team.name());
+        if (registered != null) {
+            return registered.id();
+        }
+        return teams.computeIfAbsent(team.name(), name -> new RegisteredTeam(team, assignId(name))).id();
+    }
+
+    /**
+     * Assigns the id of a team name, shared with the names differing only in case.
+     *
+     * @param teamName The name of the team.
+     * @return The id.
+     */
+    private int assignId(final String teamName) {
+        return ids.computeIfAbsent(GameValidator.normalizeTeamName(teamName), key -> nextId.getAndIncrement());
+    }
+
+    /**
+     * @return The number of distinct teams, ignoring case, which is also the lowest unassigned id.
+     */
+    public int size() {
+        return nextId.get();
+    }
+
+}
@@ -4,10 +4,13 @@ import org.maperz.scoreboard.domain.exception.GameNotFoundException;
 import org.maperz.scoreboard.domain.exception.InvalidScoreException;
 import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
 import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
 
-import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 /**
  * Validates game data.
@@ -22,6 +25,22 @@ import java.util.UUID;
  */
 public final class GameValidator {
 
+    /**
+     * The rejection of a negative score. Score rejections carry no stack trace and no per-call data,
+     * so a single instance is shared.
+     */
+    private static final InvalidScoreException NEGATIVE_SCORE = new InvalidScoreException("Score must be greater than or equal to 0");
+
+    /**
+     * The rejection of an unchanged score, shared like {@link #NEGATIVE_SCORE}.
+     */
+    private static final InvalidScoreException UNCHANGED_SCORE = new InvalidScoreException("Score must be different");
+
+    /**
+     * The maximum number of bytes of a team name encoded in UTF-8, the longest name the binary formats can store.
+     */
+    public static final int MAX_TEAM_NAME_BYTES = 0xFFFF;
+
     /**
      * Validates the score of a game.
      *
@@ -31,12 +50,76 @@ public final class GameValidator {
      * @throws InvalidScoreException if the score is invalid
      */
     public static void validateScore(final int homeScore, final int awayScore, final Game game) throws InvalidScoreException {
+        validateScore(homeScore, awayScore, game.score().homeScore(), game.score().awayScore());
+    }
+
+    /**
+     * Validates the score of a game given its current score.
+     *
+     * @param homeScore the home team score
+     * @param awayScore the away team score
+     * @param currentHomeScore the current home team score of the game
+     * @param currentAwayScore the current away team score of the game
+     * @throws InvalidScoreException if the score is invalid
+     */
+    public static void validateScore(final int homeScore, final int awayScore, final int currentHomeScore, final int currentAwayScore) throws InvalidScoreException {
+        final UpdateStatus status = checkScore(homeScore, awayScore, currentHomeScore, currentAwayScore);
+        if (status == UpdateStatus.NEGATIVE_SCORE) {
+            throw NEGATIVE_SCORE;
+        }
+        if (status == UpdateStatus.UNCHANGED_SCORE) {
+            throw UNCHANGED_SCORE;
+        }
+    }
+
+    /**
+     * Checks the score of a game given its current score, without throwing.
+     *
+     * @param homeScore the home team score
+     * @param awayScore the away team score
+     * @param currentHomeScore the current home team score of the game
+     * @param currentAwayScore the current away team score of the game
+     * @return {@link UpdateStatus#UPDATED} if the score is valid, otherwise the reason it is not
+     */
+    public static UpdateStatus checkScore(final int homeScore, final int awayScore, final int currentHomeScore, final int currentAwayScore) {
         if (homeScore < 0 || awayScore < 0) {
-            throw new InvalidScoreException("Score must be greater than or equal to 0");
+            return UpdateStatus.NEGATIVE_SCORE;
         }
-        if (game.score().homeScore() == homeScore && game.score().awayScore() == awayScore) {
-            throw new InvalidScoreException("Score must be different");
+        if (currentHomeScore == homeScore && currentAwayScore == awayScore) {
+            return UpdateStatus.UNCHANGED_SCORE;
         }
+        return UpdateStatus.UPDATED;
+    }
+
+    /**
+     * Turns the status of a score update into the exception of the throwing API.
+     *
+     * @param status the status of the update
+     * @param id the id of the game
+     * @throws GameNotFoundException if the game is not found
+     * @throws InvalidScoreException if the score is invalid
+     */
+    public static void validateUpdate(final UpdateStatus status, final UUID id) throws GameNotFoundException, InvalidScoreException {
+        switch (status) {
+            case UPDATED -> {
+            }
+            case GAME_NOT_FOUND -> throw new GameNotFoundException(id);
+            case NEGATIVE_SCORE -> throw NEGATIVE_SCORE;
+            case UNCHANGED_SCORE -> throw UNCHANGED_SCORE;
+        }
+    }
+
+    /**
+     * Validates the team names of a game.
+     *
+     * @param homeTeamName the home team name
+     * @param awayTeamName the away team name
+     * @param activeTeams the index of teams currently playing, keyed by {@link #normalizeTeamName(String) normalized} name
+     * @param games the map of games the index points into
+     * @throws InvalidTeamNameException if the team names are invalid
+     */
+    public static void validateTeamNames(final String homeTeamName, final String awayTeamName, final Map<String, UUID> activeTeams, final Map<UUID, Game> games) throws InvalidTeamNameException {
+        validateTeamNames(homeTeamName, awayTeamName, teamName -> findGame(teamName, activeTeams, games));
     }
 
     /**
@@ -44,33 +127,114 @@ public final class GameValidator {
      *
      * @param homeTeamName the home team name
      * @param awayTeamName the away team name
-     * @param games the list of games to validate against
+     * @param activeGames looks up the game a team is currently playing in, or {@code null} if it is not playing
      * @throws InvalidTeamNameException if the team names are invalid
      */
-    public static void validateTeamNames(final String homeTeamName, final String awayTeamName, List<Game> games) throws InvalidTeamNameException {
+    public static void validateTeamNames(final String homeTeamName, final String awayTeamName, final Function<String, Game> activeGames) throws InvalidTeamNameException {
         validateTeamName(homeTeamName);
         validateTeamName(awayTeamName);
         if (homeTeamName.equalsIgnoreCase(awayTeamName)) {
             throw new InvalidTeamNameException("Home team name and away team name must not be the same");
         }
-        if (games.stream().anyMatch(g -> g.homeTeam().name().equalsIgnoreCase(homeTeamName) || g.awayTeam().name().equalsIgnoreCase(awayTeamName))) {
+        final Game homeTeamGame = activeGames.apply(homeTeamName);
+        final Game awayTeamGame = activeGames.apply(awayTeamName);
+        if ((homeTeamGame != null && homeTeamGame.homeTeam().name().equalsIgnoreCase(homeTeamName))
+                || (awayTeamGame != null && awayTeamGame.awayTeam().name().equalsIgnoreCase(awayTeamName))) {
             throw new InvalidTeamNameException("Match already exists with the same team names");
         }
-        if (games.stream().anyMatch(g -> g.homeTeam().name().equalsIgnoreCase(awayTeamName) || g.awayTeam().name().equalsIgnoreCase(homeTeamName))) {
+        if (homeTeamGame != null || awayTeamGame != null) {
             throw new InvalidTeamNameException("Match already exists with reversed team names");
         }
     }
 
+    /**
+     * Validates the teams of a game by their registry ids, with the same rules and messages as
+     * {@link #validateTeamNames(String, String, Function)}. The names must have been validated with
+     * {@link #validateTeamName(String)} before they were registered.
+     *
+     * @param homeTeamId the id of the home team
+     * @param awayTeamId the id of the away team
+     * @param playing tests whether the team with the given id is currently playing
+     * @param playingHome tests whether the team with the given id, currently playing, is the home team of its game
+     * @throws InvalidTeamNameException if the teams are invalid
+     */
+    public static void validateTeamIds(final int homeTeamId, final int awayTeamId, final IntPredicate playing, final IntPredicate playingHome) throws InvalidTeamNameException {
+        if (homeTeamId == awayTeamId) {
+            throw new InvalidTeamNameException("Home team name and away team name must not be the same");
+        }
+        final boolean homeTeamPlaying = playing.test(homeTeamId);
+        final boolean awayTeamPlaying = playing.test(awayTeamId);
+        if ((homeTeamPlaying && playingHome.test(homeTeamId)) || (awayTeamPlaying && !playingHome.test(awayTeamId))) {
+            throw new InvalidTeamNameException("Match already exists with the same team names");
+        }
+        if (homeTeamPlaying || awayTeamPlaying) {
+            throw new InvalidTeamNameException("Match already exists with reversed team names");
+        }
+    }
+
+    /**
+     * Normalizes a team name so that names differing only in case map to the same key.
+     *
+     * @param teamName the team name to normalize
+     * @return the normalized team name
+     */
+    public static String normalizeTeamName(final String teamName) {
+        return teamName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Finds the game a team is currently playing in.
+     *
+     * @param teamName the team name to look up
+     * @param activeTeams the index of teams currently playing
+     * @param games the map of games the index points into
+     * @return the game, or {@code null} if the team is not playing
+     */
+    private static Game findGame(final String teamName, final Map<String, UUID> activeTeams, final Map<UUID, Game> games) {
+        final UUID id = activeTeams.get(normalizeTeamName(teamName));
+        return id == null ? null : games.get(id);
+    }
+
     /**
      * Validates a team name.
      *
      * @param teamName the team name to validate
      * @throws InvalidTeamNameException if the team name is invalid
      */
-    private static void validateTeamName(final String teamName) throws InvalidTeamNameException {
+    public static void validateTeamName(final String teamName) throws InvalidTeamNameException {
         if (teamName == null || teamName.isBlank()) {
             throw new InvalidTeamNameException("Team name must not be null or empty");
         }
+        if (teamName.length() > MAX_TEAM_NAME_BYTES / 3 && utf8Length(teamName) > MAX_TEAM_NAME_BYTES) {
+            throw new InvalidTeamNameException("Team name must not be longer than " + MAX_TEAM_NAME_BYTES + " bytes in UTF-8");
+        }
+    }
+
+    /**
+     * Counts the bytes of a string encoded in UTF-8, without encoding it. Like {@link String#getBytes(java.nio.charset.Charset)},
+     * an unpaired surrogate counts as the single byte of its replacement {@code '?'}.
+     *
+     * @param value the string
+     * @return the number of bytes
+     */
+    public static int utf8Length(final String value) {
+        int bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
     }
 
     /**
@@ -82,7 +246,39 @@ public final class GameValidator {
      */
     public static void validateId(final UUID id, final Map<UUID, Game> games) throws GameNotFoundException {
         if (!games.containsKey(id)) {
-            throw new GameNotFoundException("Match not found with id: " + id);
+            throw new GameNotFoundException(id);
+        }
+    }
+
+    /**
+     * Looks up a game by its id.
+     *
+     * @param id the id of the game
+     * @param games the map of games to look up in
+     * @return the game, never {@code null}
+     * @throws GameNotFoundException if the game is not found
+     */
+    public static Game requireGame(final UUID id, final Map<UUID, Game> games) throws GameNotFoundException {
+        final Game game = games.get(id);
+        if (game == null) {
+            throw new GameNotFoundException(id);
+        }
+        return game;
+    }
+
+    /**
+     * Validates the bounds of a page of the summary.
+     *
+     * @param offset the number of games to skip
+     * @param limit the maximum number of games to return
+     * @throws IllegalArgumentException if the offset or the limit is negative
+     */
+    public static void validatePage(final int offset, final int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must be greater than or equal to 0");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must be greater than or equal to 0");
         }
     }
 
@@ -0,0 +1,306 @@
+package org.maperz.scoreboard.infrastructure.archive;
+
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.validator.GameValidator;
+import org.maperz.scoreboard.infrastructure.log.BinaryCodec;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only archive of finished games kept in off-heap memory.
+ * <p>
+ *     Every game is a fixed-size record in direct buffers allocated one segment at a time: the identifier as two
+ *     longs, the start time as nanoseconds since the epoch, the indexes of both teams in a table of team names,
+ *     both scores as ints, and for each team the index of the previous record of that team. The heap only holds
+ *     the table of distinct team names and two small indexes, so it does not grow with the number of archived games:
+ * </p>
+ * <ul>
+ *     <li>The last record of every team, keyed by the normalized name of the team. Together with the previous
+ *     record stored in every record it chains the games of a team, newest first, so
+ *     {@link #findByTeam(String, int)} reads only the records of the team.</li>
+ *     <li>The earliest and latest start time of every block of {@value #BLOCK_RECORDS} records, so
+ *     {@link #findStartedBetween(LocalDateTime, LocalDateTime, int)} skips the blocks outside the range.
+ *     Games finish roughly in the order they started, so blocks cover narrow time ranges.</li>
+ * </ul>
+ * <p>
+ *     Records are only decoded into {@link Game}s when they are returned by a query. It is thread-safe.
+ * </p>
+ */
+public class GameArchive {
+
+    /**
+     * The number of records of a segment.
+     */
+    private static final int SEGMENT_RECORDS = 1 << 16;
+
+    /**
+     * The number of records of a block of the start time index.
+     */
+    public static final int BLOCK_RECORDS = 1024;
+
+    /**
+     * The size of a record.
+     */
+    private static final int RECORD_BYTES = 2 * Long.BYTES + Long.BYTES + 6 * Integer.BYTES;
+
+    /**
+     * The offset of the start time in a record.
+     */
+    private static final int START_OFFSET = 2 * Long.BYTES;
+
+    /**
+     * The offset of the home team index in a record.
+     */
+    private static final int HOME_TEAM_OFFSET = START_OFFSET + Long.BYTES;
+
+    /**
+     * The offset of the away team index in a record.
+     */
+    private static final int AWAY_TEAM_OFFSET = HOME_TEAM_OFFSET + Integer.BYTES;
+
+    /**
+     * The offset of the home score in a record.
+     */
+    private static final int HOME_SCORE_OFFSET = AWAY_TEAM_OFFSET + Integer.BYTES;
+
+    /**
+     * The offset of the away score in a record.
+     */
+    private static final int AWAY_SCORE_OFFSET = HOME_SCORE_OFFSET + Integer.BYTES;
+
+    /**
+     * The offset of the previous record of the home team in a record.
+     */
+    private static final int PREVIOUS_HOME_OFFSET = AWAY_SCORE_OFFSET + Integer.BYTES;
+
+    /**
+     * The offset of the previous record of the away team in a record.
+     */
+    private static final int PREVIOUS_AWAY_OFFSET = PREVIOUS_HOME_OFFSET + Integer.BYTES;
+
+    /**
+     * The index of no record.
+     */
+    private static final int NO_RECORD = -1;
+
+    /**
+     * The segments holding the records.
+     */
+    private final List<ByteBuffer> segments = new ArrayList<>();
+
+    /**
+     * The index of every team name in {@link #teams}, keyed by the exact name.
+     */
+    private final Map<String, Integer> teamIndexes = new HashMap<>();
+
+    /**
+     * The table of team names, indexed by team index.
+     */
+    private Team[] teams = new Team[64];
+
+    /**
+     * The key of every team in {@link #teams}, shared by the names differing only in case.
+     */
+    private int[] teamKeys = new int[64];
+
+    /**
+     * The key of every team, keyed by the normalized name of the team.
+     */
+    private final Map<String, Integer> keys = new HashMap<>();
+
+    /**
+     * The last record of every team, indexed by team key.
+     */
+    private int[] lastRecords = new int[0];
+
+    /**
+     * The earliest start time of every block, in nanoseconds since the epoch.
+     */
+    private long[] blockMinStarts = new long[16];
+
+    /**
+     * The latest start time of every block, in nanoseconds since the epoch.
+     */
+    private long[] blockMaxStarts = new long[16];
+
+    /**
+     * The number of archived games.
+     */
+    private int size;
+
+    /**
+     * Appends a finished game to the archive.
+     *
+     * @param game The finished game.
+     * @throws IllegalArgumentException If the start time cannot be stored as nanoseconds since the epoch;
+     *                                  nothing is allocated or registered then.
+     * @throws IllegalStateException If the archive is full.
+     */
+    public synchronized void append(final Game game) {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Archive is full");
+        }
+        final long start = BinaryCodec.toEpochNanos(game.startTime());
+        final int homeTeam = teamIndex(game.homeTeam());
+        final int awayTeam = teamIndex(game.awayTeam());
+        final int record = size;
+        if ((record & (SEGMENT_RECORDS - 1)) == 0) {
+            segments.add(ByteBuffer.allocateDirect(SEGMENT_RECORDS * RECORD_BYTES));
+        }
+        final ByteBuffer segment = segments.get(record / SEGMENT_RECORDS);
+        final int offset = (record & (SEGMENT_RECORDS - 1)) * RECORD_BYTES;
+        segment.putLong(offset, game.id().getMostSignificantBits());
+        segment.putLong(offset + Long.BYTES, game.id().getLeastSignificantBits());
+        segment.putLong(offset + START_OFFSET, start);
+        segment.putInt(offset + HOME_TEAM_OFFSET, homeTeam);
+        segment.putInt(offset + AWAY_TEAM_OFFSET, awayTeam);
+        segment.putInt(offset + HOME_SCORE_OFFSET, game.score().homeScore());
+        segment.putInt(offset + AWAY_SCORE_OFFSET, game.score().awayScore());
+        segment.putInt(offset + PREVIOUS_HOME_OFFSET, lastRecords[teamKeys[homeTeam]]);
+        segment.putInt(offset + PREVIOUS_AWAY_OFFSET, lastRecords[teamKeys[awayTeam]]);
+        lastRecords[teamKeys[homeTeam]] = record;
+        lastRecords[teamKeys[awayTeam]] = record;
+
+        final int block = record / BLOCK_RECORDS;
+        if (block == blockMinStarts.length) {
+            blockMinStarts = Arrays.copyOf(blockMinStarts, 2 * block);
+            blockMaxStarts = Arrays.copyOf(blockMaxStarts, 2 * block);
+        }
+        if (record % BLOCK_RECORDS == 0) {
+            blockMinStarts[block] = start;
+            blockMaxStarts[block] = start;
+        } else {
+            blockMinStarts[block] = Math.min(blockMinStarts[block], start);
+            blockMaxStarts[block] = Math.max(blockMaxStarts[block], start);
+        }
+        size++;
+    }
+
+    /**
+     * Finds the archived games of a team, newest first.
+     *
+     * @param teamName The name of the team, ignoring case.
+     * @param limit The maximum number of games to return.
+     * @return The games the team played as home or away team.
+     * @throws IllegalArgumentException If the limit is negative.
+     */
+    public synchronized List<Game> findByTeam(final String teamName, final int limit) {
+        GameValidator.validatePage(0, limit);
+        final Integer key = keys.get(GameValidator.normalizeTeamName(teamName));
+        if (key == null) {
+            return List.of();
+        }
+        final List<Game> games = new ArrayList<>();
+        int record = lastRecords[key];
+        while (record != NO_RECORD && games.size() < limit) {
+            final ByteBuffer segment = segments.get(record / SEGMENT_RECORDS);
+            final int offset = (record & (SEGMENT_RECORDS - 1)) * RECORD_BYTES;
+            games.add(decode(segment, offset));
+            record = teamKeys[segment.getInt(offset + HOME_TEAM_OFFSET)] == key
+                    ? segment.getInt(offset + PREVIOUS_HOME_OFFSET)
+                    : segment.getInt(offset + PREVIOUS_AWAY_OFFSET);
+        }
+        return games;
+    }
+
+    /**
+     * Finds the archived games started within a time range, in the order they were archived.
+     * The range may extend beyond the start times the archive can store, see {@link BinaryCodec#MIN_TIME}.
+     *
+     * @param from The earliest start time, inclusive.
+     * @param to The latest start time, exclusive.
+     * @param limit The maximum number of games to return.
+     * @return The games started within the range.
+     * @throws IllegalArgumentException If the limit is negative.
+     */
+    public synchronized List<Game> findStartedBetween(final LocalDateTime from, final LocalDateTime to, final int limit) {
+        GameValidator.validatePage(0, limit);
+        if (!from.isBefore(to) || !to.isAfter(BinaryCodec.MIN_TIME) || from.isAfter(BinaryCodec.MAX_TIME)) {
+            return List.of();
+        }
+        final long fromNanos = BinaryCodec.toEpochNanos(from.isBefore(BinaryCodec.MIN_TIME) ? BinaryCodec.MIN_TIME : from);
+        final long lastNanos = to.isAfter(BinaryCodec.MAX_TIME) ? Long.MAX_VALUE : BinaryCodec.toEpochNanos(to) - 1;
+        final List<Game> games = new ArrayList<>();
+        final int blocks = (size + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        for (int block = 0; block < blocks && games.size() < limit; block++) {
+            if (blockMaxStarts[block] < fromNanos || blockMinStarts[block] > lastNanos) {
+                continue;
+            }
+            final int last = Math.min(size, (block + 1) * BLOCK_RECORDS);
+            for (int record = block * BLOCK_RECORDS; record < last && games.size() < limit; record++) {
+                final ByteBuffer segment = segments.get(record / SEGMENT_RECORDS);
+                final int offset = (record & (SEGMENT_RECORDS - 1)) * RECORD_BYTES;
+                final long start = segment.getLong(offset + START_OFFSET);
+                if (start >= fromNanos && start <= lastNanos) {
+                    games.add(decode(segment, offset));
+                }
+            }
+        }
+        return games;
+    }
+
+    /**
+     * @return The number of archived games.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of bytes of off-heap memory allocated for the records.
+     */
+    public synchronized long getOffHeapBytes() {
+        return (long) segments.size() * SEGMENT_RECORDS * RECORD_BYTES;
+    }
+
+    /**
+     * Looks up the index of a team in the table of team names, adding the team if it is new.
+     *
+     * @param team The team.
+     * @return The team index.
+     */
+    private int teamIndex(final Team team) {
+        final Integer existing = teamIndexes.get(team.name());
+        if (existing != null) {
+            return existing;
+        }
+        final int index = teamIndexes.size();
+        if (index == teams.length) {
+            teams = Arrays.copyOf(teams, 2 * index);
+            teamKeys = Arrays.copyOf(teamKeys, 2 * index);
+        }
+        final int key = keys.computeIfAbsent(GameValidator.normalizeTeamName(team.name()), name -> keys.size());
+        if (key == lastRecords.length) {
+            lastRecords = Arrays.copyOf(lastRecords, Math.max(64, 2 * key));
+            Arrays.fill(lastRecords, key, lastRecords.length, NO_RECORD);
+        }
+        teams[index] = team;
+        teamKeys[index] = key;
+        teamIndexes.put(team.name(), index);
+        return index;
+    }
+
+    /**
+     * Decodes a record.
+     *
+     * @param segment The segment of the record.
+     * @param offset The offset of the record in the segment.
+     * @return The game.
+     */
+    private Game decode(final ByteBuffer segment, final int offset) {
+        return new Game(new UUID(segment.getLong(offset), segment.getLong(offset + Long.BYTES)),
+                teams[segment.getInt(offset + HOME_TEAM_OFFSET)], teams[segment.getInt(offset + AWAY_TEAM_OFFSET)],
+                new Score(segment.getInt(offset + HOME_SCORE_OFFSET), segment.getInt(offset + AWAY_SCORE_OFFSET)),
+                BinaryCodec.fromEpochNanos(segment.getLong(offset + START_OFFSET)));
+    }
+
+}
@@ -0,0 +1,122 @@
+package org.maperz.scoreboard.infrastructure.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free queue for many producer threads and a single consumer thread.
+ * <p>
+ *     Elements are stored in a ring of a power-of-two number of slots. A producer claims the next sequence
+ *     with a compare-and-set on the tail and then publishes its element into the slot of the sequence;
+ *     the consumer takes elements in sequence order and frees their slots.
+ *     A claimed slot whose element is not published yet reads as empty, so {@link #poll()} may return {@code null}
+ *     while {@link #size()} is positive.
+ *     Only one thread may call {@link #poll()}.
+ * </p>
+ *
+ * @param <E> The type of the elements.
+ */
+public final class MpscRingBuffer<E> {
+
+    /**
+     * The slots of the ring; an empty slot holds {@code null}.
+     */
+    private final AtomicReferenceArray<E> slots;
+
+    /**
+     * The number of slots minus one, masking a sequence to its slot.
+     */
+    private final int mask;
+
+    /**
+     * The next sequence to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next sequence to be taken by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates a new MpscRingBuffer.
+     *
+     * @param capacity The maximum number of elements, rounded up to a power of two.
+     */
+    public MpscRingBuffer(final int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element if the queue is not full.
+     *
+     * @param element The element, not {@code null}.
+     * @return Whether the element was added.
+     */
+    public boolean offer(final E element) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        slots.lazySet((int) sequence & mask, element);
+        return true;
+    }
+
+    /**
+     * Takes the next element. Must only be called by the consumer thread.
+     *
+     * @return The element, or {@code null} if the next element has not been published yet.
+     */
+    public E poll() {
+        final long sequence = head.get();
+        final int slot = (int) sequence & mask;
+        final E element = slots.get(slot);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(slot, null);
+        head.lazySet(sequence + 1);
+        return element;
+    }
+
+    /**
+     * @return The number of claimed sequences that have not been taken yet.
+     */
+    public int size() {
+        final long consumed = head.get();
+        return (int) Math.max(0, tail.get() - consumed);
+    }
+
+    /**
+     * @return The maximum number of elements.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return The number of sequences claimed by producers so far.
+     */
+    public long producedCount() {
+        return tail.get();
+    }
+
+    /**
+     * @return The number of elements taken by the consumer so far.
+     */
+    public long consumedCount() {
+        return head.get();
+    }
+
+}
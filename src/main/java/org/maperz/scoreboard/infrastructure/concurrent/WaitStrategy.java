@@ -0,0 +1,96 @@
+package org.maperz.scoreboard.infrastructure.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a consumer thread waits while its queue is empty.
+ * <p>
+ *     The strategies trade latency for CPU usage: spinning reacts fastest but keeps a core busy,
+ *     blocking frees the core but has to be woken by the producers.
+ * </p>
+ */
+public enum WaitStrategy {
+
+    /**
+     * Spins on the queue. Lowest latency; keeps a core busy.
+     */
+    BUSY_SPIN,
+
+    /**
+     * Spins for a while, then yields the processor between checks.
+     */
+    YIELDING,
+
+    /**
+     * Spins, then yields, then sleeps for short periods between checks.
+     */
+    SLEEPING,
+
+    /**
+     * Spins for a while, then parks until a producer wakes the consumer. Lowest CPU usage.
+     */
+    BLOCKING;
+
+    /**
+     * The number of idle rounds spent spinning before yielding or parking.
+     */
+    private static final int SPIN_ROUNDS = 100;
+
+    /**
+     * The number of idle rounds after which {@link #SLEEPING} sleeps.
+     */
+    private static final int YIELD_ROUNDS = 200;
+
+    /**
+     * The sleep period of {@link #SLEEPING}.
+     */
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * The maximum park period of {@link #BLOCKING}, bounding the delay of a missed wake-up.
+     */
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Waits once after the queue was found empty.
+     *
+     * @param idleRounds The number of consecutive times the queue was found empty before.
+     */
+    public void idle(final int idleRounds) {
+        switch (this) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELDING -> {
+                if (idleRounds < SPIN_ROUNDS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            case SLEEPING -> {
+                if (idleRounds < SPIN_ROUNDS) {
+                    Thread.onSpinWait();
+                } else if (idleRounds < YIELD_ROUNDS) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            }
+            case BLOCKING -> {
+                if (idleRounds < SPIN_ROUNDS) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Whether producers must wake the consumer after adding to the queue.
+     */
+    public boolean requiresSignal() {
+        return this == BLOCKING;
+    }
+
+}
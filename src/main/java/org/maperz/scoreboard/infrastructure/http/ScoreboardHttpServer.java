@@ -0,0 +1,417 @@
+package org.maperz.scoreboard.infrastructure.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Embedded HTTP endpoint serving the summary of a scoreboard as JSON, built on the JDK's {@link HttpServer}.
+ * <p>
+ *     Two resources are served:
+ * </p>
+ * <ul>
+ *     <li>{@value #SUMMARY_PATH} answers {@code GET} with the summary, see {@link SummaryJson}. The response carries
+ *     an {@code ETag} naming the version, and requests whose {@code If-None-Match} is {@code *} or lists the current
+ *     entity tag, compared weakly, get {@code 304 Not Modified} without a body.</li>
+ *     <li>{@value #EVENTS_PATH} streams the summary as Server-Sent Events: one {@code summary} event with the
+ *     current summary on connect, unless the {@code Last-Event-ID} names the current version, and one more event
+ *     whenever the version changes. A comment is sent when nothing changed for {@value #HEARTBEAT_SECONDS} seconds,
+ *     so that proxies keep the connection open.</li>
+ * </ul>
+ * <p>
+ *     The summary is encoded once per version, on the first request after a change, and the cached bytes are
+ *     written as they are to every client. Every exchange runs on its own virtual thread, so thousands of event
+ *     streams only cost a parked virtual thread each. A watcher thread polls {@link Scoreboard#getVersion()} to
+ *     detect changes for the event streams. The scoreboard must support reads from any thread, e.g. the concurrent,
+ *     sharded, event-loop or copy-on-write scoreboard.
+ * </p>
+ */
+public class ScoreboardHttpServer implements AutoCloseable {
+
+    /**
+     * The path of the summary.
+     */
+    public static final String SUMMARY_PATH = "/summary";
+
+    /**
+     * The path of the stream of summary events.
+     */
+    public static final String EVENTS_PATH = "/summary/events";
+
+    /**
+     * The default interval between two polls of the version by the watcher.
+     */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMillis(100);
+
+    /**
+     * The number of seconds without change after which a heartbeat comment is sent to the event streams.
+     */
+    private static final int HEARTBEAT_SECONDS = 15;
+
+    /**
+     * The heartbeat comment.
+     */
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The summary encoded for a version.
+     *
+     * @param version The version of the encoded snapshot.
+     * @param etag The entity tag of the version, quoted.
+     * @param body The JSON document.
+     * @param event The JSON document framed as a Server-Sent Event.
+     */
+    private record Encoded(long version, String etag, byte[] body, byte[] event) {
+    }
+
+    /**
+     * The served scoreboard.
+     */
+    private final Scoreboard scoreboard;
+
+    /**
+     * The HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The executor running every exchange on its own virtual thread.
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Distinguishes the entity tags of this server from those of another process serving the same versions.
+     */
+    private final String instance = UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * Guards the encoding of the summary and signals its changes to the event streams.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when a new version has been encoded or the server is closed.
+     */
+    private final Condition changed = lock.newCondition();
+
+    /**
+     * The watcher thread polling the version.
+     */
+    private final Thread watcher;
+
+    /**
+     * The most recently encoded summary.
+     */
+    private volatile Encoded encoded;
+
+    /**
+     * Whether the server has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates and starts a new ScoreboardHttpServer.
+     *
+     * @param scoreboard The served scoreboard, readable from any thread.
+     * @param address The address to listen on, e.g. port 0 for an ephemeral port.
+     * @param refreshInterval The interval between two polls of the version by the watcher.
+     * @throws IOException If the server cannot listen on the address.
+     */
+    private ScoreboardHttpServer(final Scoreboard scoreboard, final InetSocketAddress address, final Duration refreshInterval) throws IOException {
+        this.scoreboard = scoreboard;
+        this.encoded = encode(scoreboard.getSnapshot());
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext(SUMMARY_PATH, exchange -> handle(exchange, this::serveSummary));
+        server.createContext(EVENTS_PATH, exchange -> handle(exchange, this::streamEvents));
+        server.start();
+        this.watcher = Thread.ofVirtual().name("scoreboard-http-watcher").start(() -> watch(refreshInterval));
+    }
+
+    /**
+     * Starts serving a scoreboard, polling its version every {@link #DEFAULT_REFRESH_INTERVAL}.
+     *
+     * @param scoreboard The served scoreboard, readable from any thread.
+     * @param address The address to listen on, e.g. port 0 for an ephemeral port.
+     * @return The started server.
+     * @throws IOException If the server cannot listen on the address.
+     */
+    public static ScoreboardHttpServer start(final Scoreboard scoreboard, final InetSocketAddress address) throws IOException {
+        return start(scoreboard, address, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * Starts serving a scoreboard.
+     *
+     * @param scoreboard The served scoreboard, readable from any thread.
+     * @param address The address to listen on, e.g. port 0 for an ephemeral port.
+     * @param refreshInterval The interval between two polls of the version, bounding the delay of the events.
+     * @return The started server.
+     * @throws IOException If the server cannot listen on the address.
+     */
+    public static ScoreboardHttpServer start(final Scoreboard scoreboard, final InetSocketAddress address, final Duration refreshInterval) throws IOException {
+        return new ScoreboardHttpServer(scoreboard, address, refreshInterval);
+    }
+
+    /**
+     * @return The address the server listens on.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops the server, closing the event streams and every open connection.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        watcher.interrupt();
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Handles an exchange, answering methods other than {@code GET} with {@code 405 Method Not Allowed}.
+     *
+     * @param exchange The exchange.
+     * @param handler The handler of {@code GET} requests.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handle(final HttpExchange exchange, final GetHandler handler) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            handler.handle(exchange);
+        }
+    }
+
+    /**
+     * Serves the current summary, or {@code 304 Not Modified} if the client holds it.
+     *
+     * @param exchange The exchange.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void serveSummary(final HttpExchange exchange) throws IOException {
+        final Encoded current = current();
+        exchange.getResponseHeaders().set("ETag", current.etag());
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        if (noneMatchFails(exchange.getRequestHeaders().get("If-None-Match"), current.etag())) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, current.body().length);
+        exchange.getResponseBody().write(current.body());
+    }
+
+    /**
+     * Evaluates an {@code If-None-Match} precondition as per RFC 9110, section 13.1.2: it fails if the field is
+     * {@code *} or lists an entity tag matching the current one by weak comparison, i.e. ignoring {@code W/}.
+     * The field may be sent in several lines, each a comma-separated list. Parsing stops at the first malformed
+     * member; the members before it are still evaluated.
+     *
+     * @param fieldValues The lines of the field, or {@code null} if it was not sent.
+     * @param etag The current entity tag, quoted.
+     * @return Whether the precondition fails, i.e. the client holds the current representation.
+     */
+    static boolean noneMatchFails(final List<String> fieldValues, final String etag) {
+        if (fieldValues == null) {
+            return false;
+        }
+        final String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (final String fieldValue : fieldValues) {
+            int i = 0;
+            while (i < fieldValue.length()) {
+                final char c = fieldValue.charAt(i);
+                if (c == ',' || c == ' ' || c == '\t') {
+                    i++;
+                    continue;
+                }
+                if (c == '*') {
+                    return true;
+                }
+                final int start = fieldValue.startsWith("W/", i) ? i + 2 : i;
+                final int end = start < fieldValue.length() && fieldValue.charAt(start) == '"' ? fieldValue.indexOf('"', start + 1) : -1;
+                if (end < 0) {
+                    break;
+                }
+                if (fieldValue.regionMatches(start, opaqueTag, 0, opaqueTag.length()) && end + 1 - start == opaqueTag.length()) {
+                    return true;
+                }
+                i = end + 1;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Streams the summary as Server-Sent Events until the client disconnects or the server is closed.
+     *
+     * @param exchange The exchange.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void streamEvents(final HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        final OutputStream body = exchange.getResponseBody();
+        long sent = lastEventId(exchange);
+        Encoded next = current();
+        try {
+            while (!closed) {
+                if (next == null) {
+                    body.write(HEARTBEAT);
+                } else if (next.version() != sent) {
+                    body.write(next.event());
+                    sent = next.version();
+                }
+                body.flush();
+                next = awaitChange(sent);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Retrieves the summary of the current version, encoding it if the version changed.
+     *
+     * @return The encoded summary.
+     */
+    private Encoded current() {
+        final Encoded cached = encoded;
+        if (cached.version() == scoreboard.getVersion()) {
+            return cached;
+        }
+        lock.lock();
+        try {
+            final ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+            if (encoded.version() != snapshot.version()) {
+                encoded = encode(snapshot);
+                changed.signalAll();
+            }
+            return encoded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until a version other than the given one has been encoded.
+     *
+     * @param version The version the client holds.
+     * @return The encoded summary, or {@code null} if nothing changed for {@value #HEARTBEAT_SECONDS} seconds
+     * or the server was closed.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    private Encoded awaitChange(final long version) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.SECONDS.toNanos(HEARTBEAT_SECONDS);
+            while (!closed && encoded.version() == version) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = changed.awaitNanos(nanos);
+            }
+            return closed ? null : encoded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Polls the version until the server is closed, encoding every new version for the event streams.
+     *
+     * @param refreshInterval The interval between two polls.
+     */
+    private void watch(final Duration refreshInterval) {
+        while (!closed) {
+            try {
+                Thread.sleep(refreshInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            current();
+        }
+    }
+
+    /**
+     * Encodes the summary of a snapshot.
+     *
+     * @param snapshot The snapshot.
+     * @return The encoded summary.
+     */
+    private Encoded encode(final ScoreboardSnapshot snapshot) {
+        final byte[] body = SummaryJson.encode(snapshot);
+        final byte[] prefix = ("id: " + snapshot.version() + "\nevent: summary\ndata: ").getBytes(StandardCharsets.US_ASCII);
+        final byte[] event = new byte[prefix.length + body.length + 2];
+        System.arraycopy(prefix, 0, event, 0, prefix.length);
+        System.arraycopy(body, 0, event, prefix.length, body.length);
+        event[event.length - 2] = '\n';
+        event[event.length - 1] = '\n';
+        return new Encoded(snapshot.version(), "\"" + instance + "-" + snapshot.version() + "\"", body, event);
+    }
+
+    /**
+     * Reads the version a reconnecting event stream client last received.
+     *
+     * @param exchange The exchange.
+     * @return The version named by the {@code Last-Event-ID} header, or -1 if there is none.
+     */
+    private static long lastEventId(final HttpExchange exchange) {
+        final String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+        if (lastEventId == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Handles a {@code GET} request.
+     */
+    @FunctionalInterface
+    private interface GetHandler {
+
+        /**
+         * Handles a {@code GET} request.
+         *
+         * @param exchange The exchange.
+         * @throws IOException If the response cannot be sent.
+         */
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.maperz.scoreboard.infrastructure.http;
+
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes the summary of a snapshot as JSON.
+ * <p>
+ *     The document is {@code {"version":1,"games":[{"id":"...","homeTeam":"...","awayTeam":"...","homeScore":0,
+ *     "awayScore":0,"startTime":"2024-01-01T10:00"}]}}, with the games in summary order and the start time in
+ *     ISO-8601 format. It never contains a line break, so it fits in a single Server-Sent Events data line.
+ *     It is a utility class and cannot be instantiated.
+ * </p>
+ */
+final class SummaryJson {
+
+    /**
+     * The hexadecimal digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Encodes the summary of a snapshot.
+     *
+     * @param snapshot The snapshot.
+     * @return The UTF-8 bytes of the JSON document.
+     */
+    static byte[] encode(final ScoreboardSnapshot snapshot) {
+        final StringBuilder json = new StringBuilder(64 + 160 * snapshot.summary().size());
+        json.append("{\"version\":").append(snapshot.version()).append(",\"games\":[");
+        boolean first = true;
+        for (final Game game : snapshot.summary()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"id\":\"").append(game.id()).append("\",\"homeTeam\":");
+            appendString(json, game.homeTeam().name());
+            json.append(",\"awayTeam\":");
+            appendString(json, game.awayTeam().name());
+            json.append(",\"homeScore\":").append(game.score().homeScore())
+                    .append(",\"awayScore\":").append(game.score().awayScore())
+                    .append(",\"startTime\":\"").append(game.startTime()).append("\"}");
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends a JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param json The JSON being built.
+     * @param value The string.
+     */
+    private static void appendString(final StringBuilder json, final String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                json.append("\\u").append(HEX[c >> 12 & 0xF]).append(HEX[c >> 8 & 0xF]).append(HEX[c >> 4 & 0xF]).append(HEX[c & 0xF]);
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private SummaryJson() {
+    }
+
+}
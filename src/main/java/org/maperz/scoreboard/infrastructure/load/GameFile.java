@@ -0,0 +1,601 @@
+package org.maperz.scoreboard.infrastructure.load;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.id.GameIdGenerator;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.validator.GameValidator;
+import org.maperz.scoreboard.infrastructure.log.BinaryCodec;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reads files of games to bulk load into a scoreboard, e.g. the fixtures of a tournament.
+ * <p>
+ *     Two formats are supported. A CSV file holds one game per line as
+ *     {@code homeTeam,awayTeam,homeScore,awayScore,startTime[,id]}, with the start time in ISO-8601 format and an
+ *     optional header line starting with {@value #CSV_HEADER}; team names cannot contain commas. Games without an
+ *     identifier get one from the given {@link GameIdGenerator}, called concurrently.
+ *     A binary file, written by {@link #writeBinary(Path, Collection)}, holds a {@link BinaryCodec.GameTable} of
+ *     the games, the layout of the snapshots, followed by a CRC32C checksum.
+ * </p>
+ * <p>
+ *     Files are memory mapped and split into chunks, at line boundaries for CSV and record boundaries for binary
+ *     files, that are parsed and validated in parallel on the common {@link ForkJoinPool}. The games keep the order
+ *     of the file. Checking that no team plays twice is left to {@link Scoreboard#restoreGames(Collection)}, which
+ *     does it in a single pass while installing all games in one step.
+ *     It is a utility class and cannot be instantiated.
+ * </p>
+ */
+public final class GameFile {
+
+    /**
+     * The start of the optional header line of a CSV file.
+     */
+    public static final String CSV_HEADER = "homeTeam,";
+
+    /**
+     * The magic number identifying a binary game file.
+     */
+    private static final int MAGIC = 0x53424746;
+
+    /**
+     * The version of the binary format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The minimum size of a chunk of a CSV file parsed by a single task.
+     */
+    private static final int MIN_CSV_CHUNK_BYTES = 1 << 16;
+
+    /**
+     * The minimum number of records of a binary file decoded by a single task.
+     */
+    private static final int MIN_BINARY_CHUNK_RECORDS = 4096;
+
+    /**
+     * Reads a file of games and restores them into a scoreboard in one step.
+     *
+     * @param scoreboard The scoreboard.
+     * @param file The CSV or binary file, recognized by its content.
+     * @param idGenerator Generates the identifiers of the games of a CSV file without one.
+     * @return The number of restored games.
+     * @throws IOException If the file cannot be read or holds an invalid game.
+     * @throws InvalidTeamNameException If a team plays in two games, or is already playing on the scoreboard.
+     * @throws IllegalArgumentException If a game with the same identifier already exists.
+     */
+    public static int importGames(final Scoreboard scoreboard, final Path file, final GameIdGenerator idGenerator) throws IOException, InvalidTeamNameException {
+        final List<Game> games = read(file, idGenerator);
+        scoreboard.restoreGames(games);
+        return games.size();
+    }
+
+    /**
+     * Reads a file of games, recognizing binary files by their magic number and reading other files as CSV.
+     *
+     * @param file The file.
+     * @param idGenerator Generates the identifiers of the games of a CSV file without one.
+     * @return The games, in the order of the file.
+     * @throws IOException If the file cannot be read or holds an invalid game.
+     */
+    public static List<Game> read(final Path file, final GameIdGenerator idGenerator) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = map(channel);
+            if (buffer.limit() >= Integer.BYTES && buffer.getInt(0) == MAGIC) {
+                return readBinary(buffer);
+            }
+            return readCsv(buffer, idGenerator);
+        }
+    }
+
+    /**
+     * Reads a CSV file of games.
+     *
+     * @param file The file.
+     * @param idGenerator Generates the identifiers of the games without one.
+     * @return The games, in the order of the file.
+     * @throws IOException If the file cannot be read or holds an invalid game.
+     */
+    public static List<Game> readCsv(final Path file, final GameIdGenerator idGenerator) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readCsv(map(channel), idGenerator);
+        }
+    }
+
+    /**
+     * Reads a binary file of games.
+     *
+     * @param file The file.
+     * @return The games, in the order of the file.
+     * @throws IOException If the file cannot be read or is not an intact binary game file.
+     */
+    public static List<Game> readBinary(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readBinary(map(channel));
+        }
+    }
+
+    /**
+     * Writes games into a binary file through a memory mapping, replacing the file if it exists.
+     *
+     * @param file The file.
+     * @param games The games.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writeBinary(final Path file, final Collection<Game> games) throws IOException {
+        final BinaryCodec.GameTable table = new BinaryCodec.GameTable(games);
+        final long size = 2 * Integer.BYTES + table.size() + Integer.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Too many games for a single file: " + games.size());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC);
+            buffer.putInt(FORMAT_VERSION);
+            table.put(buffer);
+            buffer.putInt(BinaryCodec.checksum(buffer, buffer.position()));
+            buffer.force();
+        }
+    }
+
+    /**
+     * Maps a whole file into memory.
+     *
+     * @param channel The channel of the file.
+     * @return The read-only mapping.
+     * @throws IOException If the file cannot be mapped or is larger than 2 GiB.
+     */
+    private static MappedByteBuffer map(final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Game file larger than 2 GiB: " + size + " bytes");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    /**
+     * Parses the games of a mapped CSV file in parallel.
+     *
+     * @param buffer The mapping of the file.
+     * @param idGenerator Generates the identifiers of the games without one.
+     * @return The games, in the order of the file.
+     * @throws IOException If the file holds an invalid game.
+     */
+    private static List<Game> readCsv(final ByteBuffer buffer, final GameIdGenerator idGenerator) throws IOException {
+        final int size = buffer.limit();
+        final int chunkBytes = Math.max(MIN_CSV_CHUNK_BYTES, size / (4 * ForkJoinPool.getCommonPoolParallelism()) + 1);
+        final List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+        int boundary = 0;
+        while (boundary < size) {
+            boundary = Math.min(size, boundary + chunkBytes);
+            while (boundary < size && buffer.get(boundary - 1) != '\n') {
+                boundary++;
+            }
+            boundaries.add(boundary);
+        }
+        final CsvChunk[] chunks = new CsvChunk[boundaries.size() - 1];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new CsvChunk(buffer, boundaries.get(i), boundaries.get(i + 1), idGenerator);
+        }
+        ForkJoinPool.commonPool().invoke(new ParseTask(chunks, 0, chunks.length));
+
+        int count = 0;
+        for (final CsvChunk chunk : chunks) {
+            if (chunk.failure != null) {
+                throw chunk.failure;
+            }
+            count += chunk.games.size();
+        }
+        final List<Game> games = new ArrayList<>(count);
+        for (final CsvChunk chunk : chunks) {
+            games.addAll(chunk.games);
+        }
+        return games;
+    }
+
+    /**
+     * Decodes the games of a mapped binary file in parallel.
+     *
+     * @param buffer The mapping of the file.
+     * @return The games, in the order of the file.
+     * @throws IOException If the file is not an intact binary game file.
+     */
+    private static List<Game> readBinary(final ByteBuffer buffer) throws IOException {
+        final int size = buffer.limit();
+        if (size < 5 * Integer.BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT_VERSION) {
+            throw new IOException("Not a binary game file");
+        }
+        final int checksumOffset = size - Integer.BYTES;
+        if (buffer.getInt(checksumOffset) != BinaryCodec.checksum(buffer, checksumOffset)) {
+            throw new IOException("Corrupted binary game file: checksum mismatch");
+        }
+        final ByteBuffer header = buffer.duplicate().position(2 * Integer.BYTES);
+        try {
+            final Team[] teams = new Team[header.getInt()];
+            for (int i = 0; i < teams.length; i++) {
+                teams[i] = new Team(BinaryCodec.getString(header));
+                GameValidator.validateTeamName(teams[i].name());
+            }
+            final int count = header.getInt();
+            if ((long) count * BinaryCodec.GAME_RECORD_BYTES != checksumOffset - header.position()) {
+                throw new IOException("Corrupted binary game file: expected " + count + " games");
+            }
+            final BinaryChunk[] chunks = new BinaryChunk[(count + MIN_BINARY_CHUNK_RECORDS - 1) / MIN_BINARY_CHUNK_RECORDS];
+            final Game[] games = new Game[count];
+            for (int i = 0; i < chunks.length; i++) {
+                final int from = i * MIN_BINARY_CHUNK_RECORDS;
+                chunks[i] = new BinaryChunk(buffer, header.position(), teams, games, from, Math.min(count, from + MIN_BINARY_CHUNK_RECORDS));
+            }
+            ForkJoinPool.commonPool().invoke(new ParseTask(chunks, 0, chunks.length));
+            for (final BinaryChunk chunk : chunks) {
+                if (chunk.failure != null) {
+                    throw chunk.failure;
+                }
+            }
+            return Arrays.asList(games);
+        } catch (InvalidTeamNameException | RuntimeException e) {
+            throw new IOException("Corrupted binary game file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * A part of a file parsed by a single task.
+     * <p>
+     *     Chunks record their failure instead of throwing, so that the first failure in the order of the file
+     *     is reported, whichever task fails first.
+     * </p>
+     */
+    private abstract static class Chunk {
+
+        /**
+         * The failure of the chunk, or {@code null} if it was parsed successfully.
+         */
+        IOException failure;
+
+        /**
+         * Parses the chunk.
+         *
+         * @throws IOException If the chunk holds an invalid game.
+         */
+        abstract void parse() throws IOException;
+    }
+
+    /**
+     * Parses a range of chunks, splitting it in halves until a single chunk is left.
+     */
+    private static final class ParseTask extends RecursiveAction {
+
+        /**
+         * The serialization version. Tasks are only run on the fork-join pool and never serialized.
+         */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The chunks, not serialized as they hold mapped buffers.
+         */
+        private final transient Chunk[] chunks;
+
+        /**
+         * The first chunk of the range, inclusive.
+         */
+        private final int from;
+
+        /**
+         * The last chunk of the range, exclusive.
+         */
+        private final int to;
+
+        /**
+         * Creates a new ParseTask.
+         *
+         * @param chunks The chunks.
+         * @param from The first chunk of the range, inclusive.
+         * @param to The last chunk of the range, exclusive.
+         */
+        private ParseTask(final Chunk[] chunks, final int from, final int to) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new ParseTask(chunks, from, middle), new ParseTask(chunks, middle, to));
+            } else if (to > from) {
+                try {
+                    chunks[from].parse();
+                } catch (IOException e) {
+                    chunks[from].failure = e;
+                }
+            }
+        }
+    }
+
+    /**
+     * A range of whole lines of a CSV file.
+     */
+    private static final class CsvChunk extends Chunk {
+
+        /**
+         * The mapping of the file.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * The offset of the first byte of the chunk, inclusive.
+         */
+        private final int start;
+
+        /**
+         * The offset of the last byte of the chunk, exclusive.
+         */
+        private final int end;
+
+        /**
+         * Generates the identifiers of the games without one.
+         */
+        private final GameIdGenerator idGenerator;
+
+        /**
+         * The teams of the chunk, interned by name.
+         */
+        private final Map<String, Team> teams = new HashMap<>();
+
+        /**
+         * The parsed games.
+         */
+        private final List<Game> games = new ArrayList<>();
+
+        /**
+         * Creates a new CsvChunk.
+         *
+         * @param buffer The mapping of the file.
+         * @param start The offset of the first byte of the chunk, inclusive.
+         * @param end The offset of the last byte of the chunk, exclusive.
+         * @param idGenerator Generates the identifiers of the games without one.
+         */
+        private CsvChunk(final ByteBuffer buffer, final int start, final int end, final GameIdGenerator idGenerator) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.idGenerator = idGenerator;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void parse() throws IOException {
+            final byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            int lineStart = 0;
+            while (lineStart < bytes.length) {
+                int lineEnd = lineStart;
+                while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                final int contentEnd = lineEnd > lineStart && bytes[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+                if (contentEnd > lineStart && !(start + lineStart == 0 && startsWith(bytes, lineStart, contentEnd, CSV_HEADER))) {
+                    try {
+                        games.add(parseLine(bytes, lineStart, contentEnd));
+                    } catch (InvalidTeamNameException | RuntimeException e) {
+                        throw new IOException("Invalid game at byte " + (start + lineStart) + ": " + e.getMessage(), e);
+                    }
+                }
+                lineStart = lineEnd + 1;
+            }
+        }
+
+        /**
+         * Parses a line holding a game.
+         *
+         * @param bytes The bytes of the chunk.
+         * @param from The offset of the line, inclusive.
+         * @param to The offset of the end of the line, exclusive.
+         * @return The game.
+         * @throws InvalidTeamNameException If a team name is invalid.
+         * @throws IllegalArgumentException If the line is malformed or a score is negative.
+         */
+        private Game parseLine(final byte[] bytes, final int from, final int to) throws InvalidTeamNameException {
+            final int[] commas = new int[5];
+            int columns = 0;
+            for (int i = from; i < to; i++) {
+                if (bytes[i] == ',') {
+                    if (columns == commas.length) {
+                        throw new IllegalArgumentException("Expected at most 6 columns");
+                    }
+                    commas[columns++] = i;
+                }
+            }
+            if (columns < 4) {
+                throw new IllegalArgumentException("Expected at least 5 columns");
+            }
+            final Team homeTeam = team(bytes, from, commas[0]);
+            final Team awayTeam = team(bytes, commas[0] + 1, commas[1]);
+            final int homeScore = parseScore(bytes, commas[1] + 1, commas[2]);
+            final int awayScore = parseScore(bytes, commas[2] + 1, commas[3]);
+            final int timeEnd = columns == 5 ? commas[4] : to;
+            final LocalDateTime startTime = LocalDateTime.parse(new String(bytes, commas[3] + 1, timeEnd - commas[3] - 1, StandardCharsets.US_ASCII));
+            final UUID id = columns == 5
+                    ? UUID.fromString(new String(bytes, commas[4] + 1, to - commas[4] - 1, StandardCharsets.US_ASCII))
+                    : idGenerator.nextId();
+            return new Game(id, homeTeam, awayTeam, new Score(homeScore, awayScore), startTime);
+        }
+
+        /**
+         * Decodes and validates a team name, interning the team within the chunk.
+         *
+         * @param bytes The bytes of the chunk.
+         * @param from The offset of the name, inclusive.
+         * @param to The offset of the end of the name, exclusive.
+         * @return The team.
+         * @throws InvalidTeamNameException If the team name is invalid.
+         */
+        private Team team(final byte[] bytes, final int from, final int to) throws InvalidTeamNameException {
+            final String name = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+            Team team = teams.get(name);
+            if (team == null) {
+                GameValidator.validateTeamName(name);
+                team = new Team(name);
+                teams.put(name, team);
+            }
+            return team;
+        }
+
+        /**
+         * Parses a score of decimal digits.
+         *
+         * @param bytes The bytes of the chunk.
+         * @param from The offset of the score, inclusive.
+         * @param to The offset of the end of the score, exclusive.
+         * @return The score.
+         * @throws IllegalArgumentException If the score is not a non-negative int.
+         */
+        private static int parseScore(final byte[] bytes, final int from, final int to) {
+            if (from == to || to - from > 10) {
+                throw new IllegalArgumentException("Score must be a number between 0 and " + Integer.MAX_VALUE);
+            }
+            long score = 0;
+            for (int i = from; i < to; i++) {
+                final int digit = bytes[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new IllegalArgumentException("Score must be a number between 0 and " + Integer.MAX_VALUE);
+                }
+                score = score * 10 + digit;
+            }
+            if (score > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Score must be a number between 0 and " + Integer.MAX_VALUE);
+            }
+            return (int) score;
+        }
+
+        /**
+         * @param bytes The bytes of the chunk.
+         * @param from The offset of the line, inclusive.
+         * @param to The offset of the end of the line, exclusive.
+         * @param prefix An ASCII prefix.
+         * @return Whether the line starts with the prefix.
+         */
+        private static boolean startsWith(final byte[] bytes, final int from, final int to, final String prefix) {
+            if (to - from < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (bytes[from + i] != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A range of game records of a binary file.
+     */
+    private static final class BinaryChunk extends Chunk {
+
+        /**
+         * The mapping of the file.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * The offset of the first game record of the file.
+         */
+        private final int recordsOffset;
+
+        /**
+         * The table of teams of the file.
+         */
+        private final Team[] teams;
+
+        /**
+         * The games of the file, filled at the index of their record.
+         */
+        private final Game[] games;
+
+        /**
+         * The first record of the chunk, inclusive.
+         */
+        private final int from;
+
+        /**
+         * The last record of the chunk, exclusive.
+         */
+        private final int to;
+
+        /**
+         * Creates a new BinaryChunk.
+         *
+         * @param buffer The mapping of the file.
+         * @param recordsOffset The offset of the first game record of the file.
+         * @param teams The table of teams of the file.
+         * @param games The games of the file, filled at the index of their record.
+         * @param from The first record of the chunk, inclusive.
+         * @param to The last record of the chunk, exclusive.
+         */
+        private BinaryChunk(final ByteBuffer buffer, final int recordsOffset, final Team[] teams, final Game[] games,
+                            final int from, final int to) {
+            this.buffer = buffer;
+            this.recordsOffset = recordsOffset;
+            this.teams = teams;
+            this.games = games;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void parse() throws IOException {
+            final ByteBuffer records = buffer.duplicate().position(recordsOffset + from * BinaryCodec.GAME_RECORD_BYTES);
+            for (int i = from; i < to; i++) {
+                final UUID id = BinaryCodec.getUuid(records);
+                final int homeTeam = records.getInt();
+                final int awayTeam = records.getInt();
+                final int homeScore = records.getInt();
+                final int awayScore = records.getInt();
+                final long startNanos = records.getLong();
+                if (homeTeam < 0 || homeTeam >= teams.length || awayTeam < 0 || awayTeam >= teams.length
+                        || homeScore < 0 || awayScore < 0) {
+                    throw new IOException("Corrupted binary game file: invalid game record " + i);
+                }
+                games[i] = new Game(id, teams[homeTeam], teams[awayTeam], new Score(homeScore, awayScore),
+                        BinaryCodec.fromEpochNanos(startNanos));
+            }
+        }
+    }
+
+    private GameFile() {
+    }
+
+}
@@ -0,0 +1,250 @@
+package org.maperz.scoreboard.infrastructure.log;
+
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Team;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Encodes the building blocks of the binary formats.
+ * <p>
+ *     Identifiers are stored as two longs, times as nanoseconds since the epoch in UTC,
+ *     and strings as an unsigned short length followed by their UTF-8 bytes.
+ *     Games are written as a {@link GameTable}, the layout shared by the snapshots and the binary game files,
+ *     and files are protected by a {@link #checksum(ByteBuffer, int) CRC32C checksum}.
+ *     It is a utility class and cannot be instantiated.
+ * </p>
+ */
+public final class BinaryCodec {
+
+    /**
+     * The number of nanoseconds in a second.
+     */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * The size of a game record of a {@link GameTable}: the identifier, the indexes of both teams,
+     * both scores and the start time.
+     */
+    public static final int GAME_RECORD_BYTES = 2 * Long.BYTES + 4 * Integer.BYTES + Long.BYTES;
+
+    /**
+     * The maximum number of bytes of an encoded string.
+     */
+    public static final int MAX_STRING_BYTES = 0xFFFF;
+
+    /**
+     * The earliest time that can be encoded, {@link Long#MIN_VALUE} nanoseconds since the epoch.
+     */
+    public static final LocalDateTime MIN_TIME = fromEpochNanos(Long.MIN_VALUE);
+
+    /**
+     * The latest time that can be encoded, {@link Long#MAX_VALUE} nanoseconds since the epoch.
+     */
+    public static final LocalDateTime MAX_TIME = fromEpochNanos(Long.MAX_VALUE);
+
+    /**
+     * Writes a UUID.
+     *
+     * @param buffer the buffer to write to
+     * @param id the UUID
+     */
+    public static void putUuid(final ByteBuffer buffer, final UUID id) {
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+    }
+
+    /**
+     * Reads a UUID.
+     *
+     * @param buffer the buffer to read from
+     * @return the UUID
+     */
+    public static UUID getUuid(final ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Converts a time to nanoseconds since the epoch in UTC.
+     *
+     * @param time the time
+     * @return the nanoseconds since the epoch
+     * @throws IllegalArgumentException if the time is before {@link #MIN_TIME} or after {@link #MAX_TIME}
+     */
+    public static long toEpochNanos(final LocalDateTime time) {
+        validateTime(time);
+        return time.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + time.getNano();
+    }
+
+    /**
+     * Validates that a time can be encoded.
+     *
+     * @param time the time
+     * @throws IllegalArgumentException if the time is before {@link #MIN_TIME} or after {@link #MAX_TIME}
+     */
+    public static void validateTime(final LocalDateTime time) {
+        if (time.isBefore(MIN_TIME) || time.isAfter(MAX_TIME)) {
+            throw new IllegalArgumentException("Time must be between " + MIN_TIME + " and " + MAX_TIME + " but was " + time);
+        }
+    }
+
+    /**
+     * Converts nanoseconds since the epoch in UTC to a time.
+     *
+     * @param epochNanos the nanoseconds since the epoch
+     * @return the time
+     */
+    public static LocalDateTime fromEpochNanos(final long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    /**
+     * Encodes a string to UTF-8.
+     *
+     * @param value the string
+     * @return the UTF-8 bytes
+     * @throws IllegalArgumentException if the string is longer than {@link #MAX_STRING_BYTES} bytes
+     */
+    public static byte[] encodeString(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String must not be longer than " + MAX_STRING_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes a string encoded by {@link #encodeString(String)}.
+     *
+     * @param buffer the buffer to write to
+     * @param bytes the UTF-8 bytes
+     */
+    public static void putString(final ByteBuffer buffer, final byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @param buffer the buffer to read from
+     * @return the string
+     */
+    public static String getString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Computes the CRC32C checksum of the start of a buffer.
+     *
+     * @param buffer the buffer
+     * @param length the number of bytes to include
+     * @return the checksum
+     */
+    public static int checksum(final ByteBuffer buffer, final int length) {
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Games encoded as a table of the distinct team names followed by one fixed-size record per game.
+     * <p>
+     *     The table is the number of team names followed by the names. The records are preceded by their number,
+     *     and every record holds the identifier, the indexes of both teams in the table, both scores as ints
+     *     and the start time, {@value #GAME_RECORD_BYTES} bytes in total.
+     *     The team names and start times are encoded and validated when the table is created, so that writing it
+     *     cannot fail halfway.
+     * </p>
+     */
+    public static final class GameTable {
+
+        /**
+         * The games.
+         */
+        private final Collection<Game> games;
+
+        /**
+         * The index of every team name in the table.
+         */
+        private final Map<String, Integer> teamIndexes = new HashMap<>();
+
+        /**
+         * The UTF-8 bytes of the team names, in the order of the table.
+         */
+        private final List<byte[]> teamNames = new ArrayList<>();
+
+        /**
+         * The number of bytes of the encoded table and records.
+         */
+        private final long size;
+
+        /**
+         * Creates a new GameTable.
+         *
+         * @param games the games
+         * @throws IllegalArgumentException if a team name is too long or a start time cannot be encoded
+         */
+        public GameTable(final Collection<Game> games) {
+            this.games = games;
+            long bytes = 2 * Integer.BYTES;
+            for (final Game game : games) {
+                for (final Team team : List.of(game.homeTeam(), game.awayTeam())) {
+                    if (!teamIndexes.containsKey(team.name())) {
+                        final byte[] name = encodeString(team.name());
+                        teamIndexes.put(team.name(), teamNames.size());
+                        teamNames.add(name);
+                        bytes += Short.BYTES + name.length;
+                    }
+                }
+                validateTime(game.startTime());
+                bytes += GAME_RECORD_BYTES;
+            }
+            this.size = bytes;
+        }
+
+        /**
+         * @return the number of bytes written by {@link #put(ByteBuffer)}
+         */
+        public long size() {
+            return size;
+        }
+
+        /**
+         * Writes the table of team names and the game records.
+         *
+         * @param buffer the buffer to write to
+         */
+        public void put(final ByteBuffer buffer) {
+            buffer.putInt(teamNames.size());
+            for (final byte[] name : teamNames) {
+                putString(buffer, name);
+            }
+            buffer.putInt(games.size());
+            for (final Game game : games) {
+                putUuid(buffer, game.id());
+                buffer.putInt(teamIndexes.get(game.homeTeam().name()));
+                buffer.putInt(teamIndexes.get(game.awayTeam().name()));
+                buffer.putInt(game.score().homeScore());
+                buffer.putInt(game.score().awayScore());
+                buffer.putLong(toEpochNanos(game.startTime()));
+            }
+        }
+    }
+
+    private BinaryCodec() {
+    }
+
+}
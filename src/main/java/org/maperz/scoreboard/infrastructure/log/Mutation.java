@@ -0,0 +1,98 @@
+package org.maperz.scoreboard.infrastructure.log;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents an applied mutation of a scoreboard, as recorded in a log.
+ * <p>
+ *     Unlike a {@link org.maperz.scoreboard.domain.operation.ScoreboardOperation}, a mutation carries everything
+ *     needed to reproduce the same state on another scoreboard, including the identifiers of the games.
+ * </p>
+ */
+public sealed interface Mutation {
+
+    /**
+     * Applies the mutation to a scoreboard.
+     *
+     * @param scoreboard The scoreboard.
+     * @throws InvalidTeamNameException If a started game is rejected.
+     * @throws GameNotFoundException If the game is not found.
+     * @throws InvalidScoreException If the score is rejected.
+     */
+    void applyTo(Scoreboard scoreboard) throws InvalidTeamNameException, GameNotFoundException, InvalidScoreException;
+
+    /**
+     * Converts the results of an applied batch to the mutations it applied.
+     *
+     * @param results The results of the batch, in order.
+     * @return The mutations of the successful operations, in order.
+     */
+    static List<Mutation> of(final List<OperationResult> results) {
+        final List<Mutation> mutations = new ArrayList<>(results.size());
+        for (final OperationResult result : results) {
+            if (!result.isSuccess()) {
+                continue;
+            }
+            mutations.add(switch (result.operation()) {
+                case StartGame start -> new Start(new Game(result.gameId(), new Team(start.homeTeamName()),
+                        new Team(start.awayTeamName()), new Score(0, 0), start.startTime()));
+                case UpdateScore update -> new Update(update.id(), update.homeScore(), update.awayScore());
+                case FinishGame finish -> new Finish(finish.id());
+            });
+        }
+        return mutations;
+    }
+
+    /**
+     * A game was started or restored.
+     *
+     * @param game The game, including its identifier, score and start time.
+     */
+    record Start(Game game) implements Mutation {
+        @Override
+        public void applyTo(final Scoreboard scoreboard) throws InvalidTeamNameException {
+            scoreboard.restoreGames(List.of(game));
+        }
+    }
+
+    /**
+     * The score of a game was updated.
+     *
+     * @param id The unique identifier of the game.
+     * @param homeScore The updated score of the home team.
+     * @param awayScore The updated score of the away team.
+     */
+    record Update(UUID id, int homeScore, int awayScore) implements Mutation {
+        @Override
+        public void applyTo(final Scoreboard scoreboard) throws GameNotFoundException, InvalidScoreException {
+            scoreboard.updateScore(id, homeScore, awayScore);
+        }
+    }
+
+    /**
+     * A game was finished.
+     *
+     * @param id The unique identifier of the game.
+     */
+    record Finish(UUID id) implements Mutation {
+        @Override
+        public void applyTo(final Scoreboard scoreboard) throws GameNotFoundException {
+            scoreboard.finishGame(id);
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package org.maperz.scoreboard.infrastructure.log;
+
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.validator.GameValidator;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Encodes and decodes {@link SequencedMutation sequenced mutations} as checksummed binary frames.
+ * <p>
+ *     A frame consists of the length of its body, the CRC32C checksum of its body, and the body itself.
+ *     The body holds the sequence number, the type of the mutation and its payload.
+ *     It is a utility class and cannot be instantiated.
+ * </p>
+ */
+public final class MutationCodec {
+
+    /**
+     * The size of the frame header: the length and the checksum of the body.
+     */
+    public static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+
+    /**
+     * The maximum size of a frame body.
+     */
+    public static final int MAX_BODY_BYTES = Long.BYTES + 1 + 2 * Long.BYTES + Long.BYTES + 2 * Integer.BYTES
+            + 2 * (Short.BYTES + BinaryCodec.MAX_STRING_BYTES);
+
+    /**
+     * The type of a {@link Mutation.Start}.
+     */
+    private static final byte START = 1;
+
+    /**
+     * The type of a {@link Mutation.Update}.
+     */
+    private static final byte UPDATE = 2;
+
+    /**
+     * The type of a {@link Mutation.Finish}.
+     */
+    private static final byte FINISH = 3;
+
+    /**
+     * Returns the size of the frame of a mutation. The team names are measured without encoding them.
+     *
+     * @param mutation the mutation
+     * @return the size of the frame in bytes, including the header
+     */
+    public static int frameSize(final Mutation mutation) {
+        final int payload = switch (mutation) {
+            case Mutation.Start start -> 2 * Long.BYTES + Long.BYTES + 2 * Integer.BYTES
+                    + 2 * Short.BYTES + GameValidator.utf8Length(start.game().homeTeam().name())
+                    + GameValidator.utf8Length(start.game().awayTeam().name());
+            case Mutation.Update update -> 2 * Long.BYTES + 2 * Integer.BYTES;
+            case Mutation.Finish finish -> 2 * Long.BYTES;
+        };
+        return HEADER_BYTES + Long.BYTES + 1 + payload;
+    }
+
+    /**
+     * Writes the frame of a sequenced mutation.
+     *
+     * @param buffer the buffer to write to, with at least {@link #frameSize(Mutation)} bytes remaining
+     * @param sequenced the sequenced mutation
+     */
+    public static void encode(final ByteBuffer buffer, final SequencedMutation sequenced) {
+        final int frameStart = buffer.position();
+        buffer.position(frameStart + HEADER_BYTES);
+        final int bodyStart = buffer.position();
+        buffer.putLong(sequenced.sequence());
+        switch (sequenced.mutation()) {
+            case Mutation.Start start -> {
+                final Game game = start.game();
+                buffer.put(START);
+                BinaryCodec.putUuid(buffer, game.id());
+                buffer.putLong(BinaryCodec.toEpochNanos(game.startTime()));
+                buffer.putInt(game.score().homeScore());
+                buffer.putInt(game.score().awayScore());
+                BinaryCodec.putString(buffer, BinaryCodec.encodeString(game.homeTeam().name()));
+                BinaryCodec.putString(buffer, BinaryCodec.encodeString(game.awayTeam().name()));
+            }
+            case Mutation.Update update -> {
+                buffer.put(UPDATE);
+                BinaryCodec.putUuid(buffer, update.id());
+                buffer.putInt(update.homeScore());
+                buffer.putInt(update.awayScore());
+            }
+            case Mutation.Finish finish -> {
+                buffer.put(FINISH);
+                BinaryCodec.putUuid(buffer, finish.id());
+            }
+        }
+        final int bodyEnd = buffer.position();
+        buffer.putInt(frameStart, bodyEnd - bodyStart);
+        buffer.putInt(frameStart + Integer.BYTES, checksum(buffer, bodyStart, bodyEnd));
+    }
+
+    /**
+     * Reads the next frame.
+     * <p>
+     *     The position of the buffer is only advanced past the frame if the frame is complete and intact.
+     * </p>
+     *
+     * @param buffer the buffer to read from
+     * @return the sequenced mutation, or {@code null} if the remaining bytes do not hold a complete, intact frame
+     */
+    public static SequencedMutation decode(final ByteBuffer buffer) {
+        final int frameStart = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        final int length = buffer.getInt(frameStart);
+        final int checksum = buffer.getInt(frameStart + Integer.BYTES);
+        final int bodyStart = frameStart + HEADER_BYTES;
+        if (length <= Long.BYTES || length > MAX_BODY_BYTES || length > buffer.limit() - bodyStart
+                || checksum(buffer, bodyStart, bodyStart + length) != checksum) {
+            return null;
+        }
+        final ByteBuffer body = buffer.slice(bodyStart, length);
+        final long sequence = body.getLong();
+        final Mutation mutation = switch (body.get()) {
+            case START -> {
+                final UUID id = BinaryCodec.getUuid(body);
+                final LocalDateTime startTime = BinaryCodec.fromEpochNanos(body.getLong());
+                final Score score = new Score(body.getInt(), body.getInt());
+                final Team homeTeam = new Team(BinaryCodec.getString(body));
+                final Team awayTeam = new Team(BinaryCodec.getString(body));
+                yield new Mutation.Start(new Game(id, homeTeam, awayTeam, score, startTime));
+            }
+            case UPDATE -> new Mutation.Update(BinaryCodec.getUuid(body), body.getInt(), body.getInt());
+            case FINISH -> new Mutation.Finish(BinaryCodec.getUuid(body));
+            default -> null;
+        };
+        if (mutation == null) {
+            return null;
+        }
+        buffer.position(bodyStart + length);
+        return new SequencedMutation(sequence, mutation);
+    }
+
+    /**
+     * Computes the CRC32C checksum of a range of a buffer.
+     *
+     * @param buffer the buffer
+     * @param from the index of the first byte
+     * @param to the index after the last byte
+     * @return the checksum
+     */
+    private static int checksum(final ByteBuffer buffer, final int from, final int to) {
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+
+    private MutationCodec() {
+    }
+
+}
@@ -0,0 +1,10 @@
+package org.maperz.scoreboard.infrastructure.log;
+
+/**
+ * A mutation together with its position in a log.
+ *
+ * @param sequence The sequence number of the mutation, starting at 1.
+ * @param mutation The mutation.
+ */
+public record SequencedMutation(long sequence, Mutation mutation) {
+}
@@ -0,0 +1,175 @@
+package org.maperz.scoreboard.infrastructure.log;
+
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reads and writes compact binary snapshots of the ongoing games.
+ * <p>
+ *     A snapshot holds the sequence number of the last mutation it includes followed by a
+ *     {@link BinaryCodec.GameTable} of the games: a table of the distinct team names and one fixed-size record per game.
+ *     The whole file is protected by a trailing CRC32C checksum.
+ *     Snapshots are written to a temporary file through a memory mapping and atomically moved into place.
+ *     It is a utility class and cannot be instantiated.
+ * </p>
+ */
+public final class SnapshotFile {
+
+    /**
+     * The magic number identifying a snapshot file.
+     */
+    private static final int MAGIC = 0x5342534E;
+
+    /**
+     * The version of the snapshot format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The prefix of the snapshot file names.
+     */
+    private static final String PREFIX = "snapshot-";
+
+    /**
+     * The suffix of the snapshot file names.
+     */
+    private static final String SUFFIX = ".bin";
+
+    /**
+     * The contents of a snapshot.
+     *
+     * @param sequence The sequence number of the last mutation included in the snapshot.
+     * @param games The ongoing games.
+     */
+    public record Snapshot(long sequence, List<Game> games) {
+    }
+
+    /**
+     * Writes a snapshot into a directory and deletes the older snapshots.
+     *
+     * @param directory The directory of the snapshots.
+     * @param sequence The sequence number of the last mutation included in the snapshot.
+     * @param games The ongoing games.
+     * @return The written snapshot file.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public static Path write(final Path directory, final long sequence, final Collection<Game> games) throws IOException {
+        final BinaryCodec.GameTable table = new BinaryCodec.GameTable(games);
+        final long size = 2 * Integer.BYTES + Long.BYTES + table.size() + Integer.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Too many games for a single snapshot: " + games.size());
+        }
+
+        final Path target = directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+        final Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC);
+            buffer.putInt(FORMAT_VERSION);
+            buffer.putLong(sequence);
+            table.put(buffer);
+            buffer.putInt(BinaryCodec.checksum(buffer, buffer.position()));
+            buffer.force();
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        for (final Path snapshot : snapshots(directory)) {
+            if (snapshot.compareTo(target) < 0) {
+                Files.delete(snapshot);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Reads the latest intact snapshot of a directory.
+     *
+     * @param directory The directory of the snapshots.
+     * @return The snapshot, or an empty Optional if the directory holds no intact snapshot.
+     * @throws IOException If the directory cannot be read.
+     */
+    public static Optional<Snapshot> readLatest(final Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        final List<Path> snapshots = snapshots(directory);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            final Optional<Snapshot> snapshot = read(snapshots.get(i));
+            if (snapshot.isPresent()) {
+                return snapshot;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads a snapshot file with one sequential pass over its memory mapping.
+     *
+     * @param file The snapshot file.
+     * @return The snapshot, or an empty Optional if the file is not an intact snapshot.
+     * @throws IOException If the file cannot be read.
+     */
+    public static Optional<Snapshot> read(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < 5 * Integer.BYTES + Long.BYTES || size > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final int checksumOffset = (int) size - Integer.BYTES;
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT_VERSION
+                    || buffer.getInt(checksumOffset) != BinaryCodec.checksum(buffer, checksumOffset)) {
+                return Optional.empty();
+            }
+            buffer.position(2 * Integer.BYTES);
+            final long sequence = buffer.getLong();
+            final Team[] teams = new Team[buffer.getInt()];
+            for (int i = 0; i < teams.length; i++) {
+                teams[i] = new Team(BinaryCodec.getString(buffer));
+            }
+            final int gameCount = buffer.getInt();
+            final List<Game> games = new ArrayList<>(gameCount);
+            for (int i = 0; i < gameCount; i++) {
+                games.add(new Game(BinaryCodec.getUuid(buffer), teams[buffer.getInt()], teams[buffer.getInt()],
+                        new Score(buffer.getInt(), buffer.getInt()), BinaryCodec.fromEpochNanos(buffer.getLong())));
+            }
+            return Optional.of(new Snapshot(sequence, games));
+        }
+    }
+
+    /**
+     * Lists the snapshot files of a directory in sequence order.
+     *
+     * @param directory The directory.
+     * @return The snapshot files.
+     * @throws IOException If the directory cannot be listed.
+     */
+    private static List<Path> snapshots(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        final String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private SnapshotFile() {
+    }
+
+}
@@ -0,0 +1,522 @@
+package org.maperz.scoreboard.infrastructure.log;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, checksummed log of scoreboard mutations.
+ * <p>
+ *     Appending only assigns a sequence number and enqueues the mutation; a background writer thread encodes the
+ *     queued mutations, writes them through a {@link FileChannel} and syncs them to disk.
+ *     All mutations written within the configured fsync interval share a single fsync (group commit).
+ *     The log is stored in a directory as segment files named after the sequence number of their first mutation.
+ *     On opening, all segments are replayed; a torn or corrupt tail is truncated.
+ *     After a snapshot, {@link #rollover()} starts a new segment and {@link #deleteSegmentsUpTo(long)} removes the
+ *     segments the snapshot covers, so the log does not grow for the whole lifetime of the scoreboard.
+ * </p>
+ */
+public final class WriteAheadLog implements AutoCloseable {
+
+    /**
+     * The prefix of the segment file names.
+     */
+    private static final String SEGMENT_PREFIX = "wal-";
+
+    /**
+     * The suffix of the segment file names.
+     */
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * The size of the write buffer of the writer thread.
+     */
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    /**
+     * The marker asking the writer thread to sync everything written so far.
+     */
+    private static final SequencedMutation SYNC = new SequencedMutation(-1, null);
+
+    /**
+     * The marker asking the writer thread to sync and start a new segment.
+     */
+    private static final SequencedMutation ROLLOVER = new SequencedMutation(-2, null);
+
+    /**
+     * The directory of the segment files.
+     */
+    private final Path directory;
+
+    /**
+     * The options of the log.
+     */
+    private final WriteAheadLogOptions options;
+
+    /**
+     * The mutations waiting to be written.
+     */
+    private final BlockingQueue<SequencedMutation> queue;
+
+    /**
+     * The sequence number of the next appended mutation.
+     */
+    private final AtomicLong nextSequence;
+
+    /**
+     * The sequence number of the last mutation synced to disk.
+     */
+    private final AtomicLong durableSequence;
+
+    /**
+     * The thread writing and syncing the queued mutations.
+     */
+    private final Thread writer;
+
+    /**
+     * The segment file being appended to. Only accessed by the writer thread once it has started.
+     */
+    private FileChannel channel;
+
+    /**
+     * The sequence number of the first mutation of the segment being appended to.
+     */
+    private volatile long segmentStart;
+
+    /**
+     * The failure of the writer thread, if any. Once set, the log rejects every further append and sync.
+     */
+    private volatile IOException failure;
+
+    /**
+     * Whether the log is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates a new WriteAheadLog appending to the given segment.
+     *
+     * @param directory The directory of the segment files.
+     * @param options The options of the log.
+     * @param channel The segment file to append to, positioned at its end.
+     * @param segmentStart The sequence number of the first mutation of the segment.
+     * @param lastSequence The sequence number of the last mutation in the log.
+     */
+    private WriteAheadLog(final Path directory, final WriteAheadLogOptions options, final FileChannel channel, final long segmentStart, final long lastSequence) {
+        this.directory = directory;
+        this.options = options;
+        this.queue = new LinkedBlockingQueue<>(options.queueCapacity());
+        this.channel = channel;
+        this.segmentStart = segmentStart;
+        this.nextSequence = new AtomicLong(lastSequence + 1);
+        this.durableSequence = new AtomicLong(lastSequence);
+        this.writer = new Thread(this::writeLoop, "scoreboard-wal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Opens the log in a directory and replays the mutations it contains.
+     *
+     * @param directory The directory of the segment files, created if it does not exist.
+     * @param options The options of the log.
+     * @param replay Receives every intact mutation of the log, in order.
+     * @return The opened log, ready to append after the last intact mutation.
+     * @throws IOException If the log cannot be read or opened.
+     */
+    public static WriteAheadLog open(final Path directory, final WriteAheadLogOptions options, final Consumer<SequencedMutation> replay) throws IOException {
+        return open(directory, options, 0, replay);
+    }
+
+    /**
+     * Opens the log in a directory and replays the mutations following a sequence number.
+     *
+     * @param directory The directory of the segment files, created if it does not exist.
+     * @param options The options of the log.
+     * @param afterSequence Mutations with this or a lower sequence number are skipped.
+     * @param replay Receives every intact mutation of the log following {@code afterSequence}, in order.
+     * @return The opened log, ready to append after the last intact mutation.
+     * @throws IOException If the log cannot be read or opened.
+     */
+    public static WriteAheadLog open(final Path directory, final WriteAheadLogOptions options, final long afterSequence, final Consumer<SequencedMutation> replay) throws IOException {
+        Files.createDirectories(directory);
+        final List<Path> segments = segments(directory);
+        long lastSequence = afterSequence;
+        Path lastSegment = null;
+        long validBytes = 0;
+        for (final Path segment : segments) {
+            final ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(segment));
+            SequencedMutation sequenced;
+            while ((sequenced = MutationCodec.decode(content)) != null) {
+                if (sequenced.sequence() > lastSequence) {
+                    replay.accept(sequenced);
+                    lastSequence = sequenced.sequence();
+                }
+            }
+            lastSegment = segment;
+            validBytes = content.position();
+            if (content.hasRemaining()) {
+                break;
+            }
+        }
+        if (lastSegment == null) {
+            lastSegment = directory.resolve(segmentName(lastSequence + 1));
+        }
+        final FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(validBytes);
+        channel.position(validBytes);
+        for (final Path segment : segments) {
+            if (segment.compareTo(lastSegment) > 0) {
+                Files.delete(segment);
+            }
+        }
+        return new WriteAheadLog(directory, options, channel, firstSequence(lastSegment), lastSequence);
+    }
+
+    /**
+     * Appends a mutation to the log.
+     * <p>
+     *     The mutation is written asynchronously; use {@link #sync()} to wait until it is durable.
+     *     Blocks only while the queue of pending mutations is full.
+     * </p>
+     *
+     * @param mutation The mutation.
+     * @return The sequence number assigned to the mutation.
+     * @throws UncheckedIOException If the writer thread has failed.
+     * @throws IllegalStateException If the log is closed.
+     */
+    public long append(final Mutation mutation) {
+        checkOpen();
+        final SequencedMutation sequenced = new SequencedMutation(nextSequence.getAndIncrement(), mutation);
+        enqueue(sequenced);
+        return sequenced.sequence();
+    }
+
+    /**
+     * Appends mutations to the log, assigning them consecutive sequence numbers.
+     *
+     * @param mutations The mutations.
+     * @return The sequence number assigned to the last mutation.
+     * @throws UncheckedIOException If the writer thread has failed.
+     * @throws IllegalStateException If the log is closed.
+     */
+    public long appendAll(final List<? extends Mutation> mutations) {
+        long sequence = nextSequence.get() - 1;
+        for (final Mutation mutation : mutations) {
+            sequence = append(mutation);
+        }
+        return sequence;
+    }
+
+    /**
+     * Waits until every mutation appended so far is synced to disk.
+     *
+     * @throws UncheckedIOException If the writer thread has failed.
+     * @throws InterruptedException If the thread is interrupted while waiting; the mutations may not be durable yet.
+     */
+    public void sync() throws InterruptedException {
+        checkFailure();
+        final long target = nextSequence.get() - 1;
+        if (durableSequence.get() >= target) {
+            return;
+        }
+        enqueue(SYNC);
+        synchronized (durableSequence) {
+            while (durableSequence.get() < target) {
+                checkFailure();
+                durableSequence.wait(100);
+            }
+        }
+    }
+
+    /**
+     * Starts a new segment with the next appended mutation and waits until the writer thread has switched to it.
+     * Every mutation appended before the call is synced and stays in the previous segments.
+     *
+     * @return The sequence number of the last mutation in the previous segments.
+     * @throws UncheckedIOException If the writer thread has failed.
+     */
+    public long rollover() {
+        checkFailure();
+        final long lastSequence = nextSequence.get() - 1;
+        enqueue(ROLLOVER);
+        synchronized (durableSequence) {
+            while (segmentStart <= lastSequence) {
+                checkFailure();
+                try {
+                    durableSequence.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Deletes the segments that only contain mutations up to a sequence number, e.g. after these mutations
+     * have been included in a snapshot. The segment being appended to is never deleted.
+     *
+     * @param sequence The sequence number of the last mutation that is no longer needed.
+     * @throws IOException If a segment cannot be deleted.
+     */
+    public void deleteSegmentsUpTo(final long sequence) throws IOException {
+        final List<Path> segments = segments(directory);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            final long nextStart = firstSequence(segments.get(i + 1));
+            if (nextStart <= sequence + 1 && nextStart <= segmentStart) {
+                Files.delete(segments.get(i));
+            }
+        }
+    }
+
+    /**
+     * @return The sequence number of the last appended mutation, or 0 if the log is empty.
+     */
+    public long lastSequence() {
+        return nextSequence.get() - 1;
+    }
+
+    /**
+     * @return The sequence number of the last mutation synced to disk, or 0 if the log is empty.
+     */
+    public long durableSequence() {
+        return durableSequence.get();
+    }
+
+    /**
+     * @return The directory of the segment files.
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Writes and syncs the pending mutations, then stops the writer thread and closes the log.
+     *
+     * @throws IOException If the pending mutations cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            enqueue(SYNC);
+        } catch (UncheckedIOException e) {
+            // the writer has failed and stopped; its failure is thrown below
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * The loop of the writer thread.
+     * <p>
+     *     Any failure, including one encoding a mutation, is recorded in {@link #failure} and wakes up the threads
+     *     waiting for the writer, so that they fail instead of waiting for a writer that has stopped.
+     * </p>
+     */
+    private void writeLoop() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        final List<SequencedMutation> batch = new ArrayList<>();
+        long writtenSequence = durableSequence.get();
+        long lastSync = System.nanoTime();
+        try {
+            while (true) {
+                final long untilSync = options.fsyncIntervalMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastSync);
+                final SequencedMutation first = writtenSequence > durableSequence.get()
+                        ? queue.poll(Math.max(untilSync, 0), TimeUnit.MILLISECONDS)
+                        : queue.poll(100, TimeUnit.MILLISECONDS);
+                boolean syncRequested = false;
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch);
+                    for (final SequencedMutation sequenced : batch) {
+                        if (sequenced == SYNC) {
+                            syncRequested = true;
+                            continue;
+                        }
+                        if (sequenced == ROLLOVER) {
+                            write(buffer);
+                            rollSegment(writtenSequence);
+                            continue;
+                        }
+                        if (buffer.remaining() < MutationCodec.frameSize(sequenced.mutation())) {
+                            write(buffer);
+                        }
+                        MutationCodec.encode(buffer, sequenced);
+                        writtenSequence = sequenced.sequence();
+                    }
+                    batch.clear();
+                    write(buffer);
+                }
+                final boolean due = syncRequested || closed
+                        || TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastSync) >= options.fsyncIntervalMillis();
+                if (writtenSequence > durableSequence.get() && due) {
+                    channel.force(false);
+                    lastSync = System.nanoTime();
+                    synchronized (durableSequence) {
+                        durableSequence.set(writtenSequence);
+                        durableSequence.notifyAll();
+                    }
+                }
+                if (closed && queue.isEmpty()) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            fail(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(new InterruptedIOException("Write-ahead log writer was interrupted"));
+        } catch (RuntimeException | Error e) {
+            fail(new IOException("Write-ahead log writer failed", e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Records the failure of the writer thread and wakes up the threads waiting for it.
+     *
+     * @param e The failure.
+     */
+    private void fail(final IOException e) {
+        synchronized (durableSequence) {
+            failure = e;
+            durableSequence.notifyAll();
+        }
+    }
+
+    /**
+     * Syncs and closes the current segment and opens a new one. Called by the writer thread only.
+     *
+     * @param writtenSequence The sequence number of the last mutation written to the current segment.
+     * @throws IOException If the segments cannot be synced or opened.
+     */
+    private void rollSegment(final long writtenSequence) throws IOException {
+        channel.force(false);
+        channel.close();
+        final long start = writtenSequence + 1;
+        channel = FileChannel.open(directory.resolve(segmentName(start)), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        synchronized (durableSequence) {
+            segmentStart = start;
+            durableSequence.set(Math.max(durableSequence.get(), writtenSequence));
+            durableSequence.notifyAll();
+        }
+    }
+
+    /**
+     * Writes the content of the buffer to the segment file and clears the buffer.
+     *
+     * @param buffer The buffer.
+     * @throws IOException If the content cannot be written.
+     */
+    private void write(final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Enqueues an item for the writer thread.
+     *
+     * @param item The item.
+     */
+    private void enqueue(final SequencedMutation item) {
+        try {
+            while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                checkFailure();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while appending to the write-ahead log", e);
+        }
+    }
+
+    /**
+     * Verifies that the log is open and the writer thread has not failed.
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+        checkFailure();
+    }
+
+    /**
+     * Verifies that the writer thread has not failed.
+     */
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log writer failed", failure);
+        }
+    }
+
+    /**
+     * Lists the segment files of a directory in sequence order.
+     *
+     * @param directory The directory.
+     * @return The segment files.
+     * @throws IOException If the directory cannot be listed.
+     */
+    static List<Path> segments(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        final String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Returns the sequence number of the first mutation of a segment file.
+     *
+     * @param segment The segment file.
+     * @return The sequence number encoded in its name.
+     */
+    static long firstSequence(final Path segment) {
+        final String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Returns the name of the segment file starting at a sequence number.
+     *
+     * @param firstSequence The sequence number of the first mutation of the segment.
+     * @return The file name; names of segments sort in sequence order.
+     */
+    static String segmentName(final long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.maperz.scoreboard.infrastructure.log;
+
+/**
+ * Options of a {@link WriteAheadLog}.
+ *
+ * @param fsyncIntervalMillis The maximum time appended mutations may stay unsynced, in milliseconds.
+ *                            All mutations written within the interval share one fsync; 0 syncs after every write.
+ * @param queueCapacity The maximum number of mutations waiting to be written. Appending blocks while the queue is full.
+ */
+public record WriteAheadLogOptions(long fsyncIntervalMillis, int queueCapacity) {
+
+    /**
+     * The default options: group commit every 10 milliseconds with room for 65536 pending mutations.
+     */
+    public static final WriteAheadLogOptions DEFAULT = new WriteAheadLogOptions(10, 1 << 16);
+
+    /**
+     * Validates the options.
+     */
+    public WriteAheadLogOptions {
+        if (fsyncIntervalMillis < 0) {
+            throw new IllegalArgumentException("Fsync interval must be greater than or equal to 0");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be greater than 0");
+        }
+    }
+
+}
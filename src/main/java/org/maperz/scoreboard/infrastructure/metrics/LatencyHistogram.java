@@ -0,0 +1,157 @@
+package org.maperz.scoreboard.infrastructure.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in log-linear buckets.
+ * <p>
+ *     Values below {@value #SUB_BUCKETS} are counted exactly. Above, every power of two is split into
+ *     {@value #SUB_BUCKETS} linear buckets, so a recorded value is reported with a relative error of at most 1/16.
+ *     The bucket of a value is computed with a few shifts, and recording only increments the counter of the bucket.
+ *     Every bucket is a {@link LongAdder}, which spreads contended increments over per-thread cells, so threads
+ *     recording the same latencies concurrently do not all fight over one cache line. Reading sums the cells of
+ *     the buckets without blocking writers; values recorded meanwhile may or may not be included.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of bits of the linear sub-buckets of every power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of linear sub-buckets of every power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets, covering every non-negative long.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The number of recorded values of every bucket.
+     */
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    /**
+     * Creates a new, empty LatencyHistogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value The value, e.g. a latency in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(final long value) {
+        counts[bucket(Math.max(0, value))].increment();
+    }
+
+    /**
+     * @return The number of recorded values.
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts[i].sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return The mean of the recorded values, taking every value as the middle of its bucket,
+     *         or 0 if no value was recorded.
+     */
+    public double mean() {
+        long count = 0;
+        double sum = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            final long bucketCount = counts[i].sum();
+            if (bucketCount != 0) {
+                final long lowest = i == 0 ? 0 : highestValue(i - 1) + 1;
+                count += bucketCount;
+                sum += bucketCount * ((lowest + (double) highestValue(i)) / 2);
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Returns the value at a percentile.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The highest value of the bucket holding the percentile, or 0 if no value was recorded.
+     */
+    public long percentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts[i].sum();
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return highestValue(i);
+            }
+        }
+        return highestValue(BUCKETS - 1);
+    }
+
+    /**
+     * @return The highest value of the highest non-empty bucket, or 0 if no value was recorded.
+     */
+    public long max() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (counts[i].sum() != 0) {
+                return highestValue(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Computes the bucket of a value.
+     *
+     * @param value The value, not negative.
+     * @return The bucket.
+     */
+    static int bucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = magnitude - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Computes the highest value of a bucket.
+     *
+     * @param bucket The bucket.
+     * @return The highest value counted in the bucket.
+     */
+    static long highestValue(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        final long lowest = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+}
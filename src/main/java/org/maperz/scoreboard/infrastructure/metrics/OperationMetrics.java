@@ -0,0 +1,102 @@
+package org.maperz.scoreboard.infrastructure.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters of one Scoreboard operation.
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    /**
+     * The latencies of all calls, successful or not.
+     */
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    /**
+     * The number of failed calls.
+     */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Records a successful call.
+     *
+     * @param nanos The latency of the call in nanoseconds.
+     */
+    public void success(final long nanos) {
+        latencies.record(nanos);
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param nanos The latency of the call in nanoseconds.
+     */
+    public void failure(final long nanos) {
+        latencies.record(nanos);
+        failures.increment();
+    }
+
+    /**
+     * @return The latencies of all calls.
+     */
+    public LatencyHistogram latencies() {
+        return latencies;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSuccessCount() {
+        return Math.max(0, latencies.count() - failures.sum());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMeanNanos() {
+        return latencies.mean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getP50Nanos() {
+        return latencies.percentile(50);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getP99Nanos() {
+        return latencies.percentile(99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getP999Nanos() {
+        return latencies.percentile(99.9);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMaxNanos() {
+        return latencies.max();
+    }
+
+}
@@ -0,0 +1,43 @@
+package org.maperz.scoreboard.infrastructure.metrics;
+
+/**
+ * Management interface of the metrics of one Scoreboard operation.
+ */
+public interface OperationMetricsMXBean {
+
+    /**
+     * @return The number of calls that completed successfully.
+     */
+    long getSuccessCount();
+
+    /**
+     * @return The number of calls that threw an exception.
+     */
+    long getFailureCount();
+
+    /**
+     * @return The mean latency of all calls in nanoseconds.
+     */
+    double getMeanNanos();
+
+    /**
+     * @return The median latency in nanoseconds.
+     */
+    long getP50Nanos();
+
+    /**
+     * @return The 99th percentile of the latency in nanoseconds.
+     */
+    long getP99Nanos();
+
+    /**
+     * @return The 99.9th percentile of the latency in nanoseconds.
+     */
+    long getP999Nanos();
+
+    /**
+     * @return The maximum latency in nanoseconds.
+     */
+    long getMaxNanos();
+
+}
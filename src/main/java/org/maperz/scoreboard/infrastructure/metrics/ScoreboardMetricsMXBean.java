@@ -0,0 +1,33 @@
+package org.maperz.scoreboard.infrastructure.metrics;
+
+/**
+ * Management interface of the scoreboard-wide metrics of an instrumented Scoreboard.
+ */
+public interface ScoreboardMetricsMXBean {
+
+    /**
+     * @return The number of ongoing games.
+     */
+    long getLiveGames();
+
+    /**
+     * @return The number of calls rejected with an {@code InvalidTeamNameException}.
+     */
+    long getInvalidTeamNameCount();
+
+    /**
+     * @return The number of calls rejected with a {@code GameNotFoundException}.
+     */
+    long getGameNotFoundCount();
+
+    /**
+     * @return The number of calls rejected with an {@code InvalidScoreException}.
+     */
+    long getInvalidScoreCount();
+
+    /**
+     * @return The number of calls that failed with any other exception.
+     */
+    long getOtherErrorCount();
+
+}
@@ -0,0 +1,422 @@
+package org.maperz.scoreboard.infrastructure.replication;
+
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.infrastructure.log.SequencedMutation;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Follower end of the replication of a scoreboard: applies the mutations streamed by a {@link ReplicationPrimary}
+ * to a local scoreboard, which then serves reads.
+ * <p>
+ *     A receiver thread connects to the primary, announces the last mutation it applied, and applies the batches it
+ *     receives in order. A snapshot, sent when the follower is new or too far behind, is installed by finishing,
+ *     updating and restoring only the games that differ, so the local scoreboard keeps serving consistent reads and
+ *     its version keeps increasing. If the connection fails, or a mutation is missing or does not apply, the follower
+ *     reconnects after {@value #RECONNECT_DELAY_MILLIS} ms, asking for a snapshot in the latter case.
+ * </p>
+ * <p>
+ *     The lag is measured in mutations, from the last sequence number the primary announced, and in time, since the
+ *     follower last had applied everything it knew of. The local scoreboard must support reads from other threads,
+ *     e.g. the concurrent scoreboard, and must not be mutated by anything else.
+ * </p>
+ */
+public class ReplicationFollower implements AutoCloseable {
+
+    /**
+     * The initial size of the receive buffer.
+     */
+    private static final int RECEIVE_BUFFER_BYTES = 1 << 20;
+
+    /**
+     * The delay before reconnecting after a failure.
+     */
+    private static final long RECONNECT_DELAY_MILLIS = 100;
+
+    /**
+     * The scoreboard the mutations are applied to.
+     */
+    private final Scoreboard scoreboard;
+
+    /**
+     * The address of the primary.
+     */
+    private final InetSocketAddress primary;
+
+    /**
+     * The lock of the condition signalled when mutations have been applied.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when mutations have been applied or the follower is closed.
+     */
+    private final Condition applied = lock.newCondition();
+
+    /**
+     * The thread receiving and applying the mutations.
+     */
+    private final Thread receiver;
+
+    /**
+     * The epoch of the primary the follower is synced with, or {@link ReplicationProtocol#NO_EPOCH} to ask for a
+     * snapshot. Only accessed by the receiver thread.
+     */
+    private long epoch = ReplicationProtocol.NO_EPOCH;
+
+    /**
+     * The connection to the primary, or {@code null} if there is none.
+     */
+    private volatile SocketChannel channel;
+
+    /**
+     * The sequence number of the last applied mutation.
+     */
+    private volatile long appliedSequence;
+
+    /**
+     * The sequence number of the last mutation the primary announced.
+     */
+    private volatile long primarySequence;
+
+    /**
+     * When the follower fell behind the primary, from {@link System#nanoTime()}, or 0 if it is up to date.
+     */
+    private volatile long behindSinceNanos;
+
+    /**
+     * The number of snapshots installed.
+     */
+    private volatile long snapshotCount;
+
+    /**
+     * Whether the follower is connected to the primary.
+     */
+    private volatile boolean connected;
+
+    /**
+     * Whether the follower is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates and starts a new ReplicationFollower.
+     *
+     * @param scoreboard The scoreboard the mutations are applied to.
+     * @param primary The address of the primary.
+     */
+    private ReplicationFollower(final Scoreboard scoreboard, final InetSocketAddress primary) {
+        this.scoreboard = scoreboard;
+        this.primary = primary;
+        this.receiver = new Thread(this::run, "scoreboard-replication-follower");
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+    }
+
+    /**
+     * Starts following a primary.
+     *
+     * @param scoreboard The scoreboard the mutations are applied to, readable from any thread and not mutated by
+     *                   anything else.
+     * @param primary The address of the primary.
+     * @return The started follower, connecting in the background.
+     */
+    public static ReplicationFollower start(final Scoreboard scoreboard, final InetSocketAddress primary) {
+        return new ReplicationFollower(scoreboard, primary);
+    }
+
+    /**
+     * @return The scoreboard the mutations are applied to.
+     */
+    public Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    /**
+     * @return The sequence number of the last applied mutation.
+     */
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * @return The sequence number of the last mutation the primary announced.
+     */
+    public long getPrimarySequence() {
+        return primarySequence;
+    }
+
+    /**
+     * @return The number of mutations the primary announced that have not been applied yet.
+     */
+    public long getLag() {
+        return Math.max(0, primarySequence - appliedSequence);
+    }
+
+    /**
+     * @return How long the follower has been behind the primary in nanoseconds, or 0 if it is up to date.
+     */
+    public long getLagNanos() {
+        final long since = behindSinceNanos;
+        return since == 0 ? 0 : System.nanoTime() - since;
+    }
+
+    /**
+     * @return The number of snapshots installed, including the initial one.
+     */
+    public long getSnapshotCount() {
+        return snapshotCount;
+    }
+
+    /**
+     * @return Whether the follower is connected to the primary.
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Waits until a mutation has been applied, e.g. to read a write made on the primary.
+     *
+     * @param sequence The sequence number of the mutation.
+     * @param timeout The maximum time to wait.
+     * @return Whether the mutation has been applied.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean awaitSequence(final long sequence, final Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = timeout.toNanos();
+            while (appliedSequence < sequence && !closed) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = applied.awaitNanos(nanos);
+            }
+            return appliedSequence >= sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Disconnects from the primary and stops applying mutations.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        final SocketChannel current = channel;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                // the receiver stops anyway
+            }
+        }
+        receiver.interrupt();
+        try {
+            receiver.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        signalApplied();
+    }
+
+    /**
+     * Follows the primary until the follower is closed, reconnecting after failures, including unexpected
+     * exceptions while applying a message, so that the receiver thread never dies silently.
+     */
+    private void run() {
+        while (!closed) {
+            try (SocketChannel connection = SocketChannel.open()) {
+                channel = connection;
+                if (closed) {
+                    return;
+                }
+                connection.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                connection.connect(primary);
+                final ByteBuffer hello = ReplicationProtocol.hello(epoch, appliedSequence);
+                while (hello.hasRemaining()) {
+                    connection.write(hello);
+                }
+                connected = true;
+                receive(connection);
+            } catch (IOException | RuntimeException e) {
+                // reconnect below; a mutation the replica rejected is retried from a snapshot or the backlog
+            } finally {
+                connected = false;
+                channel = null;
+            }
+            try {
+                Thread.sleep(RECONNECT_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Receives and applies messages until the connection fails.
+     *
+     * @param connection The connection to the primary.
+     * @throws IOException If the connection fails, or a message is corrupt or does not apply.
+     */
+    private void receive(final SocketChannel connection) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECEIVE_BUFFER_BYTES);
+        while (!closed) {
+            if (connection.read(buffer) < 0) {
+                throw new EOFException("Primary closed the connection");
+            }
+            buffer.flip();
+            int needed = 0;
+            while (buffer.remaining() >= ReplicationProtocol.HEADER_BYTES) {
+                final int length = buffer.getInt(buffer.position() + 1);
+                if (length < 0) {
+                    throw new IOException("Invalid message length " + length);
+                }
+                if (buffer.remaining() < ReplicationProtocol.HEADER_BYTES + length) {
+                    needed = ReplicationProtocol.HEADER_BYTES + length;
+                    break;
+                }
+                final byte type = buffer.get(buffer.position());
+                final int bodyStart = buffer.position() + ReplicationProtocol.HEADER_BYTES;
+                buffer.position(bodyStart + length);
+                handle(type, buffer.slice(bodyStart, length));
+            }
+            buffer.compact();
+            if (needed > buffer.capacity()) {
+                buffer = ByteBuffer.allocate(needed).put(buffer.flip());
+            } else if (buffer.position() == 0 && buffer.capacity() > RECEIVE_BUFFER_BYTES) {
+                buffer = ByteBuffer.allocate(RECEIVE_BUFFER_BYTES);
+            }
+        }
+    }
+
+    /**
+     * Handles a message.
+     *
+     * @param type The type of the message.
+     * @param body The body of the message.
+     * @throws IOException If the message is corrupt or does not apply.
+     */
+    private void handle(final byte type, final ByteBuffer body) throws IOException {
+        switch (type) {
+            case ReplicationProtocol.BATCH -> {
+                primarySequence = Math.max(primarySequence, body.getLong());
+                while (body.hasRemaining()) {
+                    apply(ReplicationProtocol.decode(body));
+                }
+            }
+            case ReplicationProtocol.SNAPSHOT -> {
+                final long snapshotEpoch = body.getLong();
+                final long sequence = body.getLong();
+                install(ReplicationProtocol.snapshotGames(body));
+                epoch = snapshotEpoch;
+                primarySequence = sequence;
+                appliedSequence = sequence;
+                snapshotCount++;
+            }
+            case ReplicationProtocol.HEARTBEAT -> primarySequence = Math.max(primarySequence, body.getLong());
+            default -> throw new IOException("Unknown message type " + type);
+        }
+        behindSinceNanos = appliedSequence >= primarySequence ? 0
+                : behindSinceNanos == 0 ? System.nanoTime() : behindSinceNanos;
+        signalApplied();
+    }
+
+    /**
+     * Applies a streamed mutation, skipping mutations that have already been applied.
+     *
+     * @param sequenced The sequenced mutation.
+     * @throws IOException If a mutation is missing before it or it does not apply.
+     */
+    private void apply(final SequencedMutation sequenced) throws IOException {
+        if (sequenced.sequence() <= appliedSequence) {
+            return;
+        }
+        if (sequenced.sequence() != appliedSequence + 1) {
+            epoch = ReplicationProtocol.NO_EPOCH;
+            throw new IOException("Expected mutation " + (appliedSequence + 1) + " but got " + sequenced.sequence());
+        }
+        try {
+            sequenced.mutation().applyTo(scoreboard);
+        } catch (InvalidTeamNameException | GameNotFoundException | InvalidScoreException e) {
+            epoch = ReplicationProtocol.NO_EPOCH;
+            throw new IOException("Replicated mutation does not apply: " + sequenced, e);
+        }
+        appliedSequence = sequenced.sequence();
+    }
+
+    /**
+     * Brings the scoreboard to the games of a snapshot, changing only the games that differ.
+     *
+     * @param games The games of the snapshot.
+     * @throws IOException If the games do not apply.
+     */
+    private void install(final Collection<Game> games) throws IOException {
+        final Map<UUID, Game> current = new HashMap<>();
+        for (final Game game : scoreboard.getGames()) {
+            current.put(game.id(), game);
+        }
+        final List<Game> started = new ArrayList<>();
+        final List<Game> updated = new ArrayList<>();
+        for (final Game game : games) {
+            final Game existing = current.get(game.id());
+            if (existing == null || !existing.homeTeam().equals(game.homeTeam()) || !existing.awayTeam().equals(game.awayTeam())
+                    || !existing.startTime().equals(game.startTime())) {
+                started.add(game);
+            } else {
+                current.remove(game.id());
+                if (!existing.score().equals(game.score())) {
+                    updated.add(game);
+                }
+            }
+        }
+        try {
+            for (final UUID id : current.keySet()) {
+                scoreboard.finishGame(id);
+            }
+            for (final Game game : updated) {
+                scoreboard.updateScore(game.id(), game.score().homeScore(), game.score().awayScore());
+            }
+            if (!started.isEmpty()) {
+                scoreboard.restoreGames(started);
+            }
+        } catch (InvalidTeamNameException | GameNotFoundException | InvalidScoreException e) {
+            epoch = ReplicationProtocol.NO_EPOCH;
+            throw new IOException("Snapshot does not apply", e);
+        }
+    }
+
+    /**
+     * Wakes up the threads waiting for applied mutations.
+     */
+    private void signalApplied() {
+        lock.lock();
+        try {
+            applied.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
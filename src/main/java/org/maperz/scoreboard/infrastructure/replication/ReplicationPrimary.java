@@ -0,0 +1,508 @@
+package org.maperz.scoreboard.infrastructure.replication;
+
+import org.maperz.scoreboard.infrastructure.log.MutationCodec;
+import org.maperz.scoreboard.infrastructure.log.SequencedMutation;
+import org.maperz.scoreboard.infrastructure.log.SnapshotFile;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Primary end of the replication of a scoreboard: streams its ordered mutations to followers over TCP.
+ * <p>
+ *     Published mutations are kept in a bounded ring, the backlog, and a single sender thread serves all followers
+ *     through a non-blocking {@link Selector}. Publishing only stores the mutations and wakes the sender up, so the
+ *     mutating thread never waits for the network. The sender encodes all mutations a follower has not received yet,
+ *     up to {@value #BATCH_BYTES} bytes, into one batch message with {@link MutationCodec}, and writes it with one
+ *     call; while a write is incomplete, the next batch waits and grows, so slow followers get fewer, larger batches.
+ * </p>
+ * <p>
+ *     A follower whose position is no longer in the backlog, or who synced with another primary, receives a
+ *     snapshot of the games and is streamed the mutations following it. Idle followers receive a heartbeat every
+ *     {@value #HEARTBEAT_MILLIS} ms carrying the last sequence number, from which they measure their lag.
+ *     See {@link ReplicationProtocol} for the messages.
+ * </p>
+ */
+public class ReplicationPrimary implements AutoCloseable {
+
+    /**
+     * The default number of mutations kept for followers catching up.
+     */
+    public static final int DEFAULT_BACKLOG_CAPACITY = 1 << 16;
+
+    /**
+     * The maximum size of a batch message.
+     */
+    private static final int BATCH_BYTES = 1 << 20;
+
+    /**
+     * The maximum number of mutations taken from the backlog for one batch.
+     */
+    private static final int MAX_BATCH_MUTATIONS = 8192;
+
+    /**
+     * The interval between two heartbeats to an idle follower.
+     */
+    private static final long HEARTBEAT_MILLIS = 500;
+
+    /**
+     * The listening socket.
+     */
+    private final ServerSocketChannel server;
+
+    /**
+     * The selector of the sender thread.
+     */
+    private final Selector selector;
+
+    /**
+     * Takes a snapshot of the games, consistent with the sequence number of the last published mutation.
+     */
+    private final Supplier<SnapshotFile.Snapshot> snapshots;
+
+    /**
+     * Identifies this primary, so that followers that synced with another one are sent a snapshot.
+     */
+    private final long epoch;
+
+    /**
+     * The most recent mutations, indexed by their sequence number modulo the capacity.
+     */
+    private final SequencedMutation[] backlog;
+
+    /**
+     * The sequence number of the last published mutation. Guarded by the backlog.
+     */
+    private long lastSequence;
+
+    /**
+     * Whether the sender thread has already been woken up since it last looked at the backlog.
+     */
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+
+    /**
+     * The mutations taken from the backlog for a batch. Only accessed by the sender thread.
+     */
+    private final SequencedMutation[] drained = new SequencedMutation[MAX_BATCH_MUTATIONS];
+
+    /**
+     * Receives the bytes followers send after their hello, which are ignored. Only accessed by the sender thread.
+     */
+    private final ByteBuffer discarded = ByteBuffer.allocate(256);
+
+    /**
+     * The connected followers. Only accessed by the sender thread.
+     */
+    private final List<Follower> followers = new ArrayList<>();
+
+    /**
+     * The thread serving the followers.
+     */
+    private final Thread sender;
+
+    /**
+     * The number of followers that have sent their hello.
+     */
+    private volatile int followerCount;
+
+    /**
+     * Whether the primary is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates and starts a new ReplicationPrimary.
+     *
+     * @param address The address to listen on.
+     * @param backlogCapacity The number of mutations kept for followers catching up.
+     * @param snapshots Takes a snapshot of the games, consistent with the last published mutation.
+     * @throws IOException If the primary cannot listen on the address.
+     */
+    private ReplicationPrimary(final InetSocketAddress address, final int backlogCapacity, final Supplier<SnapshotFile.Snapshot> snapshots) throws IOException {
+        this.snapshots = snapshots;
+        this.backlog = new SequencedMutation[backlogCapacity];
+        this.epoch = ThreadLocalRandom.current().nextLong() | 1;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        try {
+            server.bind(address);
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            server.close();
+            selector.close();
+            throw e;
+        }
+        this.sender = new Thread(this::run, "scoreboard-replication-primary");
+        this.sender.setDaemon(true);
+        this.sender.start();
+    }
+
+    /**
+     * Starts listening for followers.
+     *
+     * @param address The address to listen on, e.g. port 0 for an ephemeral port.
+     * @param backlogCapacity The number of mutations kept for followers catching up; followers further behind
+     *                        receive a snapshot.
+     * @param snapshots Takes a snapshot of the games, consistent with the sequence number of the last published
+     *                  mutation, i.e. while no mutation is published.
+     * @return The started primary.
+     * @throws IOException If the primary cannot listen on the address.
+     * @throws IllegalArgumentException If the backlog capacity is not positive.
+     */
+    public static ReplicationPrimary start(final InetSocketAddress address, final int backlogCapacity, final Supplier<SnapshotFile.Snapshot> snapshots) throws IOException {
+        if (backlogCapacity <= 0) {
+            throw new IllegalArgumentException("Backlog capacity must be positive");
+        }
+        return new ReplicationPrimary(address, backlogCapacity, snapshots);
+    }
+
+    /**
+     * Publishes mutations to the followers.
+     *
+     * @param mutations The mutations, numbered consecutively after the last published one.
+     * @throws IllegalArgumentException If a mutation is not numbered consecutively.
+     */
+    public void publish(final List<SequencedMutation> mutations) {
+        if (mutations.isEmpty()) {
+            return;
+        }
+        synchronized (backlog) {
+            for (final SequencedMutation mutation : mutations) {
+                if (mutation.sequence() != lastSequence + 1) {
+                    throw new IllegalArgumentException("Expected mutation " + (lastSequence + 1) + " but got " + mutation.sequence());
+                }
+                backlog[(int) (mutation.sequence() % backlog.length)] = mutation;
+                lastSequence = mutation.sequence();
+            }
+        }
+        if (wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * @return The sequence number of the last published mutation.
+     */
+    public long getLastSequence() {
+        synchronized (backlog) {
+            return lastSequence;
+        }
+    }
+
+    /**
+     * @return The number of connected followers.
+     */
+    public int getFollowerCount() {
+        return followerCount;
+    }
+
+    /**
+     * @return The address the primary listens on.
+     * @throws IOException If the address cannot be read.
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    /**
+     * Stops listening and disconnects the followers.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+        try {
+            sender.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Serves the followers until the primary is closed.
+     */
+    private void run() {
+        try {
+            boolean more = false;
+            while (!closed) {
+                if (more) {
+                    selector.selectNow();
+                } else {
+                    selector.select(HEARTBEAT_MILLIS);
+                }
+                wakeupPending.set(false);
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isAcceptable()) {
+                        accept();
+                    } else if (key.isValid()) {
+                        ((Follower) key.attachment()).handle(key);
+                    }
+                }
+                more = false;
+                final long now = System.nanoTime();
+                for (final Follower follower : List.copyOf(followers)) {
+                    more |= follower.send(now);
+                }
+            }
+        } catch (IOException e) {
+            // the selector failed, the followers reconnect to another primary
+        } finally {
+            for (final Follower follower : List.copyOf(followers)) {
+                follower.close();
+            }
+            try {
+                server.close();
+                selector.close();
+            } catch (IOException e) {
+                // nothing left to release
+            }
+        }
+    }
+
+    /**
+     * Accepts a pending follower connection.
+     *
+     * @throws IOException If the listening socket fails.
+     */
+    private void accept() throws IOException {
+        final SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            final Follower follower = new Follower(channel);
+            follower.key = channel.register(selector, SelectionKey.OP_READ, follower);
+            followers.add(follower);
+        } catch (IOException e) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Connection to a follower. Only accessed by the sender thread.
+     */
+    private final class Follower {
+
+        /**
+         * The connection.
+         */
+        private final SocketChannel channel;
+
+        /**
+         * The hello being received.
+         */
+        private final ByteBuffer hello = ByteBuffer.allocate(ReplicationProtocol.HELLO_BYTES);
+
+        /**
+         * The buffer batches and heartbeats are encoded into.
+         */
+        private final ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_BYTES);
+
+        /**
+         * The selection key of the connection.
+         */
+        private SelectionKey key;
+
+        /**
+         * The message being written, or {@code null} if there is none.
+         */
+        private ByteBuffer pending;
+
+        /**
+         * The sequence number of the next mutation to send, or -1 until the hello has been received.
+         */
+        private long nextSequence = -1;
+
+        /**
+         * When the last message was completely written.
+         */
+        private long lastSentNanos;
+
+        /**
+         * Creates a new Follower.
+         *
+         * @param channel The connection.
+         */
+        private Follower(final SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Handles the readiness of the connection, closing it if it fails. An unexpected exception, e.g. from
+         * taking the snapshot, disconnects only this follower and leaves the sender thread serving the others.
+         *
+         * @param key The selection key of the connection.
+         */
+        private void handle(final SelectionKey key) {
+            try {
+                if (key.isReadable()) {
+                    read();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    flush(System.nanoTime());
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+            }
+        }
+
+        /**
+         * Reads the hello, or discards what the follower sends after it.
+         *
+         * @throws IOException If the connection fails or is closed by the follower.
+         */
+        private void read() throws IOException {
+            final ByteBuffer target = hello.hasRemaining() ? hello : discarded.clear();
+            if (channel.read(target) < 0) {
+                throw new EOFException("Follower closed the connection");
+            }
+            if (target == hello && !hello.hasRemaining()) {
+                followerCount++;
+                start(hello.getLong(0), hello.getLong(Long.BYTES));
+            }
+        }
+
+        /**
+         * Positions the follower after its hello, sending a snapshot if the backlog cannot bring it up to date.
+         *
+         * @param followerEpoch The epoch of the primary the follower last synced with.
+         * @param appliedSequence The sequence number of the last mutation the follower applied.
+         * @throws IOException If the snapshot cannot be written.
+         */
+        private void start(final long followerEpoch, final long appliedSequence) throws IOException {
+            final boolean inBacklog;
+            synchronized (backlog) {
+                inBacklog = followerEpoch == epoch && appliedSequence <= lastSequence
+                        && appliedSequence >= lastSequence - backlog.length;
+            }
+            if (inBacklog) {
+                nextSequence = appliedSequence + 1;
+            } else {
+                sendSnapshot();
+            }
+        }
+
+        /**
+         * Sends a snapshot of the games and continues with the mutations following it.
+         *
+         * @throws IOException If the snapshot cannot be written.
+         */
+        private void sendSnapshot() throws IOException {
+            final SnapshotFile.Snapshot snapshot = snapshots.get();
+            nextSequence = snapshot.sequence() + 1;
+            pending = ReplicationProtocol.snapshot(epoch, snapshot);
+            flush(System.nanoTime());
+        }
+
+        /**
+         * Sends the next batch, or a heartbeat if the follower is up to date and idle. An unexpected exception,
+         * e.g. from encoding a mutation, disconnects only this follower.
+         *
+         * @param now The current time, from {@link System#nanoTime()}.
+         * @return Whether more mutations are waiting to be sent once the message has been written.
+         */
+        private boolean send(final long now) {
+            if (nextSequence < 0 || pending != null) {
+                return false;
+            }
+            try {
+                final long last;
+                int count = 0;
+                synchronized (backlog) {
+                    last = lastSequence;
+                    if (nextSequence <= last) {
+                        if (nextSequence <= last - backlog.length) {
+                            count = -1;
+                        } else {
+                            count = (int) Math.min(last - nextSequence + 1, drained.length);
+                            for (int i = 0; i < count; i++) {
+                                drained[i] = backlog[(int) ((nextSequence + i) % backlog.length)];
+                            }
+                        }
+                    }
+                }
+                if (count < 0) {
+                    sendSnapshot();
+                    return false;
+                }
+                batch.clear();
+                if (count > 0) {
+                    batch.position(ReplicationProtocol.HEADER_BYTES + Long.BYTES);
+                    int encoded = 0;
+                    while (encoded < count && MutationCodec.frameSize(drained[encoded].mutation()) <= batch.remaining()) {
+                        MutationCodec.encode(batch, drained[encoded]);
+                        encoded++;
+                    }
+                    Arrays.fill(drained, 0, count, null);
+                    batch.put(0, ReplicationProtocol.BATCH);
+                    batch.putInt(1, batch.position() - ReplicationProtocol.HEADER_BYTES);
+                    batch.putLong(ReplicationProtocol.HEADER_BYTES, last);
+                    nextSequence += encoded;
+                } else if (now - lastSentNanos >= TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_MILLIS)) {
+                    ReplicationProtocol.putHeartbeat(batch, last);
+                } else {
+                    return false;
+                }
+                pending = batch.flip();
+                flush(now);
+                return pending == null && nextSequence <= last;
+            } catch (IOException | RuntimeException e) {
+                close();
+                return false;
+            }
+        }
+
+        /**
+         * Writes as much of the pending message as the connection accepts, waiting for writability for the rest.
+         *
+         * @param now The current time, from {@link System#nanoTime()}.
+         * @throws IOException If the connection fails.
+         */
+        private void flush(final long now) throws IOException {
+            channel.write(pending);
+            if (pending.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            } else {
+                pending = null;
+                lastSentNanos = now;
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        /**
+         * Closes the connection and forgets the follower.
+         */
+        private void close() {
+            if (followers.remove(this) && !hello.hasRemaining()) {
+                followerCount--;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // the follower reconnects
+            }
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.maperz.scoreboard.infrastructure.replication;
+
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.infrastructure.log.Mutation;
+import org.maperz.scoreboard.infrastructure.log.MutationCodec;
+import org.maperz.scoreboard.infrastructure.log.SequencedMutation;
+import org.maperz.scoreboard.infrastructure.log.SnapshotFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encodes and decodes the messages exchanged between a {@link ReplicationPrimary} and its followers.
+ * <p>
+ *     On connecting, a follower sends a hello: the epoch of the primary it last synced with and the sequence number
+ *     of the last mutation it applied. The primary then sends a stream of messages, each consisting of its type,
+ *     the length of its body, and the body:
+ * </p>
+ * <ul>
+ *     <li>{@link #SNAPSHOT}: the epoch of the primary, the sequence number of the last mutation included, the number
+ *     of games and one {@link MutationCodec} frame of a {@link Mutation.Start} per game.</li>
+ *     <li>{@link #BATCH}: the sequence number of the last mutation of the primary, followed by the
+ *     {@link MutationCodec} frames of consecutive mutations.</li>
+ *     <li>{@link #HEARTBEAT}: the sequence number of the last mutation of the primary.</li>
+ * </ul>
+ * <p>
+ *     It is a utility class and cannot be instantiated.
+ * </p>
+ */
+final class ReplicationProtocol {
+
+    /**
+     * The size of a hello: the epoch and the sequence number.
+     */
+    static final int HELLO_BYTES = 2 * Long.BYTES;
+
+    /**
+     * The size of a message header: the type and the length of the body.
+     */
+    static final int HEADER_BYTES = 1 + Integer.BYTES;
+
+    /**
+     * The type of a batch of mutations.
+     */
+    static final byte BATCH = 1;
+
+    /**
+     * The type of a snapshot of the games.
+     */
+    static final byte SNAPSHOT = 2;
+
+    /**
+     * The type of a heartbeat.
+     */
+    static final byte HEARTBEAT = 3;
+
+    /**
+     * The size of the body of a heartbeat.
+     */
+    static final int HEARTBEAT_BODY_BYTES = Long.BYTES;
+
+    /**
+     * The epoch a follower sends when it has never synced, which asks for a snapshot.
+     */
+    static final long NO_EPOCH = 0;
+
+    /**
+     * Encodes a hello.
+     *
+     * @param epoch The epoch of the primary the follower last synced with, or {@link #NO_EPOCH}.
+     * @param sequence The sequence number of the last mutation the follower applied.
+     * @return The hello, ready to be written.
+     */
+    static ByteBuffer hello(final long epoch, final long sequence) {
+        return ByteBuffer.allocate(HELLO_BYTES).putLong(epoch).putLong(sequence).flip();
+    }
+
+    /**
+     * Writes the header of a message.
+     *
+     * @param buffer The buffer to write to.
+     * @param type The type of the message.
+     * @param length The length of the body.
+     */
+    static void putHeader(final ByteBuffer buffer, final byte type, final int length) {
+        buffer.put(type);
+        buffer.putInt(length);
+    }
+
+    /**
+     * Encodes a heartbeat into a buffer.
+     *
+     * @param buffer The buffer to write to.
+     * @param lastSequence The sequence number of the last mutation of the primary.
+     */
+    static void putHeartbeat(final ByteBuffer buffer, final long lastSequence) {
+        putHeader(buffer, HEARTBEAT, HEARTBEAT_BODY_BYTES);
+        buffer.putLong(lastSequence);
+    }
+
+    /**
+     * Encodes a snapshot message.
+     *
+     * @param epoch The epoch of the primary.
+     * @param snapshot The snapshot of the games.
+     * @return The message, ready to be written.
+     */
+    static ByteBuffer snapshot(final long epoch, final SnapshotFile.Snapshot snapshot) {
+        final List<SequencedMutation> starts = new ArrayList<>(snapshot.games().size());
+        int length = 2 * Long.BYTES + Integer.BYTES;
+        for (final Game game : snapshot.games()) {
+            final Mutation.Start start = new Mutation.Start(game);
+            starts.add(new SequencedMutation(snapshot.sequence(), start));
+            length += MutationCodec.frameSize(start);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + length);
+        putHeader(buffer, SNAPSHOT, length);
+        buffer.putLong(epoch);
+        buffer.putLong(snapshot.sequence());
+        buffer.putInt(starts.size());
+        for (final SequencedMutation start : starts) {
+            MutationCodec.encode(buffer, start);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes the games of a snapshot message, whose epoch and sequence number have already been read.
+     *
+     * @param body The rest of the body of the message.
+     * @return The games.
+     * @throws IOException If the body does not hold the announced number of intact games.
+     */
+    static Collection<Game> snapshotGames(final ByteBuffer body) throws IOException {
+        final int count = body.getInt();
+        final List<Game> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (!(decode(body).mutation() instanceof Mutation.Start start)) {
+                throw new IOException("Snapshot holds a mutation other than a started game");
+            }
+            games.add(start.game());
+        }
+        return games;
+    }
+
+    /**
+     * Decodes the next mutation frame of a body.
+     *
+     * @param body The body.
+     * @return The sequenced mutation.
+     * @throws IOException If the body does not hold a complete, intact frame.
+     */
+    static SequencedMutation decode(final ByteBuffer body) throws IOException {
+        final SequencedMutation sequenced = MutationCodec.decode(body);
+        if (sequenced == null) {
+            throw new IOException("Corrupt mutation frame at byte " + body.position());
+        }
+        return sequenced;
+    }
+
+    private ReplicationProtocol() {
+    }
+
+}
@@ -0,0 +1,105 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+import org.maperz.scoreboard.infrastructure.archive.GameArchive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArchivingScoreboardTest {
+    private static final LocalDateTime SEASON_START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ArchivingScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardFactory.createArchivingScoreboard(ScoreboardFactory.createScoreboard());
+    }
+
+    @Test
+    void shouldArchiveFinishedGamesWithFinalScore() throws Exception {
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", SEASON_START);
+        scoreboard.updateScore(mexico, 2, 1);
+        scoreboard.finishGame(mexico);
+        final UUID spain = scoreboard.startGame("Spain", "Mexico", SEASON_START.plusDays(1));
+        final List<OperationResult> results = scoreboard.applyBatch(List.of(
+                new UpdateScore(spain, 0, 3),
+                new FinishGame(spain),
+                new StartGame("mexico", "Brazil", SEASON_START.plusDays(2))));
+        final UUID brazil = results.get(2).gameId();
+        scoreboard.applyBatch(List.of(new UpdateScore(brazil, 1, 1), new FinishGame(brazil), new FinishGame(UUID.randomUUID())));
+
+        final GameArchive archive = scoreboard.getArchive();
+        assertEquals(3, archive.size());
+        assertEquals(List.of(
+                new Game(brazil, new Team("mexico"), new Team("Brazil"), new Score(1, 1), SEASON_START.plusDays(2)),
+                new Game(spain, new Team("Spain"), new Team("Mexico"), new Score(0, 3), SEASON_START.plusDays(1)),
+                new Game(mexico, new Team("Mexico"), new Team("Canada"), new Score(2, 1), SEASON_START)),
+                archive.findByTeam("MEXICO", 10));
+        assertEquals(1, archive.findByTeam("Mexico", 1).size());
+        assertEquals(List.of(), archive.findByTeam("Germany", 10));
+        assertEquals(List.of(), scoreboard.getGames());
+    }
+
+    @Test
+    void shouldFindGamesAcrossBlocksAndSegments() throws Exception {
+        final int games = 70_000;
+        for (int i = 0; i < games; i++) {
+            final UUID id = scoreboard.startGame("Home " + i % 100, "Away " + i % 100, SEASON_START.plusMinutes(i));
+            scoreboard.finishGame(id);
+        }
+        final GameArchive archive = scoreboard.getArchive();
+
+        final List<Game> started = archive.findStartedBetween(SEASON_START.plusMinutes(1000), SEASON_START.plusMinutes(3100), games);
+        assertEquals(2100, started.size());
+        assertEquals(SEASON_START.plusMinutes(1000), started.get(0).startTime());
+        assertEquals(SEASON_START.plusMinutes(3099), started.get(2099).startTime());
+        assertEquals(10, archive.findStartedBetween(SEASON_START, SEASON_START.plusYears(1), 10).size());
+
+        final List<Game> home = archive.findByTeam("Home 7", games);
+        assertEquals(games / 100, home.size());
+        assertEquals(SEASON_START.plusMinutes(games - 93), home.get(0).startTime());
+        assertTrue(archive.getOffHeapBytes() > 0);
+    }
+
+    @Test
+    void shouldFindGamesInRangesBeyondTheStorableStartTimes() throws Exception {
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", SEASON_START);
+        scoreboard.finishGame(mexico);
+
+        final GameArchive archive = scoreboard.getArchive();
+        assertEquals(1, archive.findStartedBetween(LocalDateTime.MIN, LocalDateTime.MAX, 10).size());
+        assertEquals(0, archive.findStartedBetween(LocalDateTime.MIN, SEASON_START, 10).size());
+        assertEquals(1, archive.findStartedBetween(SEASON_START, LocalDateTime.MAX, 10).size());
+    }
+
+    @Test
+    void shouldRejectStartTimesTheArchiveCannotStoreBeforeApplyingThem() throws Exception {
+        final LocalDateTime farFuture = LocalDateTime.of(3000, 1, 1, 0, 0);
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", SEASON_START);
+
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startGame("Spain", "Brazil", farFuture));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.restoreGames(List.of(
+                new Game(UUID.randomUUID(), new Team("Spain"), new Team("Brazil"), new Score(0, 0), farFuture))));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.applyBatch(List.of(
+                new FinishGame(mexico),
+                new StartGame("Spain", "Brazil", farFuture))));
+
+        assertEquals(List.of(mexico), scoreboard.getGames().stream().map(Game::id).toList());
+        assertEquals(0, scoreboard.getArchive().size());
+    }
+}
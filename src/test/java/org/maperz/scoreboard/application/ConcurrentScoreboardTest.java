@@ -0,0 +1,307 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.comparator.GameComparators;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentScoreboardTest {
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardFactory.createConcurrentScoreboard();
+    }
+
+    @Test
+    void shouldStartUpdateAndFinishGame() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+
+        scoreboard.updateScore(id, 1, 0);
+        assertEquals(1, scoreboard.getGames().get(0).score().homeScore());
+
+        scoreboard.finishGame(id);
+        assertEquals(0, scoreboard.getGames().size());
+        assertThrows(GameNotFoundException.class, () -> scoreboard.finishGame(id));
+    }
+
+    @Test
+    void shouldRejectDuplicateAndReversedTeamNames() throws Exception {
+        scoreboard.startGame("Mexico", "Canada");
+
+        final InvalidTeamNameException same = assertThrows(InvalidTeamNameException.class, () -> {
+            scoreboard.startGame("MEXICO", "USA");
+        });
+        assertEquals("Match already exists with the same team names", same.getMessage());
+
+        final InvalidTeamNameException reversed = assertThrows(InvalidTeamNameException.class, () -> {
+            scoreboard.startGame("Canada", "Mexico");
+        });
+        assertEquals("Match already exists with reversed team names", reversed.getMessage());
+
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame(null, "USA"));
+    }
+
+    @Test
+    void shouldRejectUnchangedScore() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+
+        assertThrows(InvalidScoreException.class, () -> scoreboard.updateScore(id, 0, 0));
+        assertThrows(InvalidScoreException.class, () -> scoreboard.updateScore(id, -1, 0));
+    }
+
+    @Test
+    void shouldReturnSummaryInOrder() throws Exception {
+        final UUID id1 = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+        final UUID id2 = scoreboard.startGame("USA", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+        final UUID id3 = scoreboard.startGame("Argentina", "Germany", LocalDateTime.of(2024, 1, 1, 12, 0));
+
+        scoreboard.updateScore(id1, 1, 0);
+        scoreboard.updateScore(id2, 2, 3);
+        scoreboard.updateScore(id3, 3, 2);
+
+        assertEquals(List.of(id3, id2, id1), scoreboard.getSummary().stream().map(Game::id).toList());
+    }
+
+    @Test
+    void shouldSelectTopGamesWithoutSnapshot() throws Exception {
+        final List<String> teamNames = List.of("Mexico", "Canada", "Spain", "Brazil", "Germany", "France", "Uruguay", "Italy");
+        for (int i = 0; i < 4; i++) {
+            final UUID id = scoreboard.startGame(teamNames.get(2 * i), teamNames.get(2 * i + 1), LocalDateTime.of(2024, 1, 1, 10 + i, 0));
+            scoreboard.updateScore(id, i % 2, 1);
+        }
+
+        final List<Game> top = scoreboard.getTopGames(2);
+        final List<Game> page = scoreboard.getSummary(1, 2);
+        final List<Game> summary = scoreboard.getSummary();
+        assertEquals(summary.subList(0, 2), top);
+        assertEquals(summary.subList(1, 3), page);
+        assertEquals(summary.subList(1, 4), scoreboard.getSummary(1, 10));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(0, -1));
+    }
+
+    @Test
+    void shouldStartEachTeamOnlyOnceWhenStartedConcurrently() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                tasks.add(() -> {
+                    int started = 0;
+                    for (int i = 0; i < 100; i++) {
+                        try {
+                            scoreboard.startGame("Team " + ((i + offset) % 100), "Team " + ((i + offset + 50) % 100 + 100));
+                            started++;
+                        } catch (InvalidTeamNameException e) {
+                            // another thread won the race for one of the teams
+                        }
+                    }
+                    return started;
+                });
+            }
+            int started = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                started += result.get();
+            }
+
+            assertEquals(started, scoreboard.getGames().size());
+            final long distinctTeams = scoreboard.getGames().stream()
+                    .flatMap(game -> Stream.of(game.homeTeam().name(), game.awayTeam().name()))
+                    .distinct()
+                    .count();
+            assertEquals(2L * started, distinctTeams);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotLoseConcurrentScoreUpdates() throws Exception {
+        final int threads = 8;
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            ids.add(scoreboard.startGame("Home " + i, "Away " + i));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final UUID id = ids.get(t);
+                tasks.add(() -> {
+                    for (int goals = 1; goals <= 1_000; goals++) {
+                        scoreboard.updateScore(id, goals, 0);
+                        scoreboard.getSummary();
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+
+            final List<Game> summary = scoreboard.getSummary();
+            assertEquals(threads, summary.size());
+            summary.forEach(game -> assertEquals(1_000, game.score().homeScore()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFindGamesByTeamAndStartTime() throws Exception {
+        final LocalDateTime kickOff = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", kickOff);
+        final UUID spain = scoreboard.startGame("Spain", "Brazil", kickOff.plusMinutes(10));
+        final UUID germany = scoreboard.startGame("Germany", "France", kickOff.plusMinutes(10));
+        scoreboard.updateScore(spain, 1, 0);
+        scoreboard.finishGame(germany);
+
+        assertEquals(scoreboard.getGame(spain), scoreboard.findByTeam("BRAZIL"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("France"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("Italy"));
+        assertEquals(List.of(scoreboard.getGame(mexico).orElseThrow(), scoreboard.getGame(spain).orElseThrow()),
+                scoreboard.findStartedBetween(kickOff, kickOff.plusMinutes(15)));
+        assertEquals(List.of(scoreboard.getGame(spain).orElseThrow()), scoreboard.findStartedBetween(kickOff.plusMinutes(1), kickOff.plusHours(1)));
+        assertEquals(List.of(), scoreboard.findStartedBetween(kickOff.plusMinutes(10), kickOff));
+    }
+
+    @Test
+    void shouldNotCountRejectedUpdatesAsMutations() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        scoreboard.updateScore(id, 1, 0);
+        final ScoreboardSnapshot before = scoreboard.getSnapshot();
+
+        assertEquals(UpdateStatus.UNCHANGED_SCORE, scoreboard.tryUpdateScore(id, 1, 0));
+        assertEquals(UpdateStatus.GAME_NOT_FOUND, scoreboard.tryUpdateScore(UUID.randomUUID(), 1, 0));
+        assertThrows(GameNotFoundException.class, () -> scoreboard.finishGame(UUID.randomUUID()));
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("Mexico", "USA"));
+
+        assertEquals(before.version(), scoreboard.getVersion());
+        assertEquals(before, scoreboard.getSnapshot());
+    }
+
+    @Test
+    void shouldNeverReturnStaleSnapshotWhileWritersAreBusy() throws Exception {
+        final int writers = 4;
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            ids.add(scoreboard.startGame("Home " + i, "Away " + i));
+        }
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (final UUID id : ids) {
+                results.add(executor.submit(() -> {
+                    for (int goals = 1; running.get(); goals++) {
+                        scoreboard.updateScore(id, goals, 0);
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < 1_000; i++) {
+                final long version = scoreboard.getVersion();
+                assertTrue(scoreboard.getSnapshot().version() >= version);
+            }
+            running.set(false);
+            for (final Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldPublishBatchAsOneVersion() throws Exception {
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+        final UUID spain = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+        final ScoreboardSnapshot before = scoreboard.getSnapshot();
+
+        final List<OperationResult> results = scoreboard.applyBatch(List.of(
+                new UpdateScore(spain, 2, 0),
+                new FinishGame(mexico),
+                new StartGame("Mexico", "USA", LocalDateTime.of(2024, 1, 1, 12, 0)),
+                new FinishGame(UUID.randomUUID())));
+
+        final ScoreboardSnapshot after = scoreboard.getSnapshot();
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(List.of(spain, results.get(2).gameId()), after.summary().stream().map(Game::id).toList());
+        assertEquals(2, after.games().size());
+    }
+
+    @Test
+    void shouldKeepSnapshotsConsistentWhileWritersAreBusy() throws Exception {
+        final int writers = 4;
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        try {
+            final Future<?> reader = executor.submit(() -> {
+                while (running.get()) {
+                    final ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+                    final List<Game> sorted = new ArrayList<>(snapshot.games());
+                    sorted.sort(GameComparators.SUMMARY_ORDER);
+                    assertEquals(sorted, snapshot.summary());
+                }
+                return null;
+            });
+            final List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < writers; t++) {
+                final int writer = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        final UUID id = scoreboard.startGame("Home " + writer + "/" + i, "Away " + writer + "/" + i);
+                        scoreboard.updateScore(id, i % 3 + 1, i % 5);
+                        if (i % 2 == 0) {
+                            scoreboard.finishGame(id);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> result : results) {
+                result.get();
+            }
+            running.set(false);
+            reader.get();
+
+            final List<Game> summary = scoreboard.getSummary();
+            assertEquals(writers * 1_000, summary.size());
+            final List<Game> sorted = new ArrayList<>(scoreboard.getGames());
+            sorted.sort(GameComparators.SUMMARY_ORDER);
+            assertEquals(sorted, summary);
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+import org.maperz.scoreboard.infrastructure.log.Mutation;
+import org.maperz.scoreboard.infrastructure.log.WriteAheadLog;
+import org.maperz.scoreboard.infrastructure.log.WriteAheadLogOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class DurableScoreboardTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRestoreOngoingGamesAfterRestart() throws Exception {
+        final List<Game> expected;
+        try (DurableScoreboard scoreboard = ScoreboardFactory.createDurableScoreboard(directory)) {
+            final UUID id1 = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123));
+            final UUID id2 = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+            final UUID id3 = scoreboard.startGame("Germany", "France", LocalDateTime.of(2024, 1, 1, 12, 0));
+            scoreboard.updateScore(id1, 2, 1);
+            scoreboard.finishGame(id2);
+            scoreboard.applyBatch(List.of(new UpdateScore(id3, 0, 1), new StartGame("Italy", "Japan", LocalDateTime.of(2024, 1, 1, 13, 0))));
+            expected = scoreboard.getSummary();
+        }
+
+        try (DurableScoreboard restored = ScoreboardFactory.createDurableScoreboard(directory)) {
+            assertEquals(expected, restored.getSummary());
+        }
+    }
+
+    @Test
+    void shouldTruncateTornTailAndKeepAppending() throws Exception {
+        final UUID id;
+        try (DurableScoreboard scoreboard = ScoreboardFactory.createDurableScoreboard(directory)) {
+            id = scoreboard.startGame("Mexico", "Canada");
+            scoreboard.updateScore(id, 1, 0);
+        }
+        final Path segment = onlySegment();
+        Files.write(segment, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (DurableScoreboard scoreboard = ScoreboardFactory.createDurableScoreboard(directory)) {
+            assertEquals(1, scoreboard.getGames().get(0).score().homeScore());
+            scoreboard.updateScore(id, 2, 0);
+            scoreboard.sync();
+        }
+
+        try (DurableScoreboard scoreboard = ScoreboardFactory.createDurableScoreboard(directory)) {
+            assertEquals(2, scoreboard.getGames().get(0).score().homeScore());
+        }
+    }
+
+    @Test
+    void shouldRestoreFromSnapshotAndDeleteCoveredSegments() throws Exception {
+        final List<Game> expected;
+        try (DurableScoreboard scoreboard = ScoreboardFactory.createDurableScoreboard(directory)) {
+            final UUID id1 = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+            final UUID id2 = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+            scoreboard.updateScore(id1, 1, 1);
+            scoreboard.snapshot();
+            scoreboard.updateScore(id2, 3, 0);
+            scoreboard.finishGame(id1);
+            expected = scoreboard.getSummary();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            final List<String> names = files.map(file -> file.getFileName().toString()).sorted().toList();
+            assertEquals(List.of("snapshot-00000000000000000003.bin", "wal-00000000000000000004.log"), names);
+        }
+
+        try (DurableScoreboard restored = ScoreboardFactory.createDurableScoreboard(directory)) {
+            assertEquals(expected, restored.getSummary());
+        }
+    }
+
+    @Test
+    void shouldRejectTeamNamesTooLongToLog() throws Exception {
+        final String tooLong = "é".repeat(40_000);
+        try (DurableScoreboard scoreboard = ScoreboardFactory.createDurableScoreboard(directory)) {
+            assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame(tooLong, "Canada"));
+            final UUID id = scoreboard.startGame("Mexico", "Canada");
+            scoreboard.updateScore(id, 1, 0);
+            scoreboard.sync();
+        }
+
+        try (DurableScoreboard restored = ScoreboardFactory.createDurableScoreboard(directory)) {
+            assertEquals(1, restored.getGames().size());
+        }
+    }
+
+    @Test
+    void shouldRejectStartTimesTooFarOutToLog() throws Exception {
+        try (DurableScoreboard scoreboard = ScoreboardFactory.createDurableScoreboard(directory)) {
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(3000, 1, 1, 10, 0)));
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.applyBatch(List.of(
+                    new StartGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 10, 0)),
+                    new StartGame("Mexico", "Canada", LocalDateTime.of(1600, 1, 1, 10, 0)))));
+            assertEquals(List.of(), scoreboard.getGames());
+            scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+            scoreboard.sync();
+        }
+
+        try (DurableScoreboard restored = ScoreboardFactory.createDurableScoreboard(directory)) {
+            assertEquals(1, restored.getGames().size());
+        }
+    }
+
+    @Test
+    void shouldFailInsteadOfHangingOnceWriterHasFailed() throws Exception {
+        final WriteAheadLog log = WriteAheadLog.open(directory, WriteAheadLogOptions.DEFAULT, sequenced -> {
+        });
+        final Game unencodable = new Game(UUID.randomUUID(), new Team("é".repeat(40_000)), new Team("Canada"), new Score(0, 0),
+                LocalDateTime.of(2024, 1, 1, 10, 0));
+        log.append(new Mutation.Start(unencodable));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertThrows(UncheckedIOException.class, log::sync);
+            assertThrows(UncheckedIOException.class, () -> log.append(new Mutation.Finish(unencodable.id())));
+            assertThrows(IOException.class, log::close);
+        });
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            final List<Path> segments = files.toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.infrastructure.concurrent.WaitStrategy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventLoopScoreboardTest {
+    private EventLoopScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardFactory.createEventLoopScoreboard();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreboard.close();
+    }
+
+    @Test
+    void shouldStartUpdateAndFinishGame() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        scoreboard.updateScore(id, 1, 0);
+        assertEquals(new Score(1, 0), scoreboard.getGame(id).orElseThrow().score());
+        assertEquals(1, scoreboard.getSummary().size());
+
+        scoreboard.finishGame(id);
+        assertEquals(0, scoreboard.getGames().size());
+        assertThrows(GameNotFoundException.class, () -> scoreboard.finishGame(id));
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("Mexico", "mexico"));
+        assertEquals(5, scoreboard.getAppliedCommands());
+    }
+
+    @Test
+    void shouldCompleteAsyncMutationsWithCheckedExceptions() throws Exception {
+        final UUID id = scoreboard.startGameAsync("Mexico", "Canada").join();
+
+        final CompletableFuture<Void> unchanged = scoreboard.updateScoreAsync(id, 0, 0);
+        final CompletionException rejected = assertThrows(CompletionException.class, unchanged::join);
+        assertInstanceOf(InvalidScoreException.class, rejected.getCause());
+        assertEquals("Score must be different", rejected.getCause().getMessage());
+
+        final CompletionException notFound = assertThrows(CompletionException.class, () -> scoreboard.finishGameAsync(UUID.randomUUID()).join());
+        assertInstanceOf(GameNotFoundException.class, notFound.getCause());
+    }
+
+    @Test
+    void shouldApplyMutationsOfManyThreadsWithEveryWaitStrategy() throws Exception {
+        for (final WaitStrategy waitStrategy : WaitStrategy.values()) {
+            try (EventLoopScoreboard eventLoop = ScoreboardFactory.createEventLoopScoreboard(new EventLoopOptions(16, waitStrategy))) {
+                final int threads = 4;
+                final int updates = 500;
+                final List<UUID> ids = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    ids.add(eventLoop.startGame("Home " + i, "Away " + i));
+                }
+                final List<Thread> producers = new ArrayList<>();
+                for (final UUID id : ids) {
+                    producers.add(Thread.ofPlatform().start(() -> {
+                        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+                        for (int goals = 1; goals <= updates; goals++) {
+                            futures.add(eventLoop.updateScoreAsync(id, goals, 0));
+                        }
+                        futures.forEach(CompletableFuture::join);
+                    }));
+                }
+                for (final Thread producer : producers) {
+                    producer.join();
+                }
+
+                for (final UUID id : ids) {
+                    assertEquals(updates, eventLoop.getGame(id).orElseThrow().score().homeScore(), waitStrategy.name());
+                }
+                assertEquals(threads + (long) threads * updates, eventLoop.getAppliedCommands());
+                assertTrue(eventLoop.getMaxQueueDepth() <= eventLoop.getQueueCapacity());
+            }
+        }
+    }
+
+    @Test
+    void shouldApplyPendingMutationsOnCloseAndRejectLaterOnes() throws Exception {
+        final CompletableFuture<UUID> started = scoreboard.startGameAsync("Mexico", "Canada");
+        scoreboard.close();
+
+        final Game game = scoreboard.getGame(started.join()).orElseThrow();
+        assertEquals("Mexico", game.homeTeam().name());
+        final CompletionException rejected = assertThrows(CompletionException.class, () -> scoreboard.startGameAsync("Spain", "Brazil").join());
+        assertInstanceOf(RejectedExecutionException.class, rejected.getCause());
+        assertThrows(RejectedExecutionException.class, () -> scoreboard.startGame("Spain", "Brazil"));
+    }
+
+    @Test
+    void shouldFindGamesByTeamAndStartTime() throws Exception {
+        final LocalDateTime kickOff = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", kickOff);
+        final UUID spain = scoreboard.startGame("Spain", "Brazil", kickOff.plusMinutes(10));
+        final UUID germany = scoreboard.startGame("Germany", "France", kickOff.plusMinutes(10));
+        scoreboard.updateScore(spain, 1, 0);
+        scoreboard.finishGame(germany);
+
+        assertEquals(scoreboard.getGame(spain), scoreboard.findByTeam("BRAZIL"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("France"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("Italy"));
+        assertEquals(List.of(scoreboard.getGame(mexico).orElseThrow(), scoreboard.getGame(spain).orElseThrow()),
+                scoreboard.findStartedBetween(kickOff, kickOff.plusMinutes(15)));
+        assertEquals(List.of(scoreboard.getGame(spain).orElseThrow()), scoreboard.findStartedBetween(kickOff.plusMinutes(1), kickOff.plusHours(1)));
+        assertEquals(List.of(), scoreboard.findStartedBetween(kickOff.plusMinutes(10), kickOff));
+    }
+
+    @Test
+    void shouldPublishSnapshotsOnDemandEvenFromTheWriterThread() throws Exception {
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+        scoreboard.updateScore(mexico, 2, 1);
+
+        assertEquals(2, scoreboard.getVersion());
+        assertEquals(2, scoreboard.getSnapshot().version());
+        final List<Game> summary = scoreboard.startGameAsync("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 10, 5))
+                .thenApply(id -> scoreboard.getSummary()).join();
+        assertEquals(List.of("Mexico", "Spain"), summary.stream().map(game -> game.homeTeam().name()).toList());
+    }
+
+    @Test
+    void shouldStopTheWriterOnError() throws Exception {
+        final AtomicInteger ids = new AtomicInteger();
+        try (EventLoopScoreboard eventLoop = new EventLoopScoreboard(EventLoopOptions.DEFAULT, () -> {
+            if (ids.incrementAndGet() == 2) {
+                throw new StackOverflowError();
+            }
+            return UUID.randomUUID();
+        })) {
+            final UUID mexico = eventLoop.startGame("Mexico", "Canada");
+            assertThrows(StackOverflowError.class, () -> eventLoop.startGame("Spain", "Brazil"));
+
+            final RejectedExecutionException rejected = assertThrows(RejectedExecutionException.class, () -> eventLoop.updateScore(mexico, 1, 0));
+            assertInstanceOf(StackOverflowError.class, rejected.getCause());
+            final ExecutionException failed = assertThrows(ExecutionException.class, () -> eventLoop.startGameAsync("Germany", "France").get());
+            assertInstanceOf(RejectedExecutionException.class, failed.getCause());
+            assertEquals(List.of(mexico), eventLoop.getSummary().stream().map(Game::id).toList());
+            assertEquals(Optional.empty(), eventLoop.findByTeam("Brazil"));
+        }
+    }
+}
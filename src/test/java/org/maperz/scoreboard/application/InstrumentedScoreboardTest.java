@@ -0,0 +1,113 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+import org.maperz.scoreboard.infrastructure.metrics.LatencyHistogram;
+import org.maperz.scoreboard.infrastructure.metrics.OperationMetrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InstrumentedScoreboardTest {
+    private InstrumentedScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        scoreboard = ScoreboardFactory.createInstrumentedScoreboard(ScoreboardFactory.createScoreboard(), "test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreboard.close();
+    }
+
+    @Test
+    void shouldCountSuccessesAndFailuresPerOperation() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        scoreboard.updateScore(id, 1, 0);
+        assertThrows(InvalidScoreException.class, () -> scoreboard.updateScore(id, 1, 0));
+        assertThrows(GameNotFoundException.class, () -> scoreboard.updateScore(UUID.randomUUID(), 1, 0));
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("Mexico", "Spain"));
+
+        final OperationMetrics updates = scoreboard.getMetrics(InstrumentedScoreboard.Operation.UPDATE_SCORE);
+        assertEquals(1, updates.getSuccessCount());
+        assertEquals(2, updates.getFailureCount());
+        assertEquals(3, updates.latencies().count());
+        assertEquals(1, scoreboard.getMetrics(InstrumentedScoreboard.Operation.START_GAME).getSuccessCount());
+        assertEquals(1, scoreboard.getInvalidScoreCount());
+        assertEquals(1, scoreboard.getGameNotFoundCount());
+        assertEquals(1, scoreboard.getInvalidTeamNameCount());
+        assertEquals(0, scoreboard.getOtherErrorCount());
+    }
+
+    @Test
+    void shouldTrackLiveGames() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        scoreboard.startGame("Spain", "Brazil");
+        scoreboard.finishGame(id);
+        assertEquals(1, scoreboard.getLiveGames());
+
+        scoreboard.applyBatch(List.of(
+                new StartGame("Germany", "France"),
+                new StartGame("Uruguay", "Italy"),
+                new FinishGame(UUID.randomUUID()),
+                new UpdateScore(UUID.randomUUID(), 1, 0)));
+
+        assertEquals(3, scoreboard.getLiveGames());
+        assertEquals(2, scoreboard.getGameNotFoundCount());
+        assertEquals(scoreboard.getGames().size(), scoreboard.getLiveGames());
+    }
+
+    @Test
+    void shouldRecordPercentilesInLogLinearBuckets() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 10_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(10_000, histogram.count());
+        assertEquals(5_000.5, histogram.mean(), 5_000.5 / 32);
+        assertWithinBucket(10_000, histogram.max());
+        assertWithinBucket(5_000, histogram.percentile(50));
+        assertWithinBucket(9_900, histogram.percentile(99));
+        assertWithinBucket(9_990, histogram.percentile(99.9));
+    }
+
+    @Test
+    void shouldExposeMetricsAsMBeans() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        scoreboard.updateScore(id, 1, 0);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName scoreboardName = new ObjectName("org.maperz.scoreboard:type=Scoreboard,name=\"test\"");
+        final ObjectName updatesName = new ObjectName("org.maperz.scoreboard:type=Scoreboard,name=\"test\",operation=updateScore");
+
+        assertEquals(1L, server.getAttribute(scoreboardName, "LiveGames"));
+        assertEquals(1L, server.getAttribute(updatesName, "SuccessCount"));
+        assertTrue((Long) server.getAttribute(updatesName, "P99Nanos") > 0);
+
+        scoreboard.close();
+
+        assertFalse(server.isRegistered(scoreboardName));
+        assertFalse(server.isRegistered(updatesName));
+    }
+
+    private static void assertWithinBucket(final long expected, final long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,117 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.RankedGame;
+import org.maperz.scoreboard.domain.model.SummaryDelta;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournaledScoreboardTest {
+    private JournaledScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardFactory.createJournaledScoreboard(ScoreboardFactory.createScoreboard(), 16);
+    }
+
+    @Test
+    void shouldReturnOnlyChangedGamesWithTheirNewPositions() throws Exception {
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+        final UUID spain = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+        final UUID germany = scoreboard.startGame("Germany", "France", LocalDateTime.of(2024, 1, 1, 12, 0));
+        final long version = scoreboard.getVersion();
+
+        scoreboard.updateScore(mexico, 1, 0);
+        scoreboard.finishGame(spain);
+        final SummaryDelta delta = scoreboard.getSummaryDelta(version);
+
+        assertFalse(delta.full());
+        assertEquals(version, delta.fromVersion());
+        assertEquals(scoreboard.getVersion(), delta.toVersion());
+        assertEquals(List.of(new RankedGame(0, scoreboard.getGame(mexico).orElseThrow())), delta.changed());
+        assertEquals(List.of(spain), delta.removed());
+        assertEquals(germany, scoreboard.getSummary().get(1).id());
+        assertTrue(scoreboard.getSummaryDelta(delta.toVersion()).isEmpty());
+    }
+
+    @Test
+    void shouldFallBackToFullSummaryWhenTooFarBehind() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        final long version = scoreboard.getVersion();
+        for (int i = 1; i <= 20; i++) {
+            scoreboard.updateScore(id, i, 0);
+        }
+
+        final SummaryDelta delta = scoreboard.getSummaryDelta(version);
+        assertTrue(delta.full());
+        assertEquals(List.of(new RankedGame(0, scoreboard.getGame(id).orElseThrow())), delta.changed());
+        assertTrue(scoreboard.getSummaryDelta(Long.MAX_VALUE).full());
+    }
+
+    @Test
+    void shouldReproduceSummaryWhenAppliedToClientCopy() throws Exception {
+        final Random random = new Random(7);
+        final List<UUID> live = new ArrayList<>();
+        int team = 0;
+        List<Game> client = new ArrayList<>(scoreboard.getSummary());
+        long clientVersion = scoreboard.getVersion();
+        for (int round = 0; round < 200; round++) {
+            final int operation = random.nextInt(4);
+            if (operation == 0 || live.isEmpty()) {
+                live.add(scoreboard.startGame("Home " + team, "Away " + team, LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(team)));
+                team++;
+            } else if (operation == 1) {
+                scoreboard.finishGame(live.remove(random.nextInt(live.size())));
+            } else if (operation == 2) {
+                final UUID id = live.get(random.nextInt(live.size()));
+                final Game game = scoreboard.getGame(id).orElseThrow();
+                scoreboard.updateScore(id, game.score().homeScore() + 1, game.score().awayScore());
+            } else {
+                final UUID id = live.get(random.nextInt(live.size()));
+                final Game game = scoreboard.getGame(id).orElseThrow();
+                final List<OperationResult> results = scoreboard.applyBatch(List.of(
+                        new UpdateScore(id, game.score().homeScore(), game.score().awayScore() + 1),
+                        new StartGame("Home " + team, "Away " + team),
+                        new FinishGame(UUID.randomUUID())));
+                live.add(results.get(1).gameId());
+                team++;
+            }
+            if (round % 3 == 0) {
+                final SummaryDelta delta = scoreboard.getSummaryDelta(clientVersion);
+                client = apply(client, delta);
+                clientVersion = delta.toVersion();
+                assertEquals(scoreboard.getSummary(), client);
+            }
+        }
+    }
+
+    private static List<Game> apply(final List<Game> summary, final SummaryDelta delta) {
+        final List<Game> result = new ArrayList<>();
+        if (!delta.full()) {
+            final Set<UUID> dropped = new HashSet<>(delta.removed());
+            delta.changed().forEach(ranked -> dropped.add(ranked.game().id()));
+            summary.stream().filter(game -> !dropped.contains(game.id())).forEach(result::add);
+        }
+        for (final RankedGame ranked : delta.changed()) {
+            result.add(ranked.position(), ranked.game());
+        }
+        return result;
+    }
+}
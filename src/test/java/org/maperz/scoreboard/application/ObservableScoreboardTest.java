@@ -0,0 +1,162 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.event.GameFinished;
+import org.maperz.scoreboard.domain.event.GameStarted;
+import org.maperz.scoreboard.domain.event.ScoreUpdated;
+import org.maperz.scoreboard.domain.event.ScoreboardEvent;
+import org.maperz.scoreboard.domain.event.SummaryRankChanged;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ObservableScoreboardTest {
+    private ObservableScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardFactory.createObservableScoreboard(ScoreboardFactory.createScoreboard());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreboard.close();
+    }
+
+    @Test
+    void shouldPublishEventsInMutationOrder() throws Exception {
+        final BlockingQueue<ScoreboardEvent> events = new LinkedBlockingQueue<>();
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        scoreboard.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+                subscribed.countDown();
+            }
+
+            @Override
+            public void onNext(final ScoreboardEvent item) {
+                events.add(item);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+
+        final UUID id1 = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+        final UUID id2 = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+        scoreboard.updateScore(id1, 1, 0);
+        scoreboard.finishGame(id2);
+
+        final GameStarted first = assertInstanceOf(GameStarted.class, events.poll(5, TimeUnit.SECONDS));
+        assertEquals(id1, first.game().id());
+        final GameStarted second = assertInstanceOf(GameStarted.class, events.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, second.rank());
+        final ScoreUpdated updated = assertInstanceOf(ScoreUpdated.class, events.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, updated.previousScore().getTotalScore());
+        final SummaryRankChanged moved = assertInstanceOf(SummaryRankChanged.class, events.poll(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 0), List.of(moved.previousRank(), moved.rank()));
+        final GameFinished finished = assertInstanceOf(GameFinished.class, events.poll(5, TimeUnit.SECONDS));
+        assertEquals(id2, finished.game().id());
+        assertEquals(scoreboard.getSnapshot().version(), finished.version());
+    }
+
+    @Test
+    void shouldDropEventsInsteadOfBlockingWhenSubscriberIsSlow() throws Exception {
+        scoreboard.close();
+        scoreboard = new ObservableScoreboard(ScoreboardFactory.createScoreboard(), Runnable::run, 1);
+        scoreboard.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+            }
+
+            @Override
+            public void onNext(final ScoreboardEvent item) {
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        for (int goals = 1; goals <= 10; goals++) {
+            scoreboard.updateScore(id, goals, 0);
+        }
+
+        assertTrue(scoreboard.getDroppedEvents() > 0);
+    }
+
+    @Test
+    void shouldRankGamesAfterDelegateWasMutatedDirectly() throws Exception {
+        scoreboard.close();
+        final Scoreboard delegate = ScoreboardFactory.createScoreboard();
+        scoreboard = ScoreboardFactory.createObservableScoreboard(delegate);
+        final BlockingQueue<ScoreboardEvent> events = subscribe();
+
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+        final UUID spain = delegate.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+        delegate.updateScore(spain, 2, 0);
+        scoreboard.updateScore(mexico, 3, 0);
+
+        assertEquals(0, assertInstanceOf(GameStarted.class, events.poll(5, TimeUnit.SECONDS)).rank());
+        assertInstanceOf(ScoreUpdated.class, events.poll(5, TimeUnit.SECONDS));
+        final SummaryRankChanged moved = assertInstanceOf(SummaryRankChanged.class, events.poll(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 0), List.of(moved.previousRank(), moved.rank()));
+
+        final UUID germany = scoreboard.startGame("Germany", "France", LocalDateTime.of(2024, 1, 1, 12, 0));
+        assertEquals(2, assertInstanceOf(GameStarted.class, events.poll(5, TimeUnit.SECONDS)).rank());
+        assertEquals(2, scoreboard.getSummary().indexOf(scoreboard.getGame(germany).orElseThrow()));
+    }
+
+    private BlockingQueue<ScoreboardEvent> subscribe() throws InterruptedException {
+        final BlockingQueue<ScoreboardEvent> events = new LinkedBlockingQueue<>();
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        scoreboard.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+                subscribed.countDown();
+            }
+
+            @Override
+            public void onNext(final ScoreboardEvent item) {
+                events.add(item);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+        return events;
+    }
+
+}
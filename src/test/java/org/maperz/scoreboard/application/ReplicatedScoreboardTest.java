@@ -0,0 +1,123 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+import org.maperz.scoreboard.infrastructure.replication.ReplicationFollower;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplicatedScoreboardTest {
+    private static final LocalDateTime KICK_OFF = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final InetSocketAddress LOCALHOST = new InetSocketAddress("127.0.0.1", 0);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (final AutoCloseable resource : resources.reversed()) {
+            resource.close();
+        }
+    }
+
+    @Test
+    void shouldStreamMutationsToFollowers() throws Exception {
+        final ReplicatedScoreboard primary = open(ScoreboardFactory.createConcurrentScoreboard(), 1024);
+        final UUID mexico = primary.startGame("Mexico", "Canada", KICK_OFF);
+        final ReplicationFollower first = follow(primary);
+        final ReplicationFollower second = follow(primary);
+
+        primary.updateScore(mexico, 0, 5);
+        final UUID spain = primary.startGame("Spain", "Brazil", KICK_OFF.plusMinutes(5));
+        primary.applyBatch(List.of(new UpdateScore(spain, 10, 2), new StartGame("Germany", "France", KICK_OFF.plusMinutes(10)),
+                new FinishGame(UUID.randomUUID())));
+        primary.finishGame(mexico);
+
+        for (final ReplicationFollower follower : List.of(first, second)) {
+            assertTrue(follower.awaitSequence(primary.getSequence(), TIMEOUT));
+            assertEquals(primary.getSummary(), follower.getScoreboard().getSummary());
+            assertEquals(0, follower.getLag());
+            assertEquals(0, follower.getLagNanos());
+            assertTrue(follower.isConnected());
+            assertEquals(1, follower.getSnapshotCount());
+        }
+        assertEquals(6, primary.getSequence());
+        assertEquals(2, primary.getFollowerCount());
+    }
+
+    @Test
+    void shouldCatchUpFromSnapshotWhenTooFarBehind() throws Exception {
+        final ReplicatedScoreboard primary = open(ScoreboardFactory.createConcurrentScoreboard(), 4);
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(primary.startGame("Home " + i, "Away " + i, KICK_OFF.plusMinutes(i)));
+        }
+        final Scoreboard replica = ScoreboardFactory.createConcurrentScoreboard();
+        final ReplicationFollower follower = follow(primary, replica);
+        assertTrue(follower.awaitSequence(primary.getSequence(), TIMEOUT));
+        follower.close();
+
+        primary.finishGame(ids.get(0));
+        primary.finishGame(ids.get(1));
+        primary.updateScore(ids.get(2), 3, 1);
+        for (int i = 10; i < 20; i++) {
+            primary.updateScore(ids.get(9), i, 0);
+        }
+        primary.startGame("Home 0", "Away 1", KICK_OFF.plusHours(1));
+        final long versionBefore = replica.getVersion();
+
+        final ReplicationFollower resumed = follow(primary, replica);
+        assertTrue(resumed.awaitSequence(primary.getSequence(), TIMEOUT));
+        assertEquals(primary.getSummary(), replica.getSummary());
+        assertEquals(1, resumed.getSnapshotCount());
+        assertTrue(replica.getVersion() > versionBefore);
+
+        primary.updateScore(ids.get(3), 1, 0);
+        assertTrue(resumed.awaitSequence(primary.getSequence(), TIMEOUT));
+        assertEquals(primary.getSummary(), replica.getSummary());
+    }
+
+    @Test
+    void shouldRejectStartTimesThatCannotBeReplicated() throws Exception {
+        final ReplicatedScoreboard primary = open(ScoreboardFactory.createConcurrentScoreboard(), 16);
+        final ReplicationFollower follower = follow(primary);
+
+        assertThrows(IllegalArgumentException.class, () -> primary.startGame("Mexico", "Canada", LocalDateTime.MAX));
+        assertThrows(IllegalArgumentException.class, () -> primary.applyBatch(List.of(new StartGame("Spain", "Brazil", LocalDateTime.MIN))));
+        assertEquals(0, primary.getSequence());
+        assertTrue(primary.getSummary().isEmpty());
+
+        primary.startGame("Mexico", "Canada", KICK_OFF);
+        assertTrue(follower.awaitSequence(primary.getSequence(), TIMEOUT));
+        assertEquals(primary.getSummary(), follower.getScoreboard().getSummary());
+    }
+
+    private ReplicatedScoreboard open(final Scoreboard delegate, final int backlogCapacity) throws Exception {
+        final ReplicatedScoreboard primary = new ReplicatedScoreboard(delegate, LOCALHOST, backlogCapacity);
+        resources.add(primary);
+        return primary;
+    }
+
+    private ReplicationFollower follow(final ReplicatedScoreboard primary) throws Exception {
+        return follow(primary, ScoreboardFactory.createConcurrentScoreboard());
+    }
+
+    private ReplicationFollower follow(final ReplicatedScoreboard primary, final Scoreboard replica) throws Exception {
+        final ReplicationFollower follower = ReplicationFollower.start(replica, primary.getAddress());
+        resources.add(follower);
+        return follower;
+    }
+}
@@ -6,14 +6,29 @@ import org.maperz.scoreboard.application.factory.ScoreboardFactory;
 import org.maperz.scoreboard.domain.exception.InvalidScoreException;
 import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
 import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
 import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+import org.maperz.scoreboard.domain.operation.OperationResult;
+import org.maperz.scoreboard.domain.operation.StartGame;
+import org.maperz.scoreboard.domain.operation.UpdateScore;
+import org.maperz.scoreboard.domain.team.TeamRegistry;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ScoreboardImplTest {
     private Scoreboard scoreboard;
@@ -268,4 +283,239 @@ public class ScoreboardImplTest {
         }
     }
 
+    @Test
+    void shouldReturnTopGamesAndSummaryPagesInSummaryOrder() throws Exception {
+        final List<String> teamNames = List.of("Mexico", "Canada", "Spain", "Brazil", "Germany", "France", "Uruguay", "Italy");
+        for (int i = 0; i < 4; i++) {
+            final UUID id = scoreboard.startGame(teamNames.get(2 * i), teamNames.get(2 * i + 1), LocalDateTime.of(2024, 1, 1, 10 + i, 0));
+            scoreboard.updateScore(id, i % 2, 1);
+        }
+
+        final List<Game> page = scoreboard.getSummary(1, 2);
+        final List<Game> summary = scoreboard.getSummary();
+        assertEquals(summary.subList(1, 3), page);
+        assertEquals(summary.subList(0, 2), scoreboard.getTopGames(2));
+        assertEquals(summary, scoreboard.getTopGames(10));
+        assertEquals(List.of(), scoreboard.getSummary(4, 2));
+        assertEquals(List.of(), scoreboard.getTopGames(0));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopGames(-1));
+    }
+
+    @Test
+    void shouldReportRejectedUpdatesAsStatus() throws Exception {
+        final UUID id = scoreboard.startGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        final long version = scoreboard.getSnapshot().version();
+
+        assertEquals(UpdateStatus.GAME_NOT_FOUND, scoreboard.tryUpdateScore(UUID.randomUUID(), 1, 0));
+        assertEquals(UpdateStatus.NEGATIVE_SCORE, scoreboard.tryUpdateScore(id, -1, 0));
+        assertEquals(UpdateStatus.UNCHANGED_SCORE, scoreboard.tryUpdateScore(id, 0, 0));
+        assertEquals(version, scoreboard.getSnapshot().version());
+
+        assertEquals(UpdateStatus.UPDATED, scoreboard.tryUpdateScore(id, 1, 0));
+        assertEquals(new Score(1, 0), scoreboard.getGame(id).orElseThrow().score());
+    }
+
+    @Test
+    void shouldRejectWithStacklessExceptions() throws Exception {
+        final UUID id = scoreboard.startGame(HOME_TEAM_NAME, AWAY_TEAM_NAME);
+        final UUID unknown = UUID.randomUUID();
+
+        final GameNotFoundException notFound = assertThrows(GameNotFoundException.class, () -> scoreboard.updateScore(unknown, 1, 0));
+        assertEquals("Match not found with id: " + unknown, notFound.getMessage());
+        assertEquals(unknown, notFound.getGameId());
+        assertEquals(0, notFound.getStackTrace().length);
+
+        final InvalidScoreException unchanged = assertThrows(InvalidScoreException.class, () -> scoreboard.updateScore(id, 0, 0));
+        assertEquals("Score must be different", unchanged.getMessage());
+        assertEquals(0, unchanged.getStackTrace().length);
+    }
+
+    @Test
+    void shouldGenerateIdsWithConfiguredStrategy() throws Exception {
+        final Scoreboard timeOrdered = ScoreboardFactory.createScoreboard(GameIdGenerators.timeOrdered());
+        final UUID first = timeOrdered.startGame("Mexico", "Canada");
+        final UUID second = timeOrdered.startGame("Spain", "Brazil");
+        assertEquals(7, first.version());
+        assertEquals(2, first.variant());
+        assertTrue(first.getMostSignificantBits() >>> 16 <= second.getMostSignificantBits() >>> 16);
+
+        final Scoreboard monotonic = ScoreboardFactory.createScoreboard(GameIdGenerators.monotonic(41));
+        assertEquals(new UUID(0, 41), monotonic.startGame("Mexico", "Canada"));
+        assertEquals(new UUID(0, 42), monotonic.startGame("Spain", "Brazil"));
+    }
+
+    @Test
+    void shouldReorderSummaryAfterScoreUpdateAndFinish() {
+        try {
+            final UUID id1 = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+            final UUID id2 = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+
+            assertEquals(List.of(id2, id1), scoreboard.getSummary().stream().map(Game::id).toList());
+
+            scoreboard.updateScore(id1, 1, 0);
+            assertEquals(List.of(id1, id2), scoreboard.getSummary().stream().map(Game::id).toList());
+
+            scoreboard.updateScore(id2, 1, 1);
+            assertEquals(List.of(id2, id1), scoreboard.getSummary().stream().map(Game::id).toList());
+
+            scoreboard.finishGame(id2);
+            assertEquals(List.of(id1), scoreboard.getSummary().stream().map(Game::id).toList());
+        } catch (InvalidTeamNameException | GameNotFoundException | InvalidScoreException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void shouldReportSameAndReversedTeamNameConflicts() {
+        generateGenericGameExceptionHandled();
+
+        final InvalidTeamNameException same = assertThrows(InvalidTeamNameException.class, () -> {
+            scoreboard.startGame("mexico", "USA");
+        });
+        assertEquals("Match already exists with the same team names", same.getMessage());
+
+        final InvalidTeamNameException reversed = assertThrows(InvalidTeamNameException.class, () -> {
+            scoreboard.startGame("USA", "MEXICO");
+        });
+        assertEquals("Match already exists with reversed team names", reversed.getMessage());
+    }
+
+    @Test
+    void shouldAllowTeamsToPlayAgainAfterGameIsFinished() {
+        final UUID id = generateGenericGameExceptionHandled();
+        finishGameExceptionHandled(id);
+
+        generateGenericGameExceptionHandled();
+
+        assertEquals(1, scoreboard.getGames().size());
+    }
+
+    @Test
+    void shouldBumpSnapshotVersionOnlyOnMutation() {
+        final ScoreboardSnapshot initial = scoreboard.getSnapshot();
+        final UUID id = generateGenericGameExceptionHandled();
+
+        final ScoreboardSnapshot started = scoreboard.getSnapshot();
+        assertEquals(initial.version() + 1, started.version());
+        assertSame(started, scoreboard.getSnapshot());
+
+        assertThrows(InvalidScoreException.class, () -> scoreboard.updateScore(id, 0, 0));
+        assertSame(started, scoreboard.getSnapshot());
+
+        updateScoreExceptionHandled(id, 1, 0);
+        assertEquals(started.version() + 1, scoreboard.getVersion());
+        assertEquals(scoreboard.getVersion(), scoreboard.getSnapshot().version());
+    }
+
+    @Test
+    void shouldPublishSnapshotOnEveryMutationInCopyOnWriteMode() {
+        scoreboard = ScoreboardFactory.createCopyOnWriteScoreboard();
+        final UUID id = generateGenericGameExceptionHandled();
+        updateScoreExceptionHandled(id, 2, 1);
+
+        final ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+        assertEquals(2, snapshot.version());
+        assertEquals(3, snapshot.summary().get(0).score().getTotalScore());
+        assertSame(snapshot.summary(), scoreboard.getSummary());
+    }
+
+    @Test
+    void shouldApplyBatchAsSingleMutationAndReportEveryOperation() {
+        final UUID id = generateGenericGameExceptionHandled();
+        final long version = scoreboard.getSnapshot().version();
+
+        final List<OperationResult> results = scoreboard.applyBatch(List.of(
+                new UpdateScore(id, 1, 0),
+                new UpdateScore(id, 1, 0),
+                new StartGame("Spain", "Brazil"),
+                new StartGame("Spain", "USA"),
+                new FinishGame(UUID.randomUUID())
+        ));
+
+        assertEquals(5, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertInstanceOf(InvalidScoreException.class, results.get(1).error());
+        assertTrue(results.get(2).isSuccess());
+        assertInstanceOf(InvalidTeamNameException.class, results.get(3).error());
+        assertInstanceOf(GameNotFoundException.class, results.get(4).error());
+        assertEquals(version + 1, scoreboard.getSnapshot().version());
+        assertEquals(id, scoreboard.getSummary().get(0).id());
+        assertEquals(results.get(2).gameId(), scoreboard.getSummary().get(1).id());
+    }
+
+    @Test
+    void shouldRestoreGamesAllOrNothing() {
+        final LocalDateTime startTime = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final Game restored = new Game(UUID.randomUUID(), new Team("Spain"), new Team("Brazil"), new Score(2, 2), startTime);
+        final Game conflicting = new Game(UUID.randomUUID(), new Team("Italy"), new Team("spain"), new Score(0, 1), startTime);
+
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.restoreGames(List.of(restored, conflicting)));
+        assertEquals(0, scoreboard.getGames().size());
+
+        try {
+            scoreboard.restoreGames(List.of(restored));
+        } catch (InvalidTeamNameException e) {
+            e.printStackTrace();
+        }
+        assertEquals(List.of(restored), scoreboard.getSummary());
+    }
+
+    @Test
+    void shouldNotRegisterTeamsOfRejectedGames() throws Exception {
+        final TeamRegistry teams = new TeamRegistry();
+        scoreboard = ScoreboardFactory.createScoreboard(GameIdGenerators.RANDOM, teams);
+        final LocalDateTime startTime = LocalDateTime.of(2024, 1, 1, 10, 0);
+        scoreboard.startGame("Mexico", "Canada", startTime);
+
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("Germany", "MEXICO", startTime));
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("Italy", "ITALY", startTime));
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.restoreGames(List.of(
+                new Game(UUID.randomUUID(), new Team("Uruguay"), new Team("canada"), new Score(0, 0), startTime))));
+
+        assertEquals(2, teams.size());
+        assertEquals(1, scoreboard.getGames().size());
+        scoreboard.startGame("Germany", "Italy", startTime);
+        assertEquals(4, teams.size());
+    }
+
+    @Test
+    void shouldFindGamesByTeamAndStartTime() throws Exception {
+        final LocalDateTime kickOff = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", kickOff);
+        final UUID spain = scoreboard.startGame("Spain", "Brazil", kickOff.plusMinutes(10));
+        final UUID germany = scoreboard.startGame("Germany", "France", kickOff.plusMinutes(10));
+        scoreboard.updateScore(spain, 1, 0);
+        scoreboard.finishGame(germany);
+
+        assertEquals(scoreboard.getGame(spain), scoreboard.findByTeam("BRAZIL"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("France"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("Italy"));
+        assertEquals(List.of(scoreboard.getGame(mexico).orElseThrow(), scoreboard.getGame(spain).orElseThrow()),
+                scoreboard.findStartedBetween(kickOff, kickOff.plusMinutes(15)));
+        assertEquals(List.of(scoreboard.getGame(spain).orElseThrow()), scoreboard.findStartedBetween(kickOff.plusMinutes(1), kickOff.plusHours(1)));
+        assertEquals(List.of(), scoreboard.findStartedBetween(kickOff.plusMinutes(10), kickOff));
+    }
+
+    @Test
+    void shouldFindGamesByTeamAndStartTimeInCopyOnWriteMode() throws Exception {
+        scoreboard = ScoreboardFactory.createCopyOnWriteScoreboard();
+        shouldFindGamesByTeamAndStartTime();
+    }
+
+    @Test
+    void shouldIndexManyGamesStartedAtTheSameTime() throws Exception {
+        final LocalDateTime kickOff = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(scoreboard.startGame("Home " + i, "Away " + i, kickOff));
+        }
+        for (int i = 0; i < ids.size(); i += 2) {
+            scoreboard.finishGame(ids.get(i));
+        }
+
+        final List<Game> started = scoreboard.findStartedBetween(kickOff, kickOff.plusSeconds(1));
+        assertEquals(500, started.size());
+        assertTrue(started.stream().allMatch(game -> ids.indexOf(game.id()) % 2 == 1));
+    }
 }
@@ -0,0 +1,90 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.model.IngestStatus;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.operation.FinishGame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SequencedScoreboardTest {
+    private SequencedScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardFactory.createSequencedScoreboard(ScoreboardFactory.createConcurrentScoreboard());
+    }
+
+    @Test
+    void shouldDropDuplicateAndStaleUpdates() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+
+        assertEquals(IngestStatus.APPLIED, scoreboard.ingestScore(id, 2, 1, 0));
+        assertEquals(IngestStatus.DUPLICATE, scoreboard.ingestScore(id, 2, 1, 0));
+        assertEquals(IngestStatus.STALE, scoreboard.ingestScore(id, 1, 0, 0));
+        assertEquals(IngestStatus.UNCHANGED, scoreboard.ingestScore(id, 3, 1, 0));
+        assertEquals(IngestStatus.NEGATIVE_SCORE, scoreboard.ingestScore(id, 4, -1, 0));
+        assertEquals(IngestStatus.APPLIED, scoreboard.ingestScore(id, 4, 2, 0));
+
+        assertEquals(new Score(2, 0), scoreboard.getGame(id).orElseThrow().score());
+        assertEquals(Optional.of(4L), scoreboard.getLastSequence(id));
+        assertEquals(2, scoreboard.getAppliedCount());
+        assertEquals(1, scoreboard.getDuplicateCount());
+        assertEquals(1, scoreboard.getReorderedCount());
+        assertEquals(2, scoreboard.getDroppedCount());
+    }
+
+    @Test
+    void shouldForgetSequencesOfFinishedGames() throws Exception {
+        final UUID first = scoreboard.startGame("Mexico", "Canada");
+        final UUID second = scoreboard.startGame("Spain", "Brazil");
+        scoreboard.ingestScore(first, 1, 1, 0);
+        scoreboard.ingestScore(second, 1, 1, 0);
+
+        scoreboard.finishGame(first);
+        scoreboard.applyBatch(List.of(new FinishGame(second)));
+
+        assertEquals(Optional.empty(), scoreboard.getLastSequence(first));
+        assertEquals(Optional.empty(), scoreboard.getLastSequence(second));
+        assertEquals(IngestStatus.GAME_NOT_FOUND, scoreboard.ingestScore(first, 2, 2, 0));
+    }
+
+    @Test
+    void shouldKeepNewestScoreWithRedundantConcurrentFeeds() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        final int updates = 10_000;
+        final int feeds = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(feeds);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int feed = 0; feed < feeds; feed++) {
+                final boolean reversed = feed % 2 == 1;
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= updates; i++) {
+                        final int sequence = reversed ? updates + 1 - i : i;
+                        scoreboard.ingestScore(id, sequence, sequence, 0);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(new Score(updates, 0), scoreboard.getGame(id).orElseThrow().score());
+        assertEquals(Optional.of((long) updates), scoreboard.getLastSequence(id));
+        assertEquals((long) feeds * updates, scoreboard.getAppliedCount() + scoreboard.getDroppedCount());
+    }
+}
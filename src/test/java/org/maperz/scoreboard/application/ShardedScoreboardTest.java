@@ -0,0 +1,180 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardedScoreboardTest {
+    private ShardedScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardFactory.createShardedScoreboard(4);
+    }
+
+    @Test
+    void shouldStartUpdateAndFinishGame() throws Exception {
+        final UUID id = scoreboard.startGame("World Cup", "Mexico", "Canada");
+
+        scoreboard.updateScore(id, 1, 0);
+        assertEquals(new Score(1, 0), scoreboard.getGame(id).orElseThrow().score());
+        assertEquals(1, scoreboard.getShardSummary(scoreboard.shardOf("World Cup")).size());
+
+        scoreboard.finishGame(id);
+        assertEquals(0, scoreboard.getGames().size());
+        assertThrows(GameNotFoundException.class, () -> scoreboard.updateScore(id, 2, 0));
+        assertThrows(GameNotFoundException.class, () -> scoreboard.finishGame(id));
+        scoreboard.startGame("Friendlies", "Canada", "Mexico");
+    }
+
+    @Test
+    void shouldRejectTeamsPlayingOnAnotherShard() throws Exception {
+        final String worldCup = "World Cup";
+        String friendlies = "Friendlies";
+        for (int i = 0; scoreboard.shardOf(friendlies) == scoreboard.shardOf(worldCup); i++) {
+            friendlies = "Friendlies " + i;
+        }
+        final String otherCompetition = friendlies;
+        scoreboard.startGame(worldCup, "Mexico", "Canada");
+
+        final InvalidTeamNameException same = assertThrows(InvalidTeamNameException.class,
+                () -> scoreboard.startGame(otherCompetition, "MEXICO", "USA"));
+        assertEquals("Match already exists with the same team names", same.getMessage());
+        final InvalidTeamNameException reversed = assertThrows(InvalidTeamNameException.class,
+                () -> scoreboard.startGame(otherCompetition, "Canada", "Mexico"));
+        assertEquals("Match already exists with reversed team names", reversed.getMessage());
+        assertEquals(1, scoreboard.getGames().size());
+    }
+
+    @Test
+    void shouldMergeShardSummariesInSummaryOrder() throws Exception {
+        final Scoreboard reference = ScoreboardFactory.createScoreboard();
+        for (int i = 0; i < 40; i++) {
+            final LocalDateTime startTime = LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(i);
+            final UUID id = scoreboard.startGame("Competition " + i % 7, "Home " + i, "Away " + i, startTime);
+            final UUID referenceId = reference.startGame("Home " + i, "Away " + i, startTime);
+            scoreboard.updateScore(id, i % 5 + 1, i % 3);
+            reference.updateScore(referenceId, i % 5 + 1, i % 3);
+        }
+
+        final List<String> expected = reference.getSummary().stream().map(game -> game.homeTeam().name()).toList();
+        assertEquals(expected.subList(35, 40), scoreboard.getSummary(35, 10).stream().map(game -> game.homeTeam().name()).toList());
+        assertEquals(expected, scoreboard.getSummary().stream().map(game -> game.homeTeam().name()).toList());
+        assertEquals(expected.subList(3, 8), scoreboard.getSummary(3, 5).stream().map(game -> game.homeTeam().name()).toList());
+        assertSame(scoreboard.getSnapshot(), scoreboard.getSnapshot());
+    }
+
+    @Test
+    void shouldRestoreGamesAllOrNothing() throws Exception {
+        scoreboard.startGame("Mexico", "Canada");
+        final Game spain = new Game(new Team("Spain"), new Team("Brazil"), LocalDateTime.of(2024, 1, 1, 10, 0));
+        final Game mexico = new Game(new Team("Germany"), new Team("Mexico"), LocalDateTime.of(2024, 1, 1, 11, 0));
+
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.restoreGames(List.of(spain, mexico)));
+        assertEquals(1, scoreboard.getGames().size());
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.restoreGames(List.of(spain, spain)));
+        assertEquals(1, scoreboard.getGames().size());
+
+        scoreboard.restoreGames(List.of(spain));
+        assertEquals(spain, scoreboard.getGame(spain.id()).orElseThrow());
+        assertNotEquals(0, scoreboard.getSnapshot().version());
+    }
+
+    @Test
+    void shouldRestoreGamesOnTheShardOfTheirCompetition() throws Exception {
+        final Map<String, String> competitions = Map.of("Mexico", "World Cup", "Spain", "Euro");
+        final Function<Game, String> competitionOf = game -> competitions.get(game.homeTeam().name());
+        final ShardedScoreboard original = ScoreboardFactory.createShardedScoreboard(4, competitionOf);
+        original.startGame("Mexico", "Canada");
+        original.startGame("Spain", "Brazil");
+
+        final ShardedScoreboard restored = ScoreboardFactory.createShardedScoreboard(4, competitionOf);
+        restored.restoreGames(original.getGames());
+        for (final String competition : competitions.values()) {
+            assertEquals(original.getShardSummary(original.shardOf(competition)), restored.getShardSummary(restored.shardOf(competition)));
+        }
+
+        final Game germany = new Game(new Team("Germany"), new Team("France"), LocalDateTime.of(2024, 1, 1, 10, 0));
+        restored.restoreGames("Friendlies", List.of(germany));
+        assertTrue(restored.getShardSummary(restored.shardOf("Friendlies")).contains(germany));
+    }
+
+    @Test
+    void shouldStartEachTeamOnlyOnceAcrossShardsWhenStartedConcurrently() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                tasks.add(() -> {
+                    int started = 0;
+                    for (int i = 0; i < 100; i++) {
+                        try {
+                            scoreboard.startGame("Competition " + offset, "Team " + ((i + offset) % 100), "Team " + ((i + offset + 50) % 100 + 100));
+                            started++;
+                        } catch (InvalidTeamNameException e) {
+                            // another thread won the race for one of the teams
+                        }
+                    }
+                    return started;
+                });
+            }
+            int started = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                started += result.get();
+            }
+
+            assertEquals(started, scoreboard.getGames().size());
+            final long distinctTeams = scoreboard.getGames().stream()
+                    .flatMap(game -> Stream.of(game.homeTeam().name(), game.awayTeam().name()))
+                    .distinct()
+                    .count();
+            assertEquals(2L * started, distinctTeams);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFindGamesByTeamAndStartTime() throws Exception {
+        final LocalDateTime kickOff = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", kickOff);
+        final UUID spain = scoreboard.startGame("Spain", "Brazil", kickOff.plusMinutes(10));
+        final UUID germany = scoreboard.startGame("Germany", "France", kickOff.plusMinutes(10));
+        scoreboard.updateScore(spain, 1, 0);
+        scoreboard.finishGame(germany);
+
+        assertEquals(scoreboard.getGame(spain), scoreboard.findByTeam("BRAZIL"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("France"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("Italy"));
+        assertEquals(List.of(scoreboard.getGame(mexico).orElseThrow(), scoreboard.getGame(spain).orElseThrow()),
+                scoreboard.findStartedBetween(kickOff, kickOff.plusMinutes(15)));
+        assertEquals(List.of(scoreboard.getGame(spain).orElseThrow()), scoreboard.findStartedBetween(kickOff.plusMinutes(1), kickOff.plusHours(1)));
+        assertEquals(List.of(), scoreboard.findStartedBetween(kickOff.plusMinutes(10), kickOff));
+    }
+}
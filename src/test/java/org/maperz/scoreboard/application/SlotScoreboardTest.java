@@ -0,0 +1,235 @@
+package org.maperz.scoreboard.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.exception.GameNotFoundException;
+import org.maperz.scoreboard.domain.exception.InvalidScoreException;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+import org.maperz.scoreboard.domain.model.UpdateStatus;
+import org.maperz.scoreboard.domain.team.TeamRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SlotScoreboardTest {
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = ScoreboardFactory.createSlotScoreboard();
+    }
+
+    @Test
+    void shouldStartUpdateAndFinishGame() throws Exception {
+        final LocalDateTime startTime = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_456_789);
+        final UUID id = scoreboard.startGame("Mexico", "Canada", startTime);
+
+        scoreboard.updateScore(id, 1, 0);
+        assertEquals(new Game(id, new Team("Mexico"), new Team("Canada"), new Score(1, 0), startTime), scoreboard.getGame(id).orElseThrow());
+        assertThrows(InvalidScoreException.class, () -> scoreboard.updateScore(id, 1, 0));
+        assertThrows(InvalidScoreException.class, () -> scoreboard.updateScore(id, -1, 0));
+
+        scoreboard.finishGame(id);
+        assertEquals(0, scoreboard.getGames().size());
+        assertThrows(GameNotFoundException.class, () -> scoreboard.updateScore(id, 2, 0));
+        assertThrows(GameNotFoundException.class, () -> scoreboard.finishGame(id));
+    }
+
+    @Test
+    void shouldRejectDuplicateAndReversedTeamNames() throws Exception {
+        scoreboard.startGame("Mexico", "Canada");
+
+        final InvalidTeamNameException same = assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("MEXICO", "USA"));
+        assertEquals("Match already exists with the same team names", same.getMessage());
+        final InvalidTeamNameException reversed = assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("Canada", "Mexico"));
+        assertEquals("Match already exists with reversed team names", reversed.getMessage());
+    }
+
+    @Test
+    void shouldInternTeamsInSharedRegistry() throws Exception {
+        final TeamRegistry teams = new TeamRegistry();
+        final Scoreboard first = ScoreboardFactory.createSlotScoreboard(GameIdGenerators.RANDOM, teams);
+        final Scoreboard second = ScoreboardFactory.createScoreboard(GameIdGenerators.RANDOM, teams);
+
+        final UUID firstId = first.startGame("Mexico", "Canada");
+        final UUID secondId = second.startGame("Mexico", "CANADA");
+
+        assertSame(first.getGame(firstId).orElseThrow().homeTeam(), second.getGame(secondId).orElseThrow().homeTeam());
+        assertNotSame(first.getGame(firstId).orElseThrow().awayTeam(), second.getGame(secondId).orElseThrow().awayTeam());
+        assertEquals(teams.register("canada").id(), teams.register("Canada").id());
+        assertEquals(2, teams.size());
+    }
+
+    @Test
+    void shouldLeaveNoTraceOfRejectedStarts() throws Exception {
+        final TeamRegistry teams = new TeamRegistry();
+        scoreboard = ScoreboardFactory.createSlotScoreboard(GameIdGenerators.RANDOM, teams);
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2300, 1, 1, 10, 0)));
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("Germany", "MEXICO"));
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("Italy", "ITALY"));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.restoreGames(List.of(
+                new Game(UUID.randomUUID(), new Team("Uruguay"), new Team("Chile"), new Score(0, 0), LocalDateTime.of(1500, 1, 1, 10, 0)))));
+
+        assertEquals(2, teams.size());
+        assertEquals(List.of(scoreboard.getGame(mexico).orElseThrow()), scoreboard.getGames());
+        assertEquals(Optional.empty(), scoreboard.findByTeam("Spain"));
+        assertEquals(List.of(), scoreboard.findStartedBetween(LocalDateTime.of(1970, 1, 1, 0, 0), LocalDateTime.of(1970, 1, 2, 0, 0)));
+        final UUID spain = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+        assertEquals(2, scoreboard.getGames().size());
+        assertEquals(scoreboard.getGame(spain), scoreboard.findByTeam("brazil"));
+    }
+
+    @Test
+    void shouldTrackManyTeamsById() throws Exception {
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(scoreboard.startGame("Home " + i, "Away " + i));
+        }
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.startGame("away 499", "home 0"));
+        for (final UUID id : ids) {
+            scoreboard.finishGame(id);
+        }
+        final UUID id = scoreboard.startGame("Away 499", "Home 0");
+
+        assertEquals(List.of(scoreboard.getGame(id).orElseThrow()), scoreboard.getSummary());
+    }
+
+    @Test
+    void shouldReturnSummaryInOrderAndReuseSlots() throws Exception {
+        final UUID id1 = scoreboard.startGame("Mexico", "Canada", LocalDateTime.of(2024, 1, 1, 10, 0));
+        final UUID id2 = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 11, 0));
+        final UUID id3 = scoreboard.startGame("Germany", "France", LocalDateTime.of(2024, 1, 1, 12, 0));
+        scoreboard.updateScore(id1, 3, 0);
+        scoreboard.updateScore(id2, 1, 2);
+        assertEquals(List.of(id2, id1, id3), scoreboard.getSummary().stream().map(Game::id).toList());
+
+        scoreboard.finishGame(id2);
+        final UUID id4 = scoreboard.startGame("Spain", "Brazil", LocalDateTime.of(2024, 1, 1, 13, 0));
+        assertEquals(List.of(id1, id4, id3), scoreboard.getSummary().stream().map(Game::id).toList());
+        assertEquals(new Score(0, 0), scoreboard.getGame(id4).orElseThrow().score());
+    }
+
+    @Test
+    void shouldOnlyMaterializeChangedGames() throws Exception {
+        final UUID id1 = scoreboard.startGame("Mexico", "Canada");
+        final UUID id2 = scoreboard.startGame("Spain", "Brazil");
+        final Game first = scoreboard.getGame(id1).orElseThrow();
+        final Game second = scoreboard.getGame(id2).orElseThrow();
+
+        scoreboard.updateScore(id2, 1, 0);
+
+        assertSame(first, scoreboard.getGame(id1).orElseThrow());
+        assertNotSame(second, scoreboard.getGame(id2).orElseThrow());
+    }
+
+    @Test
+    void shouldRestoreGamesAllOrNothing() throws Exception {
+        scoreboard.startGame("Mexico", "Canada");
+        final Game spain = new Game(new Team("Spain"), new Team("Brazil"), LocalDateTime.of(2024, 1, 1, 10, 0));
+        final Game mexico = new Game(new Team("Germany"), new Team("Mexico"), LocalDateTime.of(2024, 1, 1, 11, 0));
+
+        assertThrows(InvalidTeamNameException.class, () -> scoreboard.restoreGames(List.of(spain, mexico)));
+        assertEquals(1, scoreboard.getGames().size());
+
+        scoreboard.restoreGames(List.of(spain));
+        assertEquals(spain, scoreboard.getGame(spain.id()).orElseThrow());
+    }
+
+    @Test
+    void shouldMapMonotonicIdsThroughManyStartsAndFinishes() throws Exception {
+        scoreboard = ScoreboardFactory.createSlotScoreboard(GameIdGenerators.monotonic(1));
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(scoreboard.startGame("Home " + i, "Away " + i));
+        }
+        assertEquals(new UUID(0, 1), ids.get(0));
+        assertEquals(new UUID(0, 1000), ids.get(999));
+
+        for (int i = 0; i < 1000; i += 2) {
+            scoreboard.finishGame(ids.get(i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, scoreboard.getGame(ids.get(i)).isPresent());
+        }
+        for (int i = 1; i < 1000; i += 2) {
+            scoreboard.updateScore(ids.get(i), i, 0);
+            assertEquals(i, scoreboard.getGame(ids.get(i)).orElseThrow().score().homeScore());
+        }
+        assertEquals(500, scoreboard.getGames().size());
+    }
+
+    @Test
+    void shouldUpdateScoresWithoutAllocating() throws Exception {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        final int updates = 100_000;
+        for (int i = 1; i <= updates; i++) {
+            scoreboard.updateScore(id, i, 0);
+        }
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 1; i <= updates; i++) {
+            scoreboard.updateScore(id, i, 1);
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < updates, "Allocated " + allocated + " bytes for " + updates + " updates");
+    }
+
+    @Test
+    void shouldRejectRedundantUpdatesWithoutAllocating() throws Exception {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final UUID id = scoreboard.startGame("Mexico", "Canada");
+        final UUID unknown = UUID.randomUUID();
+        scoreboard.updateScore(id, 1, 0);
+        final int updates = 100_000;
+        for (int i = 0; i < updates; i++) {
+            scoreboard.tryUpdateScore(id, 1, 0);
+            scoreboard.tryUpdateScore(unknown, 1, 0);
+        }
+
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < updates; i++) {
+            assertSame(UpdateStatus.UNCHANGED_SCORE, scoreboard.tryUpdateScore(id, 1, 0));
+            assertSame(UpdateStatus.GAME_NOT_FOUND, scoreboard.tryUpdateScore(unknown, 1, 0));
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < updates, "Allocated " + allocated + " bytes for " + updates + " rejected updates");
+    }
+
+    @Test
+    void shouldFindGamesByTeamAndStartTime() throws Exception {
+        final LocalDateTime kickOff = LocalDateTime.of(2024, 1, 1, 10, 0);
+        final UUID mexico = scoreboard.startGame("Mexico", "Canada", kickOff);
+        final UUID spain = scoreboard.startGame("Spain", "Brazil", kickOff.plusMinutes(10));
+        final UUID germany = scoreboard.startGame("Germany", "France", kickOff.plusMinutes(10));
+        scoreboard.updateScore(spain, 1, 0);
+        scoreboard.finishGame(germany);
+
+        assertEquals(scoreboard.getGame(spain), scoreboard.findByTeam("BRAZIL"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("France"));
+        assertEquals(Optional.empty(), scoreboard.findByTeam("Italy"));
+        assertEquals(List.of(scoreboard.getGame(mexico).orElseThrow(), scoreboard.getGame(spain).orElseThrow()),
+                scoreboard.findStartedBetween(kickOff, kickOff.plusMinutes(15)));
+        assertEquals(List.of(scoreboard.getGame(spain).orElseThrow()), scoreboard.findStartedBetween(kickOff.plusMinutes(1), kickOff.plusHours(1)));
+        assertEquals(List.of(), scoreboard.findStartedBetween(kickOff.plusMinutes(10), kickOff));
+    }
+}
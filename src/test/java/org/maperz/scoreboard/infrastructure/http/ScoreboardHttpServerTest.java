@@ -0,0 +1,191 @@
+package org.maperz.scoreboard.infrastructure.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.ScoreboardSnapshot;
+import org.maperz.scoreboard.domain.model.Team;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScoreboardHttpServerTest {
+    private static final LocalDateTime KICK_OFF = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Scoreboard scoreboard;
+    private ScoreboardHttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        scoreboard = ScoreboardFactory.createConcurrentScoreboard();
+        server = ScoreboardHttpServer.start(scoreboard, new InetSocketAddress("127.0.0.1", 0), Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        client.close();
+    }
+
+    @Test
+    void shouldServeSummaryWithEntityTag() throws Exception {
+        final UUID id = scoreboard.startGame("Mexico", "Canada \"CA\"", KICK_OFF);
+        scoreboard.updateScore(id, 0, 5);
+
+        final HttpResponse<String> summary = get(ScoreboardHttpServer.SUMMARY_PATH, null);
+        assertEquals(200, summary.statusCode());
+        assertEquals("application/json", summary.headers().firstValue("Content-Type").orElseThrow());
+        assertEquals("{\"version\":" + scoreboard.getVersion() + ",\"games\":[{\"id\":\"" + id
+                + "\",\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada \\\"CA\\\"\",\"homeScore\":0,\"awayScore\":5,"
+                + "\"startTime\":\"2024-01-01T10:00\"}]}", summary.body());
+
+        final String etag = summary.headers().firstValue("ETag").orElseThrow();
+        final HttpResponse<String> notModified = get(ScoreboardHttpServer.SUMMARY_PATH, etag);
+        assertEquals(304, notModified.statusCode());
+        assertEquals("", notModified.body());
+        assertEquals(304, get(ScoreboardHttpServer.SUMMARY_PATH, "\"stale\", W/" + etag).statusCode());
+        assertEquals(304, get(ScoreboardHttpServer.SUMMARY_PATH, "*").statusCode());
+
+        scoreboard.finishGame(id);
+        final HttpResponse<String> modified = get(ScoreboardHttpServer.SUMMARY_PATH, etag);
+        assertEquals(200, modified.statusCode());
+        assertNotEquals(etag, modified.headers().firstValue("ETag").orElseThrow());
+        assertTrue(modified.body().endsWith("\"games\":[]}"));
+    }
+
+    @Test
+    void shouldRejectOtherMethodsAndPaths() throws Exception {
+        final HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri(ScoreboardHttpServer.SUMMARY_PATH))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, post.statusCode());
+        assertEquals("GET", post.headers().firstValue("Allow").orElseThrow());
+        assertEquals(404, get("/summary/unknown", null).statusCode());
+    }
+
+    @Test
+    void shouldStreamSummaryEvents() throws Exception {
+        final HttpResponse<InputStream> events = client.send(HttpRequest.newBuilder(uri(ScoreboardHttpServer.EVENTS_PATH)).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, events.statusCode());
+        assertEquals("text/event-stream", events.headers().firstValue("Content-Type").orElseThrow());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(events.body(), StandardCharsets.UTF_8))) {
+            final List<String> first = readEvent(reader);
+            assertEquals(List.of("id: 0", "event: summary", "data: {\"version\":0,\"games\":[]}"), first);
+
+            scoreboard.startGame("Spain", "Brazil", KICK_OFF);
+            final List<String> next = readEvent(reader);
+            assertEquals("id: 1", next.get(0));
+            assertTrue(next.get(2).contains("\"homeTeam\":\"Spain\""));
+        }
+    }
+
+    @Test
+    void shouldFollowCopyOnWriteScoreboardMutatedOnAnotherThread() throws Exception {
+        final Scoreboard copyOnWrite = ScoreboardFactory.createCopyOnWriteScoreboard();
+        final ExecutorService writer = Executors.newSingleThreadExecutor();
+        try (ScoreboardHttpServer cowServer = ScoreboardHttpServer.start(copyOnWrite,
+                new InetSocketAddress("127.0.0.1", 0), Duration.ofMillis(10))) {
+            final String base = "http://127.0.0.1:" + cowServer.getAddress().getPort();
+            final HttpResponse<InputStream> events = client.send(HttpRequest.newBuilder(URI.create(base + ScoreboardHttpServer.EVENTS_PATH)).build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(events.body(), StandardCharsets.UTF_8))) {
+                assertEquals("id: 0", readEvent(reader).get(0));
+
+                writer.submit(() -> {
+                    final UUID id = copyOnWrite.startGame("Spain", "Brazil", KICK_OFF);
+                    for (int i = 1; i <= 100; i++) {
+                        copyOnWrite.updateScore(id, i, 0);
+                    }
+                    return null;
+                }).get();
+
+                List<String> event;
+                do {
+                    event = readEvent(reader);
+                    final String version = event.get(0).substring("id: ".length());
+                    assertTrue(event.get(2).startsWith("data: {\"version\":" + version + ","));
+                } while (!event.get(0).equals("id: 101"));
+                assertTrue(event.get(2).contains("\"homeScore\":100"));
+            }
+
+            final HttpResponse<String> summary = client.send(HttpRequest.newBuilder(URI.create(base + ScoreboardHttpServer.SUMMARY_PATH)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertTrue(summary.body().startsWith("{\"version\":101,"));
+            assertTrue(summary.headers().firstValue("ETag").orElseThrow().endsWith("-101\""));
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void shouldEvaluateIfNoneMatchAsPerRfc9110() {
+        final String etag = "\"abc-7\"";
+        assertFalse(ScoreboardHttpServer.noneMatchFails(null, etag));
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("\"abc-7\""), etag));
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("W/\"abc-7\""), etag));
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("\"abc-6\" ,\t\"abc-7\""), etag));
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("\"abc-6\"", "\"abc-7\""), etag));
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("*"), etag));
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("\"a,b\", \"abc-7\""), etag));
+        assertFalse(ScoreboardHttpServer.noneMatchFails(List.of("\"abc-70\", \"abc-\""), etag));
+        assertFalse(ScoreboardHttpServer.noneMatchFails(List.of("abc-7"), etag));
+        assertFalse(ScoreboardHttpServer.noneMatchFails(List.of("\"abc-7"), etag));
+    }
+
+    @Test
+    void shouldEncodeSummaryAsJson() {
+        final UUID id = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        final Game game = new Game(id, new Team("Back\\slash"), new Team("Line\nBreak\u2028"), new Score(2, 1), KICK_OFF);
+        final ScoreboardSnapshot snapshot = new ScoreboardSnapshot(3, List.of(game), List.of(game));
+
+        assertEquals("{\"version\":3,\"games\":[{\"id\":\"" + id + "\",\"homeTeam\":\"Back\\\\slash\","
+                + "\"awayTeam\":\"Line\\u000aBreak\\u2028\",\"homeScore\":2,\"awayScore\":1,\"startTime\":\"2024-01-01T10:00\"}]}",
+                new String(SummaryJson.encode(snapshot), StandardCharsets.UTF_8));
+        assertEquals("{\"version\":0,\"games\":[]}", new String(SummaryJson.encode(ScoreboardSnapshot.EMPTY), StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<String> get(final String path, final String ifNoneMatch) throws Exception {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri(path));
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+
+    private static List<String> readEvent(final BufferedReader reader) throws Exception {
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            lines.add(line);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,96 @@
+package org.maperz.scoreboard.infrastructure.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.maperz.scoreboard.application.Scoreboard;
+import org.maperz.scoreboard.application.factory.ScoreboardFactory;
+import org.maperz.scoreboard.domain.exception.InvalidTeamNameException;
+import org.maperz.scoreboard.domain.id.GameIdGenerators;
+import org.maperz.scoreboard.domain.model.Game;
+import org.maperz.scoreboard.domain.model.Score;
+import org.maperz.scoreboard.domain.model.Team;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldImportCsvWithHeaderAndOptionalIds() throws Exception {
+        final UUID id = UUID.randomUUID();
+        final Path file = directory.resolve("fixtures.csv");
+        Files.writeString(file, "homeTeam,awayTeam,homeScore,awayScore,startTime,id\r\n"
+                + "Mexico,Canada,0,5,2024-01-01T10:00\r\n"
+                + "\r\n"
+                + "Spain,Brazil,10,2,2024-01-01T11:00," + id + "\r\n");
+        final Scoreboard scoreboard = ScoreboardFactory.createScoreboard();
+
+        assertEquals(2, GameFile.importGames(scoreboard, file, GameIdGenerators.RANDOM));
+
+        final List<Game> summary = scoreboard.getSummary();
+        assertEquals(new Game(id, new Team("Spain"), new Team("Brazil"), new Score(10, 2), LocalDateTime.of(2024, 1, 1, 11, 0)), summary.get(0));
+        assertEquals(new Team("Mexico"), summary.get(1).homeTeam());
+        assertEquals(new Score(0, 5), summary.get(1).score());
+    }
+
+    @Test
+    void shouldReadLargeFilesInFileOrderAndRoundTripThroughBinary() throws Exception {
+        final int count = 50_000;
+        final StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            csv.append("Home ").append(i).append(",Away ").append(i % 1000).append(',')
+                    .append(i % 7).append(',').append(i % 5).append(",2024-01-01T00:00:").append(String.format("%02d", i % 60)).append('\n');
+        }
+        final Path csvFile = directory.resolve("games.csv");
+        Files.writeString(csvFile, csv);
+
+        final List<Game> games = GameFile.read(csvFile, GameIdGenerators.monotonic());
+        assertEquals(count, games.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("Home " + i, games.get(i).homeTeam().name());
+        }
+
+        final Path binaryFile = directory.resolve("games.bin");
+        GameFile.writeBinary(binaryFile, games);
+        final List<Game> decoded = GameFile.read(binaryFile, GameIdGenerators.RANDOM);
+        assertEquals(games, decoded);
+        assertSame(decoded.get(0).awayTeam(), decoded.get(1000).awayTeam());
+    }
+
+    @Test
+    void shouldReportInvalidGamesWithoutInstallingAny() throws Exception {
+        final Path file = directory.resolve("invalid.csv");
+        Files.writeString(file, "Mexico,Canada,0,0,2024-01-01T10:00\nSpain,Brazil,-1,0,2024-01-01T11:00\n");
+        final Scoreboard scoreboard = ScoreboardFactory.createSlotScoreboard();
+
+        final IOException malformed = assertThrows(IOException.class, () -> GameFile.importGames(scoreboard, file, GameIdGenerators.RANDOM));
+        assertTrue(malformed.getMessage().startsWith("Invalid game at byte 35"), malformed.getMessage());
+
+        Files.writeString(file, "Mexico,Canada,0,0,2024-01-01T10:00\nSpain,MEXICO,1,0,2024-01-01T11:00\n");
+        assertThrows(InvalidTeamNameException.class, () -> GameFile.importGames(scoreboard, file, GameIdGenerators.RANDOM));
+        assertEquals(List.of(), scoreboard.getGames());
+    }
+
+    @Test
+    void shouldRejectCorruptedBinaryFiles() throws Exception {
+        final Path file = directory.resolve("games.bin");
+        GameFile.writeBinary(file, List.of(new Game(new Team("Mexico"), new Team("Canada"), LocalDateTime.of(2024, 1, 1, 10, 0))));
+        final byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> GameFile.readBinary(file));
+    }
+}